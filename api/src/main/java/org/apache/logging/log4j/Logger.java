@@ -17,6 +17,8 @@
 package org.apache.logging.log4j;
 
 import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.MessageSupplier;
+import org.apache.logging.log4j.util.Supplier;
 
 /**
  * This is the central interface in the log4j package. Most logging
@@ -189,387 +191,1400 @@ public interface Logger {
   void trace(Marker marker, String message, Object... params);
 
   /**
-   * Check whether this Logger is enabled for the TRACE  Level.
-   *
-   * @return boolean - <code>true</code> if this Logger is enabled for level
-   *         TRACE, <code>false</code> otherwise.
-   */
-  boolean isTraceEnabled();
-
-  /**
-   * Check whether this Logger is enabled for the TRACE  Level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
-   * @param marker The marker data specific to this log statement.
-   * @return boolean - <code>true</code> if this Logger is enabled for level
-   *         TRACE, <code>false</code> otherwise.
+   * @param message the message to log.
+   * @param p1 the first parameter.
    */
-  boolean isTraceEnabled(Marker marker);
+  void trace(String message, Object p1);
 
   /**
-   * Log a message with the specific Marker at the TRACE level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
-   * @param msg the message string to be logged
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
    */
-  void trace(Message msg);
+  void trace(String message, Object p1, Object p2);
 
   /**
-   * Log a message with the specific Marker at the TRACE level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
-   * @param msg the message string to be logged
-   * @param t   A Throwable or null.
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
    */
-  void trace(Message msg, Throwable t);
+  void trace(String message, Object p1, Object p2, Object p3);
 
   /**
-   * Log a message with the specific Marker at the TRACE level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
-   * @param marker the marker data specific to this log statement
-   * @param msg    the message string to be logged
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
    */
-  void trace(Marker marker, Message msg);
+  void trace(String message, Object p1, Object p2, Object p3, Object p4);
 
   /**
-   * Log a message with the specific Marker at the TRACE level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
-   * @param marker the marker data specific to this log statement
-   * @param msg    the message string to be logged
-   * @param t      A Throwable or null.
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
    */
-  void trace(Marker marker, Message msg, Throwable t);
+  void trace(String message, Object p1, Object p2, Object p3, Object p4, Object p5);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#DEBUG DEBUG} level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
-   * @param message the message object to log.
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
    */
-  void debug(String message);
+  void trace(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#DEBUG DEBUG} level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
-   * @param marker the marker data specific to this log statement
-   * @param message the message object to log.
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
    */
-  void debug(Marker marker, String message);
+  void trace(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
 
   /**
-   * Log a message at the <code>DEBUG</code> level including the
-   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
    * @param message the message to log.
-   * @param t       the exception to log, including its stack trace.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
    */
-  void debug(String message, Throwable t);
+  void trace(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8);
 
   /**
-   * Log a message at the <code>DEBUG</code> level including the
-   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
-   * @param marker the marker data specific to this log statement
    * @param message the message to log.
-   * @param t       the exception to log, including its stack trace.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
    */
-  void debug(Marker marker, String message, Throwable t);
+  void trace(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8,
+             Object p9);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#DEBUG DEBUG} level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
-   * @param message the message object to log.
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   * @param p10 the tenth parameter.
    */
-  void debug(Object message);
+  void trace(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8,
+             Object p9, Object p10);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#DEBUG DEBUG} level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
    * @param marker the marker data specific to this log statement
-   * @param message the message object to log.
-   */
-  void debug(Marker marker, Object message);
-
-  /**
-   * Log a message at the <code>DEBUG</code> level including the
-   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
-   *
    * @param message the message to log.
-   * @param t       the exception to log, including its stack trace.
+   * @param p1 the first parameter.
    */
-  void debug(Object message, Throwable t);
+  void trace(Marker marker, String message, Object p1);
 
   /**
-   * Log a message at the <code>DEBUG</code> level including the
-   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
    * @param marker the marker data specific to this log statement
    * @param message the message to log.
-   * @param t       the exception to log, including its stack trace.
-   */
-  void debug(Marker marker, Object message, Throwable t);
-
-  /**
-   * Log a message with parameters at the <code>DEBUG</code> level.
-   * @param message the message to log.
-   * @param params parameters to the message.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
    */
-  void debug(String message, Object... params);
+  void trace(Marker marker, String message, Object p1, Object p2);
 
   /**
-   * Log a message with parameters at the <code>DEBUG</code> level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
    * @param marker the marker data specific to this log statement
    * @param message the message to log.
-   * @param params parameters to the message.
-   */
-  void debug(Marker marker, String message, Object... params);
-
-  /**
-   * Check whether this Logger is enabled for the DEBUG Level.
-   *
-   * @return boolean - <code>true</code> if this Logger is enabled for level
-   *         DEBUG, <code>false</code> otherwise.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
    */
-  boolean isDebugEnabled();
+  void trace(Marker marker, String message, Object p1, Object p2, Object p3);
 
   /**
-   * Check whether this Logger is enabled for the DEBUG Level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
-   * @param marker The marker data specific to this log statement.
-   * @return boolean - <code>true</code> if this Logger is enabled for level
-   *         DEBUG, <code>false</code> otherwise.
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
    */
-  boolean isDebugEnabled(Marker marker);
+  void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4);
 
   /**
-   * Log a message with the specific Marker at the DEBUG level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
-   * @param msg the message string to be logged
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
    */
-  void debug(Message msg);
+  void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5);
 
   /**
-   * Log a message with the specific Marker at the DEBUG level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
-   * @param msg the message string to be logged
-   * @param t   A Throwable or null.
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
    */
-  void debug(Message msg, Throwable t);
+  void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
 
   /**
-   * Log a message with the specific Marker at the DEBUG level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
    * @param marker the marker data specific to this log statement
-   * @param msg    the message string to be logged
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
    */
-  void debug(Marker marker, Message msg);
+  void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7);
 
   /**
-   * Log a message with the specific Marker at the DEBUG level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
    * @param marker the marker data specific to this log statement
-   * @param msg    the message string to be logged
-   * @param t      A Throwable or null.
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
    */
-  void debug(Marker marker, Message msg, Throwable t);
+  void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7, Object p8);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#INFO INFO} level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
-   * @param message the message object to log.
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
    */
-  void info(String message);
+  void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7, Object p8, Object p9);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#INFO INFO} level.
+   * Log a message with parameters at the <code>TRACE</code> level.
    *
    * @param marker the marker data specific to this log statement
-   * @param message the message object to log.
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   * @param p10 the tenth parameter.
    */
-  void info(Marker marker, String message);
+  void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7, Object p8, Object p9, Object p10);
 
   /**
-   * Log a message at the <code>INFO</code> level including the
-   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @param message the message object to log.
-   * @param t       the exception to log, including its stack trace.
+   * @param msgSupplier the supplier of the Message to log.
    */
-  void info(String message, Throwable t);
+  void trace(MessageSupplier msgSupplier);
 
   /**
-   * Log a message at the <code>INFO</code> level including the
-   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @param marker the marker data specific to this log statement
-   * @param message the message object to log.
-   * @param t       the exception to log, including its stack trace.
+   * @param msgSupplier the supplier of the Message to log.
+   * @param t the exception to log, including its stack trace.
    */
-  void info(Marker marker, String message, Throwable t);
+  void trace(MessageSupplier msgSupplier, Throwable t);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#INFO INFO} level.
+   * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @param message the message object to log.
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the Message to log.
    */
-  void info(Object message);
+  void trace(Marker marker, MessageSupplier msgSupplier);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#INFO INFO} level.
+   * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
    * @param marker the marker data specific to this log statement
-   * @param message the message object to log.
+   * @param msgSupplier the supplier of the Message to log.
+   * @param t the exception to log, including its stack trace.
    */
-  void info(Marker marker, Object message);
+  void trace(Marker marker, MessageSupplier msgSupplier, Throwable t);
 
   /**
-   * Log a message at the <code>INFO</code> level including the
-   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @param message the message object to log.
-   * @param t       the exception to log, including its stack trace.
+   * @param msgSupplier the supplier of the message to log.
    */
-  void info(Object message, Throwable t);
+  void trace(Supplier<?> msgSupplier);
 
   /**
-   * Log a message at the <code>INFO</code> level including the
-   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @param marker the marker data specific to this log statement
-   * @param message the message object to log.
-   * @param t       the exception to log, including its stack trace.
+   * @param msgSupplier the supplier of the message to log.
+   * @param t the exception to log, including its stack trace.
    */
-  void info(Marker marker, Object message, Throwable t);
+  void trace(Supplier<?> msgSupplier, Throwable t);
 
   /**
-   * Log a message with parameters at the <code>INFO</code> level.
-   *
-   * @param message the message to log.
-   * @param params parameters to the message.
+   * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @doubt Likely to misinterpret existing log4j client code that intended to call
-   * info(Object,Throwable). Incurs array creation expense on every call. (RG) It isn't
-   * possible to be misinterpreted as the previous method is for that signature. Methods
-   * should be added to avoid varargs for 1, 2 or 3 parameters.
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the message to log.
    */
-  void info(String message, Object... params);
+  void trace(Marker marker, Supplier<?> msgSupplier);
 
   /**
-   * Log a message with parameters at the <code>INFO</code> level.
+   * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
    * @param marker the marker data specific to this log statement
-   * @param message the message to log.
-   * @param params parameters to the message.
-   *
-   * @doubt Likely to misinterpret existing log4j client code that intended to call
-   * info(Object,Throwable). Incurs array creation expense on every call. (RG) It isn't
-   * possible to be misinterpreted as the previous method is for that signature. Methods
-   * should be added to avoid varargs for 1, 2 or 3 parameters.
+   * @param msgSupplier the supplier of the message to log.
+   * @param t the exception to log, including its stack trace.
    */
-  void info(Marker marker, String message, Object... params);
+  void trace(Marker marker, Supplier<?> msgSupplier, Throwable t);
+
   /**
-   * Check whether this Logger is enabled for the INFO Level.
+   * Check whether this Logger is enabled for the TRACE  Level.
    *
    * @return boolean - <code>true</code> if this Logger is enabled for level
-   *         INFO, <code>false</code> otherwise.
+   *         TRACE, <code>false</code> otherwise.
    */
-  boolean isInfoEnabled();
+  boolean isTraceEnabled();
 
   /**
-   * Check whether this Logger is enabled for the INFO Level.
+   * Check whether this Logger is enabled for the TRACE  Level.
    *
    * @param marker The marker data specific to this log statement.
    * @return boolean - <code>true</code> if this Logger is enabled for level
-   *         INFO, <code>false</code> otherwise.
+   *         TRACE, <code>false</code> otherwise.
    */
-  boolean isInfoEnabled(Marker marker);
+  boolean isTraceEnabled(Marker marker);
 
   /**
    * Log a message with the specific Marker at the TRACE level.
    *
    * @param msg the message string to be logged
    */
-  void info(Message msg);
+  void trace(Message msg);
 
   /**
-   * Log a message with the specific Marker at the INFO level.
+   * Log a message with the specific Marker at the TRACE level.
    *
    * @param msg the message string to be logged
    * @param t   A Throwable or null.
    */
-  void info(Message msg, Throwable t);
+  void trace(Message msg, Throwable t);
 
   /**
-   * Log a message with the specific Marker at the INFO level.
+   * Log a message with the specific Marker at the TRACE level.
    *
    * @param marker the marker data specific to this log statement
    * @param msg    the message string to be logged
    */
-  void info(Marker marker, Message msg);
+  void trace(Marker marker, Message msg);
 
   /**
-   * Log a message with the specific Marker at the INFO level.
+   * Log a message with the specific Marker at the TRACE level.
    *
    * @param marker the marker data specific to this log statement
    * @param msg    the message string to be logged
    * @param t      A Throwable or null.
    */
-  void info(Marker marker, Message msg, Throwable t);
+  void trace(Marker marker, Message msg, Throwable t);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#WARN WARN} level.
+   * Log a message object with the {@link org.apache.logging.log4j.Level#DEBUG DEBUG} level.
    *
    * @param message the message object to log.
    */
-  void warn(String message);
+  void debug(String message);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#WARN WARN} level.
+   * Log a message object with the {@link org.apache.logging.log4j.Level#DEBUG DEBUG} level.
    *
    * @param marker the marker data specific to this log statement
    * @param message the message object to log.
    */
-  void warn(Marker marker, String message);
+  void debug(Marker marker, String message);
 
   /**
-   * Log a message at the <code>WARN</code> level including the
+   * Log a message at the <code>DEBUG</code> level including the
    * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
    *
-   * @param message the message object to log.
+   * @param message the message to log.
    * @param t       the exception to log, including its stack trace.
    */
-  void warn(String message, Throwable t);
+  void debug(String message, Throwable t);
 
   /**
-   * Log a message at the <code>WARN</code> level including the
+   * Log a message at the <code>DEBUG</code> level including the
    * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
    *
    * @param marker the marker data specific to this log statement
-   * @param message the message object to log.
+   * @param message the message to log.
    * @param t       the exception to log, including its stack trace.
    */
-  void warn(Marker marker, String message, Throwable t);
+  void debug(Marker marker, String message, Throwable t);
 
- /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#WARN WARN} level.
+  /**
+   * Log a message object with the {@link org.apache.logging.log4j.Level#DEBUG DEBUG} level.
    *
    * @param message the message object to log.
    */
-  void warn(Object message);
+  void debug(Object message);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#WARN WARN} level.
+   * Log a message object with the {@link org.apache.logging.log4j.Level#DEBUG DEBUG} level.
    *
    * @param marker the marker data specific to this log statement
    * @param message the message object to log.
    */
-  void warn(Marker marker, Object message);
+  void debug(Marker marker, Object message);
 
   /**
-   * Log a message at the <code>WARN</code> level including the
+   * Log a message at the <code>DEBUG</code> level including the
    * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
    *
-   * @param message the message object to log.
+   * @param message the message to log.
    * @param t       the exception to log, including its stack trace.
    */
-  void warn(Object message, Throwable t);
+  void debug(Object message, Throwable t);
+
+  /**
+   * Log a message at the <code>DEBUG</code> level including the
+   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param t       the exception to log, including its stack trace.
+   */
+  void debug(Marker marker, Object message, Throwable t);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   * @param message the message to log.
+   * @param params parameters to the message.
+   */
+  void debug(String message, Object... params);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param params parameters to the message.
+   */
+  void debug(Marker marker, String message, Object... params);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   */
+  void debug(String message, Object p1);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   */
+  void debug(String message, Object p1, Object p2);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   */
+  void debug(String message, Object p1, Object p2, Object p3);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   */
+  void debug(String message, Object p1, Object p2, Object p3, Object p4);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   */
+  void debug(String message, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   */
+  void debug(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   */
+  void debug(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   */
+  void debug(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   */
+  void debug(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8,
+             Object p9);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   * @param p10 the tenth parameter.
+   */
+  void debug(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8,
+             Object p9, Object p10);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   */
+  void debug(Marker marker, String message, Object p1);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   */
+  void debug(Marker marker, String message, Object p1, Object p2);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   */
+  void debug(Marker marker, String message, Object p1, Object p2, Object p3);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   */
+  void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   */
+  void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   */
+  void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   */
+  void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   */
+  void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7, Object p8);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   */
+  void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7, Object p8, Object p9);
+
+  /**
+   * Log a message with parameters at the <code>DEBUG</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   * @param p10 the tenth parameter.
+   */
+  void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7, Object p8, Object p9, Object p10);
+
+  /**
+   * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the Message to log.
+   */
+  void debug(MessageSupplier msgSupplier);
+
+  /**
+   * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the Message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void debug(MessageSupplier msgSupplier, Throwable t);
+
+  /**
+   * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the Message to log.
+   */
+  void debug(Marker marker, MessageSupplier msgSupplier);
+
+  /**
+   * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the Message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void debug(Marker marker, MessageSupplier msgSupplier, Throwable t);
+
+  /**
+   * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the message to log.
+   */
+  void debug(Supplier<?> msgSupplier);
+
+  /**
+   * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void debug(Supplier<?> msgSupplier, Throwable t);
+
+  /**
+   * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the message to log.
+   */
+  void debug(Marker marker, Supplier<?> msgSupplier);
+
+  /**
+   * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void debug(Marker marker, Supplier<?> msgSupplier, Throwable t);
+
+  /**
+   * Check whether this Logger is enabled for the DEBUG Level.
+   *
+   * @return boolean - <code>true</code> if this Logger is enabled for level
+   *         DEBUG, <code>false</code> otherwise.
+   */
+  boolean isDebugEnabled();
+
+  /**
+   * Check whether this Logger is enabled for the DEBUG Level.
+   *
+   * @param marker The marker data specific to this log statement.
+   * @return boolean - <code>true</code> if this Logger is enabled for level
+   *         DEBUG, <code>false</code> otherwise.
+   */
+  boolean isDebugEnabled(Marker marker);
+
+  /**
+   * Log a message with the specific Marker at the DEBUG level.
+   *
+   * @param msg the message string to be logged
+   */
+  void debug(Message msg);
+
+  /**
+   * Log a message with the specific Marker at the DEBUG level.
+   *
+   * @param msg the message string to be logged
+   * @param t   A Throwable or null.
+   */
+  void debug(Message msg, Throwable t);
+
+  /**
+   * Log a message with the specific Marker at the DEBUG level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msg    the message string to be logged
+   */
+  void debug(Marker marker, Message msg);
+
+  /**
+   * Log a message with the specific Marker at the DEBUG level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msg    the message string to be logged
+   * @param t      A Throwable or null.
+   */
+  void debug(Marker marker, Message msg, Throwable t);
+
+  /**
+   * Log a message object with the {@link org.apache.logging.log4j.Level#INFO INFO} level.
+   *
+   * @param message the message object to log.
+   */
+  void info(String message);
+
+  /**
+   * Log a message object with the {@link org.apache.logging.log4j.Level#INFO INFO} level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message object to log.
+   */
+  void info(Marker marker, String message);
+
+  /**
+   * Log a message at the <code>INFO</code> level including the
+   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   *
+   * @param message the message object to log.
+   * @param t       the exception to log, including its stack trace.
+   */
+  void info(String message, Throwable t);
+
+  /**
+   * Log a message at the <code>INFO</code> level including the
+   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message object to log.
+   * @param t       the exception to log, including its stack trace.
+   */
+  void info(Marker marker, String message, Throwable t);
+
+  /**
+   * Log a message object with the {@link org.apache.logging.log4j.Level#INFO INFO} level.
+   *
+   * @param message the message object to log.
+   */
+  void info(Object message);
+
+  /**
+   * Log a message object with the {@link org.apache.logging.log4j.Level#INFO INFO} level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message object to log.
+   */
+  void info(Marker marker, Object message);
+
+  /**
+   * Log a message at the <code>INFO</code> level including the
+   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   *
+   * @param message the message object to log.
+   * @param t       the exception to log, including its stack trace.
+   */
+  void info(Object message, Throwable t);
+
+  /**
+   * Log a message at the <code>INFO</code> level including the
+   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message object to log.
+   * @param t       the exception to log, including its stack trace.
+   */
+  void info(Marker marker, Object message, Throwable t);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param message the message to log.
+   * @param params parameters to the message.
+   *
+   * @doubt Likely to misinterpret existing log4j client code that intended to call
+   * info(Object,Throwable). Incurs array creation expense on every call. (RG) It isn't
+   * possible to be misinterpreted as the previous method is for that signature. Methods
+   * should be added to avoid varargs for 1, 2 or 3 parameters.
+   */
+  void info(String message, Object... params);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param params parameters to the message.
+   *
+   * @doubt Likely to misinterpret existing log4j client code that intended to call
+   * info(Object,Throwable). Incurs array creation expense on every call. (RG) It isn't
+   * possible to be misinterpreted as the previous method is for that signature. Methods
+   * should be added to avoid varargs for 1, 2 or 3 parameters.
+   */
+  void info(Marker marker, String message, Object... params);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   */
+  void info(String message, Object p1);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   */
+  void info(String message, Object p1, Object p2);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   */
+  void info(String message, Object p1, Object p2, Object p3);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   */
+  void info(String message, Object p1, Object p2, Object p3, Object p4);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   */
+  void info(String message, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   */
+  void info(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   */
+  void info(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   */
+  void info(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   */
+  void info(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8,
+            Object p9);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   * @param p10 the tenth parameter.
+   */
+  void info(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8,
+            Object p9, Object p10);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   */
+  void info(Marker marker, String message, Object p1);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   */
+  void info(Marker marker, String message, Object p1, Object p2);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   */
+  void info(Marker marker, String message, Object p1, Object p2, Object p3);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   */
+  void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   */
+  void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   */
+  void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   */
+  void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   */
+  void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+            Object p7, Object p8);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   */
+  void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+            Object p7, Object p8, Object p9);
+
+  /**
+   * Log a message with parameters at the <code>INFO</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   * @param p10 the tenth parameter.
+   */
+  void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+            Object p7, Object p8, Object p9, Object p10);
+  /**
+   * Log a message at the <code>INFO</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the Message to log.
+   */
+  void info(MessageSupplier msgSupplier);
+
+  /**
+   * Log a message at the <code>INFO</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the Message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void info(MessageSupplier msgSupplier, Throwable t);
+
+  /**
+   * Log a message at the <code>INFO</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the Message to log.
+   */
+  void info(Marker marker, MessageSupplier msgSupplier);
+
+  /**
+   * Log a message at the <code>INFO</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the Message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void info(Marker marker, MessageSupplier msgSupplier, Throwable t);
+
+  /**
+   * Log a message at the <code>INFO</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the message to log.
+   */
+  void info(Supplier<?> msgSupplier);
+
+  /**
+   * Log a message at the <code>INFO</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void info(Supplier<?> msgSupplier, Throwable t);
+
+  /**
+   * Log a message at the <code>INFO</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the message to log.
+   */
+  void info(Marker marker, Supplier<?> msgSupplier);
+
+  /**
+   * Log a message at the <code>INFO</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void info(Marker marker, Supplier<?> msgSupplier, Throwable t);
+
+  /**
+   * Check whether this Logger is enabled for the INFO Level.
+   *
+   * @return boolean - <code>true</code> if this Logger is enabled for level
+   *         INFO, <code>false</code> otherwise.
+   */
+  boolean isInfoEnabled();
+
+  /**
+   * Check whether this Logger is enabled for the INFO Level.
+   *
+   * @param marker The marker data specific to this log statement.
+   * @return boolean - <code>true</code> if this Logger is enabled for level
+   *         INFO, <code>false</code> otherwise.
+   */
+  boolean isInfoEnabled(Marker marker);
+
+  /**
+   * Log a message with the specific Marker at the TRACE level.
+   *
+   * @param msg the message string to be logged
+   */
+  void info(Message msg);
+
+  /**
+   * Log a message with the specific Marker at the INFO level.
+   *
+   * @param msg the message string to be logged
+   * @param t   A Throwable or null.
+   */
+  void info(Message msg, Throwable t);
+
+  /**
+   * Log a message with the specific Marker at the INFO level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msg    the message string to be logged
+   */
+  void info(Marker marker, Message msg);
+
+  /**
+   * Log a message with the specific Marker at the INFO level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msg    the message string to be logged
+   * @param t      A Throwable or null.
+   */
+  void info(Marker marker, Message msg, Throwable t);
+
+  /**
+   * Log a message object with the {@link org.apache.logging.log4j.Level#WARN WARN} level.
+   *
+   * @param message the message object to log.
+   */
+  void warn(String message);
+
+  /**
+   * Log a message object with the {@link org.apache.logging.log4j.Level#WARN WARN} level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message object to log.
+   */
+  void warn(Marker marker, String message);
+
+  /**
+   * Log a message at the <code>WARN</code> level including the
+   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   *
+   * @param message the message object to log.
+   * @param t       the exception to log, including its stack trace.
+   */
+  void warn(String message, Throwable t);
+
+  /**
+   * Log a message at the <code>WARN</code> level including the
+   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message object to log.
+   * @param t       the exception to log, including its stack trace.
+   */
+  void warn(Marker marker, String message, Throwable t);
+
+ /**
+   * Log a message object with the {@link org.apache.logging.log4j.Level#WARN WARN} level.
+   *
+   * @param message the message object to log.
+   */
+  void warn(Object message);
+
+  /**
+   * Log a message object with the {@link org.apache.logging.log4j.Level#WARN WARN} level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message object to log.
+   */
+  void warn(Marker marker, Object message);
+
+  /**
+   * Log a message at the <code>WARN</code> level including the
+   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   *
+   * @param message the message object to log.
+   * @param t       the exception to log, including its stack trace.
+   */
+  void warn(Object message, Throwable t);
 
   /**
    * Log a message at the <code>WARN</code> level including the
@@ -579,175 +1594,850 @@ public interface Logger {
    * @param message the message object to log.
    * @param t       the exception to log, including its stack trace.
    */
-  void warn(Marker marker, Object message, Throwable t);
+  void warn(Marker marker, Object message, Throwable t);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   * @param message the message to log.
+   * @param params parameters to the message.
+   * @doubt Likely to misinterpret existing log4j client code that intended to call
+   * info(Object,Throwable). Incurs array creation expense on every call. (RG) I assume you
+   * meant warn, not info. It isn't possible to be misinterpreted as the previous method
+   * is for that signature.Methods should be added to avoid varargs for 1, 2 or 3 parameters.
+   */
+  void warn(String message, Object... params);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param marker the marker data specific to this log statement.
+   * @param message the message to log.
+   * @param params parameters to the message.
+   *
+   * @doubt Likely to misinterpret existing log4j client code that intended to call
+   * info(Object,Throwable). Incurs array creation expense on every call. (RG) I assume you
+   * meant warn, not info. It isn't possible to be misinterpreted as the previous method
+   * is for that signature.Methods should be added to avoid varargs for 1, 2 or 3 parameters.
+   */
+  void warn(Marker marker, String message, Object... params);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   */
+  void warn(String message, Object p1);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   */
+  void warn(String message, Object p1, Object p2);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   */
+  void warn(String message, Object p1, Object p2, Object p3);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   */
+  void warn(String message, Object p1, Object p2, Object p3, Object p4);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   */
+  void warn(String message, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   */
+  void warn(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   */
+  void warn(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   */
+  void warn(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   */
+  void warn(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8,
+            Object p9);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   * @param p10 the tenth parameter.
+   */
+  void warn(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8,
+            Object p9, Object p10);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   */
+  void warn(Marker marker, String message, Object p1);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   */
+  void warn(Marker marker, String message, Object p1, Object p2);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   */
+  void warn(Marker marker, String message, Object p1, Object p2, Object p3);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   */
+  void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   */
+  void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   */
+  void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   */
+  void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   */
+  void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+            Object p7, Object p8);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   */
+  void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+            Object p7, Object p8, Object p9);
+
+  /**
+   * Log a message with parameters at the <code>WARN</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   * @param p10 the tenth parameter.
+   */
+  void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+            Object p7, Object p8, Object p9, Object p10);
+
+  /**
+   * Log a message at the <code>WARN</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the Message to log.
+   */
+  void warn(MessageSupplier msgSupplier);
+
+  /**
+   * Log a message at the <code>WARN</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the Message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void warn(MessageSupplier msgSupplier, Throwable t);
+
+  /**
+   * Log a message at the <code>WARN</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the Message to log.
+   */
+  void warn(Marker marker, MessageSupplier msgSupplier);
+
+  /**
+   * Log a message at the <code>WARN</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the Message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void warn(Marker marker, MessageSupplier msgSupplier, Throwable t);
+
+  /**
+   * Log a message at the <code>WARN</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the message to log.
+   */
+  void warn(Supplier<?> msgSupplier);
+
+  /**
+   * Log a message at the <code>WARN</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void warn(Supplier<?> msgSupplier, Throwable t);
+
+  /**
+   * Log a message at the <code>WARN</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the message to log.
+   */
+  void warn(Marker marker, Supplier<?> msgSupplier);
+
+  /**
+   * Log a message at the <code>WARN</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void warn(Marker marker, Supplier<?> msgSupplier, Throwable t);
+
+  /**
+   * Check whether this Logger is enabled for the WARN Level.
+   *
+   * @return boolean - <code>true</code> if this Logger is enabled for level
+   *         WARN, <code>false</code> otherwise.
+   */
+  boolean isWarnEnabled();
+
+  /**
+   * Check whether this Logger is enabled for the WARN Level.
+   *
+   * @param marker The marker data specific to this log statement.
+   * @return boolean - <code>true</code> if this Logger is enabled for level
+   *         WARN, <code>false</code> otherwise.
+   */
+  boolean isWarnEnabled(Marker marker);
+
+  /**
+   * Log a message with the specific Marker at the WARN level.
+   *
+   * @param msg the message string to be logged
+   */
+  void warn(Message msg);
+
+  /**
+   * Log a message with the specific Marker at the WARN level.
+   *
+   * @param msg the message string to be logged
+   * @param t   A Throwable or null.
+   */
+  void warn(Message msg, Throwable t);
+
+  /**
+   * Log a message with the specific Marker at the WARN level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msg    the message string to be logged
+   */
+  void warn(Marker marker, Message msg);
+
+  /**
+   * Log a message with the specific Marker at the WARN level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msg    the message string to be logged
+   * @param t      A Throwable or null.
+   */
+  void warn(Marker marker, Message msg, Throwable t);
+
+  /**
+   * Log a message object with the {@link org.apache.logging.log4j.Level#ERROR ERROR} level.
+   *
+   * @param message the message object to log.
+   */
+  void error(String message);
+
+  /**
+   * Log a message object with the {@link org.apache.logging.log4j.Level#ERROR ERROR} level.
+   *
+   * @param marker the marker data specific to this log statement.
+   * @param message the message object to log.
+   */
+  void error(Marker marker, String message);
+
+  /**
+   * Log a message at the <code>ERROR</code> level including the
+   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   *
+   * @param message the message object to log.
+   * @param t       the exception to log, including its stack trace.
+   */
+  void error(String message, Throwable t);
 
   /**
-   * Log a message with parameters at the <code>WARN</code> level.
+   * Log a message at the <code>ERROR</code> level including the
+   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   *
+   * @param marker the marker data specific to this log statement.
+   * @param message the message object to log.
+   * @param t       the exception to log, including its stack trace.
+   */
+  void error(Marker marker, String message, Throwable t);
+
+  /**
+   * Log a message object with the {@link org.apache.logging.log4j.Level#ERROR ERROR} level.
+   *
+   * @param message the message object to log.
+   */
+  void error(Object message);
+
+  /**
+   * Log a message object with the {@link org.apache.logging.log4j.Level#ERROR ERROR} level.
+   *
+   * @param marker the marker data specific to this log statement.
+   * @param message the message object to log.
+   */
+  void error(Marker marker, Object message);
+
+  /**
+   * Log a message at the <code>ERROR</code> level including the
+   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   *
+   * @param message the message object to log.
+   * @param t       the exception to log, including its stack trace.
+   */
+  void error(Object message, Throwable t);
+
+  /**
+   * Log a message at the <code>ERROR</code> level including the
+   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   *
+   * @param marker the marker data specific to this log statement.
+   * @param message the message object to log.
+   * @param t       the exception to log, including its stack trace.
+   */
+  void error(Marker marker, Object message, Throwable t);
+
+  /**
+   * Log a message with parameters at the <code>ERROR</code> level.
+   *
    * @param message the message to log.
    * @param params parameters to the message.
+   *
    * @doubt Likely to misinterpret existing log4j client code that intended to call
    * info(Object,Throwable). Incurs array creation expense on every call. (RG) I assume you
-   * meant warn, not info. It isn't possible to be misinterpreted as the previous method
-   * is for that signature.Methods should be added to avoid varargs for 1, 2 or 3 parameters.
+   * meant error, not info. It isn't possible to be misinterpreted as the previous method
+   * is for that signature. Methods should be added to avoid varargs for 1, 2 or 3 parameters.
    */
-  void warn(String message, Object... params);
+  void error(String message, Object... params);
 
   /**
-   * Log a message with parameters at the <code>WARN</code> level.
-   *
+   * Log a message with parameters at the <code>ERROR</code> level.
    * @param marker the marker data specific to this log statement.
    * @param message the message to log.
    * @param params parameters to the message.
    *
    * @doubt Likely to misinterpret existing log4j client code that intended to call
    * info(Object,Throwable). Incurs array creation expense on every call. (RG) I assume you
-   * meant warn, not info. It isn't possible to be misinterpreted as the previous method
-   * is for that signature.Methods should be added to avoid varargs for 1, 2 or 3 parameters.
+   * meant error, not info. It isn't possible to be misinterpreted as the previous method
+   * is for that signature. Methods should be added to avoid varargs for 1, 2 or 3 parameters.
    */
-  void warn(Marker marker, String message, Object... params);
+  void error(Marker marker, String message, Object... params);
 
   /**
-   * Check whether this Logger is enabled for the WARN Level.
+   * Log a message with parameters at the <code>ERROR</code> level.
    *
-   * @return boolean - <code>true</code> if this Logger is enabled for level
-   *         WARN, <code>false</code> otherwise.
+   * @param message the message to log.
+   * @param p1 the first parameter.
    */
-  boolean isWarnEnabled();
+  void error(String message, Object p1);
 
   /**
-   * Check whether this Logger is enabled for the WARN Level.
+   * Log a message with parameters at the <code>ERROR</code> level.
    *
-   * @param marker The marker data specific to this log statement.
-   * @return boolean - <code>true</code> if this Logger is enabled for level
-   *         WARN, <code>false</code> otherwise.
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   */
+  void error(String message, Object p1, Object p2);
+
+  /**
+   * Log a message with parameters at the <code>ERROR</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   */
+  void error(String message, Object p1, Object p2, Object p3);
+
+  /**
+   * Log a message with parameters at the <code>ERROR</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   */
+  void error(String message, Object p1, Object p2, Object p3, Object p4);
+
+  /**
+   * Log a message with parameters at the <code>ERROR</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   */
+  void error(String message, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+  /**
+   * Log a message with parameters at the <code>ERROR</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   */
+  void error(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+  /**
+   * Log a message with parameters at the <code>ERROR</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   */
+  void error(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
+
+  /**
+   * Log a message with parameters at the <code>ERROR</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   */
+  void error(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8);
+
+  /**
+   * Log a message with parameters at the <code>ERROR</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   */
+  void error(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8,
+             Object p9);
+
+  /**
+   * Log a message with parameters at the <code>ERROR</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   * @param p10 the tenth parameter.
+   */
+  void error(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8,
+             Object p9, Object p10);
+
+  /**
+   * Log a message with parameters at the <code>ERROR</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   */
+  void error(Marker marker, String message, Object p1);
+
+  /**
+   * Log a message with parameters at the <code>ERROR</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   */
+  void error(Marker marker, String message, Object p1, Object p2);
+
+  /**
+   * Log a message with parameters at the <code>ERROR</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   */
+  void error(Marker marker, String message, Object p1, Object p2, Object p3);
+
+  /**
+   * Log a message with parameters at the <code>ERROR</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
    */
-  boolean isWarnEnabled(Marker marker);
+  void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4);
 
   /**
-   * Log a message with the specific Marker at the WARN level.
+   * Log a message with parameters at the <code>ERROR</code> level.
    *
-   * @param msg the message string to be logged
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
    */
-  void warn(Message msg);
+  void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5);
 
   /**
-   * Log a message with the specific Marker at the WARN level.
+   * Log a message with parameters at the <code>ERROR</code> level.
    *
-   * @param msg the message string to be logged
-   * @param t   A Throwable or null.
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
    */
-  void warn(Message msg, Throwable t);
+  void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
 
   /**
-   * Log a message with the specific Marker at the WARN level.
+   * Log a message with parameters at the <code>ERROR</code> level.
    *
    * @param marker the marker data specific to this log statement
-   * @param msg    the message string to be logged
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
    */
-  void warn(Marker marker, Message msg);
+  void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7);
 
   /**
-   * Log a message with the specific Marker at the WARN level.
+   * Log a message with parameters at the <code>ERROR</code> level.
    *
    * @param marker the marker data specific to this log statement
-   * @param msg    the message string to be logged
-   * @param t      A Throwable or null.
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
    */
-  void warn(Marker marker, Message msg, Throwable t);
+  void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7, Object p8);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#ERROR ERROR} level.
+   * Log a message with parameters at the <code>ERROR</code> level.
    *
-   * @param message the message object to log.
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
    */
-  void error(String message);
+  void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7, Object p8, Object p9);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#ERROR ERROR} level.
+   * Log a message with parameters at the <code>ERROR</code> level.
    *
-   * @param marker the marker data specific to this log statement.
-   * @param message the message object to log.
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   * @param p10 the tenth parameter.
    */
-  void error(Marker marker, String message);
+  void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7, Object p8, Object p9, Object p10);
 
   /**
-   * Log a message at the <code>ERROR</code> level including the
-   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @param message the message object to log.
-   * @param t       the exception to log, including its stack trace.
+   * @param msgSupplier the supplier of the Message to log.
    */
-  void error(String message, Throwable t);
+  void error(MessageSupplier msgSupplier);
 
   /**
-   * Log a message at the <code>ERROR</code> level including the
-   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @param marker the marker data specific to this log statement.
-   * @param message the message object to log.
-   * @param t       the exception to log, including its stack trace.
+   * @param msgSupplier the supplier of the Message to log.
+   * @param t the exception to log, including its stack trace.
    */
-  void error(Marker marker, String message, Throwable t);
+  void error(MessageSupplier msgSupplier, Throwable t);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#ERROR ERROR} level.
+   * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @param message the message object to log.
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the Message to log.
    */
-  void error(Object message);
+  void error(Marker marker, MessageSupplier msgSupplier);
 
   /**
-   * Log a message object with the {@link org.apache.logging.log4j.Level#ERROR ERROR} level.
+   * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @param marker the marker data specific to this log statement.
-   * @param message the message object to log.
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the Message to log.
+   * @param t the exception to log, including its stack trace.
    */
-  void error(Marker marker, Object message);
+  void error(Marker marker, MessageSupplier msgSupplier, Throwable t);
 
   /**
-   * Log a message at the <code>ERROR</code> level including the
-   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @param message the message object to log.
-   * @param t       the exception to log, including its stack trace.
+   * @param msgSupplier the supplier of the message to log.
    */
-  void error(Object message, Throwable t);
+  void error(Supplier<?> msgSupplier);
 
   /**
-   * Log a message at the <code>ERROR</code> level including the
-   * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+   * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @param marker the marker data specific to this log statement.
-   * @param message the message object to log.
-   * @param t       the exception to log, including its stack trace.
+   * @param msgSupplier the supplier of the message to log.
+   * @param t the exception to log, including its stack trace.
    */
-  void error(Marker marker, Object message, Throwable t);
+  void error(Supplier<?> msgSupplier, Throwable t);
 
   /**
-   * Log a message with parameters at the <code>ERROR</code> level.
-   *
-   * @param message the message to log.
-   * @param params parameters to the message.
+   * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @doubt Likely to misinterpret existing log4j client code that intended to call
-   * info(Object,Throwable). Incurs array creation expense on every call. (RG) I assume you
-   * meant error, not info. It isn't possible to be misinterpreted as the previous method
-   * is for that signature. Methods should be added to avoid varargs for 1, 2 or 3 parameters.
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the message to log.
    */
-  void error(String message, Object... params);
+  void error(Marker marker, Supplier<?> msgSupplier);
 
   /**
-   * Log a message with parameters at the <code>ERROR</code> level.
-   * @param marker the marker data specific to this log statement.
-   * @param message the message to log.
-   * @param params parameters to the message.
+   * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+   * logging call is enabled.
    *
-   * @doubt Likely to misinterpret existing log4j client code that intended to call
-   * info(Object,Throwable). Incurs array creation expense on every call. (RG) I assume you
-   * meant error, not info. It isn't possible to be misinterpreted as the previous method
-   * is for that signature. Methods should be added to avoid varargs for 1, 2 or 3 parameters.
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the message to log.
+   * @param t the exception to log, including its stack trace.
    */
-  void error(Marker marker, String message, Object... params);
+  void error(Marker marker, Supplier<?> msgSupplier, Throwable t);
 
   /**
    * Check whether this Logger is enabled for the ERROR Level.
@@ -895,6 +2585,344 @@ public interface Logger {
    */
   void fatal(Marker marker, String message, Object... params);
 
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   */
+  void fatal(String message, Object p1);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   */
+  void fatal(String message, Object p1, Object p2);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   */
+  void fatal(String message, Object p1, Object p2, Object p3);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   */
+  void fatal(String message, Object p1, Object p2, Object p3, Object p4);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   */
+  void fatal(String message, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   */
+  void fatal(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   */
+  void fatal(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   */
+  void fatal(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   */
+  void fatal(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8,
+             Object p9);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   * @param p10 the tenth parameter.
+   */
+  void fatal(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8,
+             Object p9, Object p10);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   */
+  void fatal(Marker marker, String message, Object p1);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   */
+  void fatal(Marker marker, String message, Object p1, Object p2);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   */
+  void fatal(Marker marker, String message, Object p1, Object p2, Object p3);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   */
+  void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   */
+  void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   */
+  void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   */
+  void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   */
+  void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7, Object p8);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   */
+  void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7, Object p8, Object p9);
+
+  /**
+   * Log a message with parameters at the <code>FATAL</code> level.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param message the message to log.
+   * @param p1 the first parameter.
+   * @param p2 the second parameter.
+   * @param p3 the third parameter.
+   * @param p4 the fourth parameter.
+   * @param p5 the fifth parameter.
+   * @param p6 the sixth parameter.
+   * @param p7 the seventh parameter.
+   * @param p8 the eighth parameter.
+   * @param p9 the ninth parameter.
+   * @param p10 the tenth parameter.
+   */
+  void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+             Object p7, Object p8, Object p9, Object p10);
+
+  /**
+   * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the Message to log.
+   */
+  void fatal(MessageSupplier msgSupplier);
+
+  /**
+   * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the Message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void fatal(MessageSupplier msgSupplier, Throwable t);
+
+  /**
+   * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the Message to log.
+   */
+  void fatal(Marker marker, MessageSupplier msgSupplier);
+
+  /**
+   * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the Message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void fatal(Marker marker, MessageSupplier msgSupplier, Throwable t);
+
+  /**
+   * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the message to log.
+   */
+  void fatal(Supplier<?> msgSupplier);
+
+  /**
+   * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param msgSupplier the supplier of the message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void fatal(Supplier<?> msgSupplier, Throwable t);
+
+  /**
+   * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the message to log.
+   */
+  void fatal(Marker marker, Supplier<?> msgSupplier);
+
+  /**
+   * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+   * logging call is enabled.
+   *
+   * @param marker the marker data specific to this log statement
+   * @param msgSupplier the supplier of the message to log.
+   * @param t the exception to log, including its stack trace.
+   */
+  void fatal(Marker marker, Supplier<?> msgSupplier, Throwable t);
+
   /**
    * Check whether this Logger is enabled for the FATAL Level.
    *
@@ -17,7 +17,12 @@
 
 package org.apache.logging.log4j;
 
-import java.util.HashMap;
+import org.apache.logging.log4j.spi.DefaultThreadContextMap;
+import org.apache.logging.log4j.spi.ThreadContextMap;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Stack;
 
@@ -28,29 +33,66 @@ import java.util.Stack;
  * <p><b><em>The MDC is managed on a per thread basis</em></b>. A
  * child thread automatically inherits a <em>copy</em> of the mapped
  * diagnostic context of its parent.
+ * <p/>
+ * <p>Each thread holds an immutable snapshot of its map and of its stack. A snapshot is only replaced
+ * when the map or stack is changed, so log events can hold a reference to it rather than a copy.
+ * <p/>
+ * <p>The map is stored by a {@link ThreadContextMap}. The implementation can be chosen by setting the
+ * system property named by {@link #THREAD_CONTEXT_MAP_PROPERTY} to its class name. Setting the system
+ * property named by {@link #INHERITABLE_PROPERTY} to "false" stops child threads from inheriting the
+ * map and stack, which avoids unexpected values in the pooled threads of executors.
  */
 public final class ThreadContext {
 
-    private static ThreadLocal<Map<String, String>> localMap =
-        new InheritableThreadLocal<Map<String, String>>() {
-            protected Map<String, String> childValue(Map<String, String> parentValue) {
-                return parentValue == null ? null : new HashMap<String, String>(parentValue);
-            }
-        };
+    /**
+     * The name of the system property that specifies the ThreadContextMap implementation class.
+     */
+    public static final String THREAD_CONTEXT_MAP_PROPERTY = "log4j2.threadContextMap";
 
-    private static ThreadLocal<Stack<String>> localStack =
-        new InheritableThreadLocal<Stack<String>>() {
-            protected Stack<String> childValue(Stack<String> parentValue) {
-                return parentValue == null ? null : (Stack<String>) parentValue.clone();
-            }
-        };
+    /**
+     * The name of the system property that determines whether child threads inherit the context.
+     */
+    public static final String INHERITABLE_PROPERTY = "log4j2.isThreadContextInheritable";
 
+    private static final Stack<String> EMPTY_STACK = new ImmutableStack(Collections.<String>emptyList(), null);
 
+    private static final boolean INHERITABLE;
+
+    private static final ThreadContextMap CONTEXT_MAP;
+
+    private static ThreadLocal<Stack<String>> localStack;
+
+    static {
+        String inheritable = System.getProperty(INHERITABLE_PROPERTY);
+        INHERITABLE = inheritable == null || Boolean.parseBoolean(inheritable);
+        localStack = INHERITABLE ? new InheritableThreadLocal<Stack<String>>() : new ThreadLocal<Stack<String>>();
+        CONTEXT_MAP = createContextMap(System.getProperty(THREAD_CONTEXT_MAP_PROPERTY));
+    }
 
     private ThreadContext() {
 
     }
 
+    private static ThreadContextMap createContextMap(String className) {
+        if (className != null) {
+            try {
+                ClassLoader cl = Thread.currentThread().getContextClassLoader();
+                Class<?> clazz = cl == null ? Class.forName(className) : cl.loadClass(className);
+                if (ThreadContextMap.class.isAssignableFrom(clazz)) {
+                    try {
+                        return (ThreadContextMap) clazz.getConstructor(boolean.class).newInstance(INHERITABLE);
+                    } catch (NoSuchMethodException ex) {
+                        return (ThreadContextMap) clazz.newInstance();
+                    }
+                }
+                StatusLogger.getLogger().error(className + " does not implement " + ThreadContextMap.class.getName());
+            } catch (Exception ex) {
+                StatusLogger.getLogger().error("Unable to create ThreadContextMap " + className, ex);
+            }
+        }
+        return new DefaultThreadContextMap(INHERITABLE);
+    }
+
     /**
      * Put a context value (the <code>o</code> parameter) as identified
      * with the <code>key</code> parameter into the current thread's
@@ -62,12 +104,7 @@ public final class ThreadContext {
      * @param value The key value.
      */
     public static void put(String key, String value) {
-        Map<String, String> map = localMap.get();
-        if (map == null) {
-            map = new HashMap<String, String>();
-            localMap.set(map);
-        }
-        map.put(key, value);
+        CONTEXT_MAP.put(key, value);
     }
 
     /**
@@ -78,8 +115,7 @@ public final class ThreadContext {
      * @return The value associated with the key or null.
      */
     public static String get(String key) {
-        Map<String, String> map = localMap.get();
-        return map == null ? null : map.get(key);
+        return CONTEXT_MAP.get(key);
     }
 
     /**
@@ -88,17 +124,14 @@ public final class ThreadContext {
      * @param key The key to remove.
      */
     public static void remove(String key) {
-        Map<String, String> map = localMap.get();
-        if (map != null) {
-            map.remove(key);
-        }
+        CONTEXT_MAP.remove(key);
     }
 
     /**
      * Clear the context.
      */
     public static void clear() {
-        localMap.remove();
+        CONTEXT_MAP.clear();
     }
 
     /**
@@ -107,8 +140,15 @@ public final class ThreadContext {
      * @return True if the key is in the context, false otherwise.
      */
     public static boolean containsKey(String key) {
-        Map<String, String> map = localMap.get();
-        return map == null ? false : map.containsKey(key);
+        return CONTEXT_MAP.containsKey(key);
+    }
+
+    /**
+     * Determine if the current thread's context map is empty.
+     * @return true if the context map has no entries, false otherwise.
+     */
+    public static boolean isEmpty() {
+        return CONTEXT_MAP.isEmpty();
     }
 
     /**
@@ -117,8 +157,24 @@ public final class ThreadContext {
      * @return a copy of the context.
      */
     public static Map<String, String> getContext() {
-        Map<String, String> map = localMap.get();
-        return map == null ? new HashMap<String, String>() : new HashMap<String, String>(localMap.get());
+        return CONTEXT_MAP.getCopy();
+    }
+
+    /**
+     * Get an immutable snapshot of the current thread's context map. The same snapshot is returned until
+     * the map is changed.
+     * @return The context map, which cannot be modified.
+     */
+    public static Map<String, String> getImmutableContext() {
+        return CONTEXT_MAP.getImmutableMap();
+    }
+
+    /**
+     * Return the ThreadContextMap that stores the context maps.
+     * @return The ThreadContextMap.
+     */
+    public static ThreadContextMap getThreadContextMap() {
+        return CONTEXT_MAP;
     }
 
     /**
@@ -133,16 +189,34 @@ public final class ThreadContext {
      * @return A copy of this thread's stack.
      */
     public static Stack<String> cloneStack() {
+        Stack<String> copy = new Stack<String>();
         Stack<String> stack = localStack.get();
-        return stack == null ? new Stack<String>() : (Stack<String>) stack.clone();
+        if (stack != null) {
+            copy.addAll(stack);
+        }
+        return copy;
     }
 
     /**
-     * Set this thread's stack.
+     * Get an immutable snapshot of this thread's stack. The same snapshot is returned until the stack is
+     * changed.
+     * @return The stack, which cannot be modified.
+     */
+    public static Stack<String> getImmutableStack() {
+        Stack<String> stack = localStack.get();
+        return stack == null ? EMPTY_STACK : stack;
+    }
+
+    /**
+     * Set this thread's stack. The contents of the stack are copied.
      * @param stack The stack to use.
      */
     public static void setStack(Stack<String> stack) {
-        localStack.set(stack);
+        if (stack == null || stack.isEmpty()) {
+            localStack.remove();
+        } else {
+            localStack.set(new ImmutableStack(stack, null));
+        }
     }
 
     /**
@@ -169,7 +243,12 @@ public final class ThreadContext {
         if (s == null || s.isEmpty()) {
             return "";
         }
-        return s.pop();
+        if (s.size() == 1) {
+            localStack.remove();
+        } else {
+            localStack.set(new ImmutableStack(s.subList(0, s.size() - 1), null));
+        }
+        return s.peek();
     }
 
     /**
@@ -199,10 +278,7 @@ public final class ThreadContext {
      */
     public static void push(String message) {
         Stack<String> stack = localStack.get();
-        if (stack == null) {
-            stack = new Stack<String>();
-        }
-        stack.push(message);
+        localStack.set(new ImmutableStack(stack == null ? EMPTY_STACK : stack, message));
     }
 
     /**
@@ -258,4 +334,137 @@ public final class ThreadContext {
     public static void setMaxDepth(int maxDepth) {
 
     }
+
+    /**
+     * A Stack that cannot be modified once it has been created.
+     */
+    private static final class ImmutableStack extends Stack<String> {
+
+        private static final long serialVersionUID = -7434826457356264291L;
+
+        /**
+         * Create a stack containing the elements of a collection followed by an optional element.
+         * @param elements The elements, from bottom to top.
+         * @param top The element to place on top or null.
+         */
+        public ImmutableStack(Collection<String> elements, String top) {
+            for (String element : elements) {
+                super.addElement(element);
+            }
+            if (top != null) {
+                super.addElement(top);
+            }
+        }
+
+        @Override
+        public String push(String item) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized String pop() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized boolean add(String o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(int index, String element) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized boolean addAll(Collection<? extends String> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized boolean addAll(int index, Collection<? extends String> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized void addElement(String obj) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized void insertElementAt(String obj, int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized String set(int index, String element) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized void setElementAt(String obj, int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized String remove(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized boolean removeElement(Object obj) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized void removeElementAt(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized boolean removeAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized boolean retainAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized void removeAllElements() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized void setSize(int newSize) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected synchronized void removeRange(int fromIndex, int toIndex) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Returns a Stack that can be modified.
+         * @return A copy of this stack.
+         */
+        @Override
+        public synchronized Object clone() {
+            Stack<String> copy = new Stack<String>();
+            copy.addAll(this);
+            return copy;
+        }
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.message;
+
+import org.apache.logging.log4j.util.Supplier;
+
+/**
+ * A Message that asks a {@link MessageSupplier} or {@link Supplier} for its content the first time the
+ * content is needed. Loggers create a LazyMessage once the logging call has been found to be enabled, so the
+ * supplier is never called for disabled calls. When the event is handed to an asynchronous Logger the supplier
+ * is called on the background thread.
+ * <p>
+ * A Supplier that returns a Message is used as is, a String becomes a SimpleMessage and any other
+ * Object becomes an ObjectMessage.
+ * </p>
+ */
+public class LazyMessage implements Message, StringBuilderFormattable {
+
+    private static final long serialVersionUID = -4373408284213302473L;
+
+    private transient MessageSupplier messageSupplier;
+    private transient Supplier<?> supplier;
+    private transient Message message;
+
+    /**
+     * Create the LazyMessage.
+     * @param messageSupplier The MessageSupplier that provides the Message.
+     */
+    public LazyMessage(MessageSupplier messageSupplier) {
+        this.messageSupplier = messageSupplier;
+    }
+
+    /**
+     * Create the LazyMessage.
+     * @param supplier The Supplier that provides the message.
+     */
+    public LazyMessage(Supplier<?> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Returns the supplied Message, calling the supplier if that has not already happened.
+     * @return The Message.
+     */
+    public synchronized Message getMessage() {
+        if (message == null) {
+            if (messageSupplier != null) {
+                message = messageSupplier.get();
+                if (message == null) {
+                    message = new SimpleMessage("");
+                }
+            } else {
+                Object obj = supplier == null ? null : supplier.get();
+                if (obj instanceof Message) {
+                    message = (Message) obj;
+                } else if (obj instanceof String) {
+                    message = new SimpleMessage((String) obj);
+                } else {
+                    message = new ObjectMessage(obj);
+                }
+            }
+            messageSupplier = null;
+            supplier = null;
+        }
+        return message;
+    }
+
+    /**
+     * Return the formatted message.
+     * @return the formatted message.
+     */
+    public String getFormattedMessage() {
+        return getMessage().getFormattedMessage();
+    }
+
+    /**
+     * Append the formatted message to the buffer.
+     * @param buffer The StringBuilder to append to.
+     */
+    public void formatTo(StringBuilder buffer) {
+        Message msg = getMessage();
+        if (msg instanceof StringBuilderFormattable) {
+            ((StringBuilderFormattable) msg).formatTo(buffer);
+        } else {
+            buffer.append(msg.getFormattedMessage());
+        }
+    }
+
+    /**
+     * Returns the format of the supplied message.
+     * @return the message format.
+     */
+    public String getMessageFormat() {
+        return getMessage().getMessageFormat();
+    }
+
+    /**
+     * Returns the parameters of the supplied message.
+     * @return the message parameters.
+     */
+    public Object[] getParameters() {
+        return getMessage().getParameters();
+    }
+
+    /**
+     * Serializes the supplied Message in place of this one.
+     * @return The supplied Message.
+     */
+    protected Object writeReplace() {
+        return getMessage();
+    }
+
+    public synchronized String toString() {
+        return "LazyMessage[" + (message == null ? "unresolved" : message.toString()) + "]";
+    }
+}
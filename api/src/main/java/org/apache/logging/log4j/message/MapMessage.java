@@ -26,7 +26,7 @@ import java.util.TreeMap;
 /**
  * Represents a Message that consists of a Map.
  */
-public class MapMessage implements MultiformatMessage, Serializable {
+public class MapMessage implements MultiformatMessage, StringBuilderFormattable, Serializable {
     /**
      * When set as the format specifier causes the Map to be formatted as XML.
      */
@@ -198,6 +198,18 @@ public class MapMessage implements MultiformatMessage, Serializable {
         return asString();
     }
 
+    /**
+     * Append the message in its default format to the buffer.
+     * @param buffer The StringBuilder to append to.
+     */
+    public void formatTo(StringBuilder buffer) {
+        if (getClass() == MapMessage.class) {
+            appendMap(buffer);
+        } else {
+            buffer.append(getFormattedMessage());
+        }
+    }
+
     /**
      *
      * @param formats An array of Strings that provide extra information about how to format the message.
@@ -24,7 +24,7 @@ import java.io.Serializable;
 /**
  * Handles messages that contain an Object.
  */
-public class ObjectMessage implements Message, Serializable {
+public class ObjectMessage implements Message, StringBuilderFormattable, Serializable {
 
     private static final long serialVersionUID = -5903272448334166185L;
 
@@ -49,6 +49,18 @@ public class ObjectMessage implements Message, Serializable {
         return obj.toString();
     }
 
+    /**
+     * Append the formatted object message to the buffer.
+     * @param buffer The StringBuilder to append to.
+     */
+    public void formatTo(StringBuilder buffer) {
+        if (getClass() == ObjectMessage.class) {
+            buffer.append(obj);
+        } else {
+            buffer.append(getFormattedMessage());
+        }
+    }
+
     /**
      * Returns the object formatted using its toString method.
      * @return the String representation of the object.
@@ -18,12 +18,16 @@ package org.apache.logging.log4j.message;
 
 import java.io.Serializable;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Handles messages that consist of a format string containing '{}' to represent each replaceable token, and
@@ -33,7 +37,7 @@ import java.util.Set;
  * Joern Huxhorn where it is licensed under the LGPL. It has been relicensed here with his permission
  * providing that this attribution remain.
  */
-public class ParameterizedMessage implements Message, Serializable {
+public class ParameterizedMessage implements Message, StringBuilderFormattable, Serializable {
 
     /**
      * Prefix for recursion.
@@ -69,6 +73,11 @@ public class ParameterizedMessage implements Message, Serializable {
     private static final char DELIM_STOP = '}';
     private static final char ESCAPE_CHAR = '\\';
 
+    private static final int MAX_COMPILED_PATTERNS = 1000;
+
+    private static final ConcurrentMap<String, String[]> COMPILED_PATTERNS =
+        new ConcurrentHashMap<String, String[]>();
+
     private String messagePattern;
     private String[] stringArgs;
     private transient Object[] argArray;
@@ -179,6 +188,34 @@ public class ParameterizedMessage implements Message, Serializable {
         return formattedMessage;
     }
 
+    /**
+     * Append the formatted message to the buffer without creating an intermediate String. Subclasses may
+     * override {@link #getFormattedMessage()} or {@link #formatMessage(String, String[])}, so their
+     * formatted message is appended as is.
+     * @param buffer The StringBuilder to append to.
+     */
+    public void formatTo(StringBuilder buffer) {
+        if (getClass() == ParameterizedMessage.class) {
+            formatParametersTo(buffer);
+        } else {
+            buffer.append(getFormattedMessage());
+        }
+    }
+
+    /**
+     * Appends the message pattern with the parameters substituted to the buffer. This bypasses
+     * {@link #getFormattedMessage()} and {@link #formatMessage(String, String[])} and may only be used by
+     * classes that override neither.
+     * @param buffer The StringBuilder to append to.
+     */
+    protected final void formatParametersTo(StringBuilder buffer) {
+        if (formattedMessage != null) {
+            buffer.append(formattedMessage);
+        } else {
+            formatTo(buffer, messagePattern, stringArgs);
+        }
+    }
+
     /**
      * Returns the message pattern.
      * @return the message pattern.
@@ -288,56 +325,33 @@ public class ParameterizedMessage implements Message, Serializable {
         if (messagePattern == null || arguments == null || arguments.length == 0) {
             return messagePattern;
         }
+        StringBuilder result = new StringBuilder(messagePattern.length() + arguments.length * 8);
+        formatTo(result, messagePattern, arguments);
+        return result.toString();
+    }
 
-        StringBuilder result = new StringBuilder();
-        int escapeCounter = 0;
-        int currentArgument = 0;
-        for (int i = 0; i < messagePattern.length(); i++) {
-            char curChar = messagePattern.charAt(i);
-            if (curChar == ESCAPE_CHAR) {
-                escapeCounter++;
+    /**
+     * Replace placeholders in the given messagePattern with arguments, appending the result to the buffer.
+     *
+     * @param buffer         the StringBuilder to append to.
+     * @param messagePattern the message pattern containing placeholders.
+     * @param arguments      the arguments to be used to replace placeholders.
+     */
+    public static void formatTo(StringBuilder buffer, String messagePattern, Object[] arguments) {
+        if (messagePattern == null || arguments == null || arguments.length == 0) {
+            buffer.append(messagePattern);
+            return;
+        }
+        String[] segments = compile(messagePattern);
+        buffer.append(segments[0]);
+        for (int i = 1; i < segments.length; ++i) {
+            if (i <= arguments.length) {
+                buffer.append(arguments[i - 1]);
             } else {
-                if (curChar == DELIM_START) {
-                    if (i < messagePattern.length() - 1) {
-                        if (messagePattern.charAt(i + 1) == DELIM_STOP) {
-                            // write escaped escape chars
-                            int escapedEscapes = escapeCounter / 2;
-                            for (int j = 0; j < escapedEscapes; j++) {
-                                result.append(ESCAPE_CHAR);
-                            }
-
-                            if (escapeCounter % 2 == 1) {
-                                // i.e. escaped
-                                // write escaped escape chars
-                                result.append(DELIM_START);
-                                result.append(DELIM_STOP);
-                            } else {
-                                // unescaped
-                                if (currentArgument < arguments.length) {
-                                    result.append(arguments[currentArgument]);
-                                } else {
-                                    result.append(DELIM_START).append(DELIM_STOP);
-                                }
-                                currentArgument++;
-                            }
-                            i++;
-                            escapeCounter = 0;
-                            continue;
-                        }
-                    }
-                }
-                // any other char beside ESCAPE or DELIM_START/STOP-combo
-                // write unescaped escape chars
-                if (escapeCounter > 0) {
-                    for (int j = 0; j < escapeCounter; j++) {
-                        result.append(ESCAPE_CHAR);
-                    }
-                    escapeCounter = 0;
-                }
-                result.append(curChar);
+                buffer.append(DELIM_START).append(DELIM_STOP);
             }
+            buffer.append(segments[i]);
         }
-        return result.toString();
     }
 
     /**
@@ -347,37 +361,69 @@ public class ParameterizedMessage implements Message, Serializable {
      * @return the number of unescaped placeholders.
      */
     public static int countArgumentPlaceholders(String messagePattern) {
-        if (messagePattern == null) {
+        if (messagePattern == null || messagePattern.indexOf(DELIM_START) == -1) {
+            // special case, no placeholders at all.
             return 0;
         }
+        return compile(messagePattern).length - 1;
+    }
 
-        int delim = messagePattern.indexOf(DELIM_START);
-
-        if (delim == -1) {
-            // special case, no placeholders at all.
-            return 0;
+    /**
+     * Returns the literal text between the placeholders of the pattern, scanning the pattern only the first
+     * time it is seen. A pattern with n placeholders yields n + 1 segments.
+     * @param messagePattern The message pattern.
+     * @return The literal segments of the pattern with escapes already resolved.
+     */
+    static String[] compile(String messagePattern) {
+        String[] segments = COMPILED_PATTERNS.get(messagePattern);
+        if (segments == null) {
+            segments = parse(messagePattern);
+            // Patterns built by concatenating values would otherwise fill the cache without bound.
+            if (COMPILED_PATTERNS.size() < MAX_COMPILED_PATTERNS) {
+                COMPILED_PATTERNS.putIfAbsent(messagePattern, segments);
+            }
         }
-        int result = 0;
-        boolean isEscaped = false;
-        for (int i = 0; i < messagePattern.length(); i++) {
+        return segments;
+    }
+
+    private static String[] parse(String messagePattern) {
+        List<String> segments = new ArrayList<String>();
+        StringBuilder current = new StringBuilder();
+        int escapeCounter = 0;
+        int length = messagePattern.length();
+        for (int i = 0; i < length; i++) {
             char curChar = messagePattern.charAt(i);
             if (curChar == ESCAPE_CHAR) {
-                isEscaped = !isEscaped;
-            } else if (curChar == DELIM_START) {
-                if (!isEscaped) {
-                    if (i < messagePattern.length() - 1) {
-                        if (messagePattern.charAt(i + 1) == DELIM_STOP) {
-                            result++;
-                            i++;
-                        }
-                    }
+                escapeCounter++;
+                continue;
+            }
+            if (curChar == DELIM_START && i < length - 1 && messagePattern.charAt(i + 1) == DELIM_STOP) {
+                // write escaped escape chars
+                int escapedEscapes = escapeCounter / 2;
+                for (int j = 0; j < escapedEscapes; j++) {
+                    current.append(ESCAPE_CHAR);
                 }
-                isEscaped = false;
-            } else {
-                isEscaped = false;
+                if (escapeCounter % 2 == 1) {
+                    // i.e. escaped
+                    current.append(DELIM_START).append(DELIM_STOP);
+                } else {
+                    segments.add(current.toString());
+                    current.setLength(0);
+                }
+                i++;
+                escapeCounter = 0;
+                continue;
+            }
+            // any other char beside ESCAPE or DELIM_START/STOP-combo
+            // write unescaped escape chars
+            for (int j = 0; j < escapeCounter; j++) {
+                current.append(ESCAPE_CHAR);
             }
+            escapeCounter = 0;
+            current.append(curChar);
         }
-        return result;
+        segments.add(current.toString());
+        return segments.toArray(new String[segments.size()]);
     }
 
     /**
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.message;
+
+/**
+ * A message using the same '{}' placeholders as {@link ParameterizedMessage} whose parameters are long, int
+ * or double values. The values are kept unboxed and are rendered directly into the layout's buffer, so hot
+ * counters can be logged without creating wrapper objects.
+ * <pre>
+ * logger.debug(new PrimitiveParameterizedMessage("latency={} count={}").add(nanos).add(count));
+ * </pre>
+ * <p>
+ * An instance may be reused by the thread that owns it by calling {@link #clear()} once the logging call has
+ * returned. This is only safe when the events are not handed to another thread, as is the case with
+ * asynchronous appenders.
+ * </p>
+ */
+public class PrimitiveParameterizedMessage implements Message, StringBuilderFormattable {
+
+    private static final long serialVersionUID = 4216428741468389155L;
+
+    private static final int HASHVAL = 31;
+
+    private final String messagePattern;
+    private long[] values;
+    private boolean[] doubles;
+    private int count;
+    private transient String formattedMessage;
+
+    /**
+     * Create the message.
+     * @param messagePattern The message pattern containing "{}" placeholders.
+     */
+    public PrimitiveParameterizedMessage(String messagePattern) {
+        this.messagePattern = messagePattern;
+        int size = ParameterizedMessage.countArgumentPlaceholders(messagePattern);
+        this.values = new long[size];
+        this.doubles = new boolean[size];
+    }
+
+    /**
+     * Add the next parameter.
+     * @param value The parameter value.
+     * @return This message.
+     */
+    public PrimitiveParameterizedMessage add(long value) {
+        store(value, false);
+        return this;
+    }
+
+    /**
+     * Add the next parameter.
+     * @param value The parameter value.
+     * @return This message.
+     */
+    public PrimitiveParameterizedMessage add(int value) {
+        store(value, false);
+        return this;
+    }
+
+    /**
+     * Add the next parameter.
+     * @param value The parameter value.
+     * @return This message.
+     */
+    public PrimitiveParameterizedMessage add(double value) {
+        store(Double.doubleToRawLongBits(value), true);
+        return this;
+    }
+
+    /**
+     * Remove all the parameters so the message can be reused with the same pattern.
+     * @return This message.
+     */
+    public PrimitiveParameterizedMessage clear() {
+        count = 0;
+        formattedMessage = null;
+        return this;
+    }
+
+    private void store(long bits, boolean isDouble) {
+        if (count == values.length) {
+            int size = values.length * 2 + 1;
+            long[] newValues = new long[size];
+            boolean[] newDoubles = new boolean[size];
+            System.arraycopy(values, 0, newValues, 0, count);
+            System.arraycopy(doubles, 0, newDoubles, 0, count);
+            values = newValues;
+            doubles = newDoubles;
+        }
+        values[count] = bits;
+        doubles[count] = isDouble;
+        ++count;
+        formattedMessage = null;
+    }
+
+    /**
+     * Return the formatted message.
+     * @return the formatted message.
+     */
+    public String getFormattedMessage() {
+        if (formattedMessage == null) {
+            StringBuilder sb = new StringBuilder();
+            formatTo(sb);
+            formattedMessage = sb.toString();
+        }
+        return formattedMessage;
+    }
+
+    /**
+     * Append the formatted message to the buffer without boxing the parameters.
+     * @param buffer The StringBuilder to append to.
+     */
+    public void formatTo(StringBuilder buffer) {
+        if (formattedMessage != null) {
+            buffer.append(formattedMessage);
+            return;
+        }
+        if (messagePattern == null || count == 0) {
+            buffer.append(messagePattern);
+            return;
+        }
+        String[] segments = ParameterizedMessage.compile(messagePattern);
+        buffer.append(segments[0]);
+        for (int i = 1; i < segments.length; ++i) {
+            if (i <= count) {
+                appendValue(buffer, i - 1);
+            } else {
+                buffer.append("{}");
+            }
+            buffer.append(segments[i]);
+        }
+    }
+
+    private void appendValue(StringBuilder buffer, int index) {
+        if (doubles[index]) {
+            buffer.append(Double.longBitsToDouble(values[index]));
+        } else {
+            buffer.append(values[index]);
+        }
+    }
+
+    /**
+     * Returns the message pattern.
+     * @return the message pattern.
+     */
+    public String getMessageFormat() {
+        return messagePattern;
+    }
+
+    /**
+     * Returns the parameters as Long and Double objects.
+     * @return the message parameters.
+     */
+    public Object[] getParameters() {
+        Object[] params = new Object[count];
+        for (int i = 0; i < count; ++i) {
+            if (doubles[i]) {
+                params[i] = Double.valueOf(Double.longBitsToDouble(values[i]));
+            } else {
+                params[i] = Long.valueOf(values[i]);
+            }
+        }
+        return params;
+    }
+
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        PrimitiveParameterizedMessage that = (PrimitiveParameterizedMessage) o;
+
+        if (messagePattern != null ? !messagePattern.equals(that.messagePattern) : that.messagePattern != null) {
+            return false;
+        }
+        if (count != that.count) {
+            return false;
+        }
+        for (int i = 0; i < count; ++i) {
+            if (values[i] != that.values[i] || doubles[i] != that.doubles[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int hashCode() {
+        int result = messagePattern != null ? messagePattern.hashCode() : 0;
+        for (int i = 0; i < count; ++i) {
+            result = HASHVAL * result + (int) (values[i] ^ (values[i] >>> 32));
+        }
+        return result;
+    }
+
+    public String toString() {
+        return "PrimitiveParameterizedMessage[messagePattern=" + messagePattern + ", parameters=" + count + "]";
+    }
+}
@@ -21,7 +21,7 @@ import java.io.Serializable;
 /**
  * The simplest possible implementation of Message. It just returns the String given as the constructor argument.
  */
-public class SimpleMessage implements Message, Serializable {
+public class SimpleMessage implements Message, StringBuilderFormattable, Serializable {
     private static final long serialVersionUID = -8398002534962715992L;
 
     private final String message;
@@ -49,6 +49,18 @@ public class SimpleMessage implements Message, Serializable {
         return message;
     }
 
+    /**
+     * Append the message to the buffer.
+     * @param buffer The StringBuilder to append to.
+     */
+    public void formatTo(StringBuilder buffer) {
+        if (getClass() == SimpleMessage.class) {
+            buffer.append(message);
+        } else {
+            buffer.append(getFormattedMessage());
+        }
+    }
+
     /**
      * Return the message.
      * @return the message.
@@ -203,13 +203,17 @@ public class StructuredDataMessage extends MapMessage implements MultiformatMess
      */
     public final String asString(String format, StructuredDataId structuredDataId) {
         StringBuilder sb = new StringBuilder();
-        boolean full = FULL.equals(format);
+        asString(FULL.equals(format), structuredDataId, sb);
+        return sb.toString();
+    }
+
+    private void asString(boolean full, StructuredDataId structuredDataId, StringBuilder sb) {
         if (full) {
             String type = getType();
             if (type == null) {
-                return sb.toString();
+                return;
             }
-            sb.append(getType()).append(" ");
+            sb.append(type).append(" ");
         }
         StructuredDataId id = getId();
         if (id != null) {
@@ -218,7 +222,7 @@ public class StructuredDataMessage extends MapMessage implements MultiformatMess
             id = structuredDataId;
         }
         if (id == null || id.getName() == null) {
-            return sb.toString();
+            return;
         }
         sb.append("[");
         sb.append(id);
@@ -231,7 +235,6 @@ public class StructuredDataMessage extends MapMessage implements MultiformatMess
                 sb.append(" ").append(msg);
             }
         }
-        return sb.toString();
     }
 
     /**
@@ -243,6 +246,19 @@ public class StructuredDataMessage extends MapMessage implements MultiformatMess
         return asString(FULL, null);
     }
 
+    /**
+     * Append the message, formatted as described in RFC 5424, to the buffer.
+     * @param buffer The StringBuilder to append to.
+     */
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        if (getClass() == StructuredDataMessage.class) {
+            asString(true, null, buffer);
+        } else {
+            buffer.append(getFormattedMessage());
+        }
+    }
+
     /**
      * Format the message according the the specified format.
      * @param formats An array of Strings that provide extra information about how to format the message.
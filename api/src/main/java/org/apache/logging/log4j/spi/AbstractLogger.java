@@ -20,10 +20,13 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.message.LazyMessage;
 import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.MessageSupplier;
 import org.apache.logging.log4j.message.ObjectMessage;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.Supplier;
 
 /**
  * Base implementation of a Logger. It is highly recommended that any Logger implementation extend this class.
@@ -280,7 +283,7 @@ public abstract class AbstractLogger implements Logger {
      */
     public void trace(String message, Object... params) {
         if (isEnabled(Level.TRACE, null, message, params)) {
-            ParameterizedMessage msg = new ParameterizedMessage(message, params);
+            ParameterizedMessage msg = newParameterizedMessage(message, params);
             log(null, FQCN, Level.TRACE, msg, msg.getThrowable());
         }
     }
@@ -294,11 +297,486 @@ public abstract class AbstractLogger implements Logger {
      */
     public void trace(Marker marker, String message, Object... params) {
         if (isEnabled(Level.TRACE, marker, message, params)) {
-            ParameterizedMessage msg = new ParameterizedMessage(message, params);
+            ParameterizedMessage msg = newParameterizedMessage(message, params);
             log(marker, FQCN, Level.TRACE, msg, msg.getThrowable());
         }
     }
 
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     */
+    public void trace(String message, Object p1) {
+        if (isEnabled(Level.TRACE, null, message, p1)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1});
+            log(null, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     */
+    public void trace(String message, Object p1, Object p2) {
+        if (isEnabled(Level.TRACE, null, message, p1, p2)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2});
+            log(null, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     */
+    public void trace(String message, Object p1, Object p2, Object p3) {
+        if (isEnabled(Level.TRACE, null, message, p1, p2, p3)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3});
+            log(null, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     */
+    public void trace(String message, Object p1, Object p2, Object p3, Object p4) {
+        if (isEnabled(Level.TRACE, null, message, p1, p2, p3, p4)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4});
+            log(null, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     */
+    public void trace(String message, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (isEnabled(Level.TRACE, null, message, p1, p2, p3, p4, p5)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5});
+            log(null, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     */
+    public void trace(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (isEnabled(Level.TRACE, null, message, p1, p2, p3, p4, p5, p6)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6});
+            log(null, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     */
+    public void trace(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (isEnabled(Level.TRACE, null, message, p1, p2, p3, p4, p5, p6, p7)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7});
+            log(null, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     */
+    public void trace(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                      Object p8) {
+        if (isEnabled(Level.TRACE, null, message, p1, p2, p3, p4, p5, p6, p7, p8)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8});
+            log(null, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     */
+    public void trace(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                      Object p8, Object p9) {
+        if (isEnabled(Level.TRACE, null, message, p1, p2, p3, p4, p5, p6, p7, p8, p9)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9});
+            log(null, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     * @param p10 the tenth parameter.
+     */
+    public void trace(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                      Object p8, Object p9, Object p10) {
+        if (isEnabled(Level.TRACE, null, message, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9, p10});
+            log(null, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     */
+    public void trace(Marker marker, String message, Object p1) {
+        if (isEnabled(Level.TRACE, marker, message, p1)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1});
+            log(marker, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     */
+    public void trace(Marker marker, String message, Object p1, Object p2) {
+        if (isEnabled(Level.TRACE, marker, message, p1, p2)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2});
+            log(marker, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     */
+    public void trace(Marker marker, String message, Object p1, Object p2, Object p3) {
+        if (isEnabled(Level.TRACE, marker, message, p1, p2, p3)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3});
+            log(marker, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     */
+    public void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4) {
+        if (isEnabled(Level.TRACE, marker, message, p1, p2, p3, p4)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4});
+            log(marker, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     */
+    public void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (isEnabled(Level.TRACE, marker, message, p1, p2, p3, p4, p5)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5});
+            log(marker, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     */
+    public void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (isEnabled(Level.TRACE, marker, message, p1, p2, p3, p4, p5, p6)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6});
+            log(marker, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     */
+    public void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7) {
+        if (isEnabled(Level.TRACE, marker, message, p1, p2, p3, p4, p5, p6, p7)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7});
+            log(marker, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     */
+    public void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7, Object p8) {
+        if (isEnabled(Level.TRACE, marker, message, p1, p2, p3, p4, p5, p6, p7, p8)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8});
+            log(marker, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     */
+    public void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7, Object p8, Object p9) {
+        if (isEnabled(Level.TRACE, marker, message, p1, p2, p3, p4, p5, p6, p7, p8, p9)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9});
+            log(marker, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>TRACE</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     * @param p10 the tenth parameter.
+     */
+    public void trace(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7, Object p8, Object p9, Object p10) {
+        if (isEnabled(Level.TRACE, marker, message, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9, p10});
+            log(marker, FQCN, Level.TRACE, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the Message to log.
+     */
+    public void trace(MessageSupplier msgSupplier) {
+        if (isEnabled(Level.TRACE, null, msgSupplier, null)) {
+            log(null, FQCN, Level.TRACE, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the Message to log.
+     * @param t A Throwable or null.
+     */
+    public void trace(MessageSupplier msgSupplier, Throwable t) {
+        if (isEnabled(Level.TRACE, null, msgSupplier, t)) {
+            log(null, FQCN, Level.TRACE, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the Message to log.
+     */
+    public void trace(Marker marker, MessageSupplier msgSupplier) {
+        if (isEnabled(Level.TRACE, marker, msgSupplier, null)) {
+            log(marker, FQCN, Level.TRACE, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the Message to log.
+     * @param t A Throwable or null.
+     */
+    public void trace(Marker marker, MessageSupplier msgSupplier, Throwable t) {
+        if (isEnabled(Level.TRACE, marker, msgSupplier, t)) {
+            log(marker, FQCN, Level.TRACE, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the message to log.
+     */
+    public void trace(Supplier<?> msgSupplier) {
+        if (isEnabled(Level.TRACE, null, msgSupplier, null)) {
+            log(null, FQCN, Level.TRACE, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the message to log.
+     * @param t A Throwable or null.
+     */
+    public void trace(Supplier<?> msgSupplier, Throwable t) {
+        if (isEnabled(Level.TRACE, null, msgSupplier, t)) {
+            log(null, FQCN, Level.TRACE, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the message to log.
+     */
+    public void trace(Marker marker, Supplier<?> msgSupplier) {
+        if (isEnabled(Level.TRACE, marker, msgSupplier, null)) {
+            log(marker, FQCN, Level.TRACE, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>TRACE</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the message to log.
+     * @param t A Throwable or null.
+     */
+    public void trace(Marker marker, Supplier<?> msgSupplier, Throwable t) {
+        if (isEnabled(Level.TRACE, marker, msgSupplier, t)) {
+            log(marker, FQCN, Level.TRACE, new LazyMessage(msgSupplier), t);
+        }
+    }
+
     /**
      * Check whether this Logger is enabled for the TRACE  Level.
      *
@@ -475,7 +953,7 @@ public abstract class AbstractLogger implements Logger {
      */
     public void debug(String message, Object... params) {
         if (isEnabled(Level.DEBUG, null, message, params)) {
-            ParameterizedMessage msg = new ParameterizedMessage(message, params);
+            ParameterizedMessage msg = newParameterizedMessage(message, params);
             log(null, FQCN, Level.DEBUG, msg, msg.getThrowable());
         }
     }
@@ -489,27 +967,502 @@ public abstract class AbstractLogger implements Logger {
      */
     public void debug(Marker marker, String message, Object... params) {
         if (isEnabled(Level.DEBUG, marker, message, params)) {
-            ParameterizedMessage msg = new ParameterizedMessage(message, params);
+            ParameterizedMessage msg = newParameterizedMessage(message, params);
             log(marker, FQCN, Level.DEBUG, msg, msg.getThrowable());
         }
     }
 
     /**
-     * Check whether this Logger is enabled for the DEBUG Level.
+     * Log a message with parameters at the <code>DEBUG</code> level.
      *
-     * @return boolean - <code>true</code> if this Logger is enabled for level
-     *         DEBUG, <code>false</code> otherwise.
+     * @param message the message to log.
+     * @param p1 the first parameter.
      */
-    public boolean isDebugEnabled() {
-        return isEnabled(Level.DEBUG, null, null);
+    public void debug(String message, Object p1) {
+        if (isEnabled(Level.DEBUG, null, message, p1)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1});
+            log(null, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
     }
 
     /**
-     * Check whether this Logger is enabled for the DEBUG Level.
+     * Log a message with parameters at the <code>DEBUG</code> level.
      *
-     * @param marker The marker data.
-     * @return boolean - <code>true</code> if this Logger is enabled for level
-     *         DEBUG, <code>false</code> otherwise.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     */
+    public void debug(String message, Object p1, Object p2) {
+        if (isEnabled(Level.DEBUG, null, message, p1, p2)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2});
+            log(null, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     */
+    public void debug(String message, Object p1, Object p2, Object p3) {
+        if (isEnabled(Level.DEBUG, null, message, p1, p2, p3)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3});
+            log(null, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     */
+    public void debug(String message, Object p1, Object p2, Object p3, Object p4) {
+        if (isEnabled(Level.DEBUG, null, message, p1, p2, p3, p4)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4});
+            log(null, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     */
+    public void debug(String message, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (isEnabled(Level.DEBUG, null, message, p1, p2, p3, p4, p5)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5});
+            log(null, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     */
+    public void debug(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (isEnabled(Level.DEBUG, null, message, p1, p2, p3, p4, p5, p6)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6});
+            log(null, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     */
+    public void debug(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (isEnabled(Level.DEBUG, null, message, p1, p2, p3, p4, p5, p6, p7)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7});
+            log(null, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     */
+    public void debug(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                      Object p8) {
+        if (isEnabled(Level.DEBUG, null, message, p1, p2, p3, p4, p5, p6, p7, p8)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8});
+            log(null, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     */
+    public void debug(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                      Object p8, Object p9) {
+        if (isEnabled(Level.DEBUG, null, message, p1, p2, p3, p4, p5, p6, p7, p8, p9)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9});
+            log(null, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     * @param p10 the tenth parameter.
+     */
+    public void debug(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                      Object p8, Object p9, Object p10) {
+        if (isEnabled(Level.DEBUG, null, message, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9, p10});
+            log(null, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     */
+    public void debug(Marker marker, String message, Object p1) {
+        if (isEnabled(Level.DEBUG, marker, message, p1)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1});
+            log(marker, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     */
+    public void debug(Marker marker, String message, Object p1, Object p2) {
+        if (isEnabled(Level.DEBUG, marker, message, p1, p2)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2});
+            log(marker, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     */
+    public void debug(Marker marker, String message, Object p1, Object p2, Object p3) {
+        if (isEnabled(Level.DEBUG, marker, message, p1, p2, p3)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3});
+            log(marker, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     */
+    public void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4) {
+        if (isEnabled(Level.DEBUG, marker, message, p1, p2, p3, p4)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4});
+            log(marker, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     */
+    public void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (isEnabled(Level.DEBUG, marker, message, p1, p2, p3, p4, p5)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5});
+            log(marker, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     */
+    public void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (isEnabled(Level.DEBUG, marker, message, p1, p2, p3, p4, p5, p6)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6});
+            log(marker, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     */
+    public void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7) {
+        if (isEnabled(Level.DEBUG, marker, message, p1, p2, p3, p4, p5, p6, p7)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7});
+            log(marker, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     */
+    public void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7, Object p8) {
+        if (isEnabled(Level.DEBUG, marker, message, p1, p2, p3, p4, p5, p6, p7, p8)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8});
+            log(marker, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     */
+    public void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7, Object p8, Object p9) {
+        if (isEnabled(Level.DEBUG, marker, message, p1, p2, p3, p4, p5, p6, p7, p8, p9)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9});
+            log(marker, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>DEBUG</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     * @param p10 the tenth parameter.
+     */
+    public void debug(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7, Object p8, Object p9, Object p10) {
+        if (isEnabled(Level.DEBUG, marker, message, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9, p10});
+            log(marker, FQCN, Level.DEBUG, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the Message to log.
+     */
+    public void debug(MessageSupplier msgSupplier) {
+        if (isEnabled(Level.DEBUG, null, msgSupplier, null)) {
+            log(null, FQCN, Level.DEBUG, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the Message to log.
+     * @param t A Throwable or null.
+     */
+    public void debug(MessageSupplier msgSupplier, Throwable t) {
+        if (isEnabled(Level.DEBUG, null, msgSupplier, t)) {
+            log(null, FQCN, Level.DEBUG, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the Message to log.
+     */
+    public void debug(Marker marker, MessageSupplier msgSupplier) {
+        if (isEnabled(Level.DEBUG, marker, msgSupplier, null)) {
+            log(marker, FQCN, Level.DEBUG, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the Message to log.
+     * @param t A Throwable or null.
+     */
+    public void debug(Marker marker, MessageSupplier msgSupplier, Throwable t) {
+        if (isEnabled(Level.DEBUG, marker, msgSupplier, t)) {
+            log(marker, FQCN, Level.DEBUG, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the message to log.
+     */
+    public void debug(Supplier<?> msgSupplier) {
+        if (isEnabled(Level.DEBUG, null, msgSupplier, null)) {
+            log(null, FQCN, Level.DEBUG, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the message to log.
+     * @param t A Throwable or null.
+     */
+    public void debug(Supplier<?> msgSupplier, Throwable t) {
+        if (isEnabled(Level.DEBUG, null, msgSupplier, t)) {
+            log(null, FQCN, Level.DEBUG, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the message to log.
+     */
+    public void debug(Marker marker, Supplier<?> msgSupplier) {
+        if (isEnabled(Level.DEBUG, marker, msgSupplier, null)) {
+            log(marker, FQCN, Level.DEBUG, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>DEBUG</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the message to log.
+     * @param t A Throwable or null.
+     */
+    public void debug(Marker marker, Supplier<?> msgSupplier, Throwable t) {
+        if (isEnabled(Level.DEBUG, marker, msgSupplier, t)) {
+            log(marker, FQCN, Level.DEBUG, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Check whether this Logger is enabled for the DEBUG Level.
+     *
+     * @return boolean - <code>true</code> if this Logger is enabled for level
+     *         DEBUG, <code>false</code> otherwise.
+     */
+    public boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG, null, null);
+    }
+
+    /**
+     * Check whether this Logger is enabled for the DEBUG Level.
+     *
+     * @param marker The marker data.
+     * @return boolean - <code>true</code> if this Logger is enabled for level
+     *         DEBUG, <code>false</code> otherwise.
      */
     public boolean isDebugEnabled(Marker marker) {
         return isEnabled(Level.DEBUG, marker, (Object) null, null);
@@ -672,7 +1625,7 @@ public abstract class AbstractLogger implements Logger {
      */
     public void info(String message, Object... params) {
         if (isEnabled(Level.INFO, null, message, params)) {
-            ParameterizedMessage msg = new ParameterizedMessage(message, params);
+            ParameterizedMessage msg = newParameterizedMessage(message, params);
             log(null, FQCN, Level.INFO, msg, msg.getThrowable());
         }
     }
@@ -686,23 +1639,498 @@ public abstract class AbstractLogger implements Logger {
      */
     public void info(Marker marker, String message, Object... params) {
         if (isEnabled(Level.INFO, marker, message, params)) {
-            ParameterizedMessage msg = new ParameterizedMessage(message, params);
+            ParameterizedMessage msg = newParameterizedMessage(message, params);
             log(marker, FQCN, Level.INFO, msg, msg.getThrowable());
         }
     }
 
     /**
-     * Check whether this Logger is enabled for the INFO Level.
+     * Log a message with parameters at the <code>INFO</code> level.
      *
-     * @return boolean - <code>true</code> if this Logger is enabled for level
-     *         INFO, <code>false</code> otherwise.
+     * @param message the message to log.
+     * @param p1 the first parameter.
      */
-    public boolean isInfoEnabled() {
-        return isEnabled(Level.INFO, null, (Object) null, null);
+    public void info(String message, Object p1) {
+        if (isEnabled(Level.INFO, null, message, p1)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1});
+            log(null, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
     }
 
     /**
-     * Check whether this Logger is enabled for the INFO Level.
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     */
+    public void info(String message, Object p1, Object p2) {
+        if (isEnabled(Level.INFO, null, message, p1, p2)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2});
+            log(null, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     */
+    public void info(String message, Object p1, Object p2, Object p3) {
+        if (isEnabled(Level.INFO, null, message, p1, p2, p3)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3});
+            log(null, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     */
+    public void info(String message, Object p1, Object p2, Object p3, Object p4) {
+        if (isEnabled(Level.INFO, null, message, p1, p2, p3, p4)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4});
+            log(null, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     */
+    public void info(String message, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (isEnabled(Level.INFO, null, message, p1, p2, p3, p4, p5)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5});
+            log(null, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     */
+    public void info(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (isEnabled(Level.INFO, null, message, p1, p2, p3, p4, p5, p6)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6});
+            log(null, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     */
+    public void info(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (isEnabled(Level.INFO, null, message, p1, p2, p3, p4, p5, p6, p7)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7});
+            log(null, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     */
+    public void info(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                     Object p8) {
+        if (isEnabled(Level.INFO, null, message, p1, p2, p3, p4, p5, p6, p7, p8)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8});
+            log(null, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     */
+    public void info(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                     Object p8, Object p9) {
+        if (isEnabled(Level.INFO, null, message, p1, p2, p3, p4, p5, p6, p7, p8, p9)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9});
+            log(null, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     * @param p10 the tenth parameter.
+     */
+    public void info(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                     Object p8, Object p9, Object p10) {
+        if (isEnabled(Level.INFO, null, message, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9, p10});
+            log(null, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     */
+    public void info(Marker marker, String message, Object p1) {
+        if (isEnabled(Level.INFO, marker, message, p1)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1});
+            log(marker, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     */
+    public void info(Marker marker, String message, Object p1, Object p2) {
+        if (isEnabled(Level.INFO, marker, message, p1, p2)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2});
+            log(marker, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     */
+    public void info(Marker marker, String message, Object p1, Object p2, Object p3) {
+        if (isEnabled(Level.INFO, marker, message, p1, p2, p3)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3});
+            log(marker, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     */
+    public void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4) {
+        if (isEnabled(Level.INFO, marker, message, p1, p2, p3, p4)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4});
+            log(marker, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     */
+    public void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (isEnabled(Level.INFO, marker, message, p1, p2, p3, p4, p5)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5});
+            log(marker, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     */
+    public void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (isEnabled(Level.INFO, marker, message, p1, p2, p3, p4, p5, p6)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6});
+            log(marker, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     */
+    public void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                     Object p7) {
+        if (isEnabled(Level.INFO, marker, message, p1, p2, p3, p4, p5, p6, p7)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7});
+            log(marker, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     */
+    public void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                     Object p7, Object p8) {
+        if (isEnabled(Level.INFO, marker, message, p1, p2, p3, p4, p5, p6, p7, p8)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8});
+            log(marker, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     */
+    public void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                     Object p7, Object p8, Object p9) {
+        if (isEnabled(Level.INFO, marker, message, p1, p2, p3, p4, p5, p6, p7, p8, p9)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9});
+            log(marker, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>INFO</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     * @param p10 the tenth parameter.
+     */
+    public void info(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                     Object p7, Object p8, Object p9, Object p10) {
+        if (isEnabled(Level.INFO, marker, message, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9, p10});
+            log(marker, FQCN, Level.INFO, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message at the <code>INFO</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the Message to log.
+     */
+    public void info(MessageSupplier msgSupplier) {
+        if (isEnabled(Level.INFO, null, msgSupplier, null)) {
+            log(null, FQCN, Level.INFO, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>INFO</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the Message to log.
+     * @param t A Throwable or null.
+     */
+    public void info(MessageSupplier msgSupplier, Throwable t) {
+        if (isEnabled(Level.INFO, null, msgSupplier, t)) {
+            log(null, FQCN, Level.INFO, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>INFO</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the Message to log.
+     */
+    public void info(Marker marker, MessageSupplier msgSupplier) {
+        if (isEnabled(Level.INFO, marker, msgSupplier, null)) {
+            log(marker, FQCN, Level.INFO, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>INFO</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the Message to log.
+     * @param t A Throwable or null.
+     */
+    public void info(Marker marker, MessageSupplier msgSupplier, Throwable t) {
+        if (isEnabled(Level.INFO, marker, msgSupplier, t)) {
+            log(marker, FQCN, Level.INFO, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>INFO</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the message to log.
+     */
+    public void info(Supplier<?> msgSupplier) {
+        if (isEnabled(Level.INFO, null, msgSupplier, null)) {
+            log(null, FQCN, Level.INFO, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>INFO</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the message to log.
+     * @param t A Throwable or null.
+     */
+    public void info(Supplier<?> msgSupplier, Throwable t) {
+        if (isEnabled(Level.INFO, null, msgSupplier, t)) {
+            log(null, FQCN, Level.INFO, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>INFO</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the message to log.
+     */
+    public void info(Marker marker, Supplier<?> msgSupplier) {
+        if (isEnabled(Level.INFO, marker, msgSupplier, null)) {
+            log(marker, FQCN, Level.INFO, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>INFO</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the message to log.
+     * @param t A Throwable or null.
+     */
+    public void info(Marker marker, Supplier<?> msgSupplier, Throwable t) {
+        if (isEnabled(Level.INFO, marker, msgSupplier, t)) {
+            log(marker, FQCN, Level.INFO, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Check whether this Logger is enabled for the INFO Level.
+     *
+     * @return boolean - <code>true</code> if this Logger is enabled for level
+     *         INFO, <code>false</code> otherwise.
+     */
+    public boolean isInfoEnabled() {
+        return isEnabled(Level.INFO, null, (Object) null, null);
+    }
+
+    /**
+     * Check whether this Logger is enabled for the INFO Level.
      * @param marker The marker data.
      * @return boolean - <code>true</code> if this Logger is enabled for level
      *         INFO, <code>false</code> otherwise.
@@ -867,7 +2295,7 @@ public abstract class AbstractLogger implements Logger {
      */
     public void warn(String message, Object... params) {
         if (isEnabled(Level.WARN, null, message, params)) {
-            ParameterizedMessage msg = new ParameterizedMessage(message, params);
+            ParameterizedMessage msg = newParameterizedMessage(message, params);
             log(null, FQCN, Level.WARN, msg, msg.getThrowable());
         }
     }
@@ -881,25 +2309,500 @@ public abstract class AbstractLogger implements Logger {
      */
     public void warn(Marker marker, String message, Object... params) {
         if (isEnabled(Level.WARN, marker, message, params)) {
-            ParameterizedMessage msg = new ParameterizedMessage(message, params);
+            ParameterizedMessage msg = newParameterizedMessage(message, params);
             log(marker, FQCN, Level.WARN, msg, msg.getThrowable());
         }
     }
 
     /**
-     * Check whether this Logger is enabled for the WARN Level.
+     * Log a message with parameters at the <code>WARN</code> level.
      *
-     * @return boolean - <code>true</code> if this Logger is enabled for level
-     *         WARN, <code>false</code> otherwise.
+     * @param message the message to log.
+     * @param p1 the first parameter.
      */
-    public boolean isWarnEnabled() {
-        return isEnabled(Level.WARN, null, (Object) null, null);
+    public void warn(String message, Object p1) {
+        if (isEnabled(Level.WARN, null, message, p1)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1});
+            log(null, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
     }
 
     /**
-     * Check whether this Logger is enabled for the WARN Level.
+     * Log a message with parameters at the <code>WARN</code> level.
      *
-     * @param marker The marker data.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     */
+    public void warn(String message, Object p1, Object p2) {
+        if (isEnabled(Level.WARN, null, message, p1, p2)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2});
+            log(null, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     */
+    public void warn(String message, Object p1, Object p2, Object p3) {
+        if (isEnabled(Level.WARN, null, message, p1, p2, p3)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3});
+            log(null, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     */
+    public void warn(String message, Object p1, Object p2, Object p3, Object p4) {
+        if (isEnabled(Level.WARN, null, message, p1, p2, p3, p4)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4});
+            log(null, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     */
+    public void warn(String message, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (isEnabled(Level.WARN, null, message, p1, p2, p3, p4, p5)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5});
+            log(null, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     */
+    public void warn(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (isEnabled(Level.WARN, null, message, p1, p2, p3, p4, p5, p6)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6});
+            log(null, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     */
+    public void warn(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (isEnabled(Level.WARN, null, message, p1, p2, p3, p4, p5, p6, p7)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7});
+            log(null, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     */
+    public void warn(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                     Object p8) {
+        if (isEnabled(Level.WARN, null, message, p1, p2, p3, p4, p5, p6, p7, p8)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8});
+            log(null, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     */
+    public void warn(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                     Object p8, Object p9) {
+        if (isEnabled(Level.WARN, null, message, p1, p2, p3, p4, p5, p6, p7, p8, p9)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9});
+            log(null, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     * @param p10 the tenth parameter.
+     */
+    public void warn(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                     Object p8, Object p9, Object p10) {
+        if (isEnabled(Level.WARN, null, message, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9, p10});
+            log(null, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     */
+    public void warn(Marker marker, String message, Object p1) {
+        if (isEnabled(Level.WARN, marker, message, p1)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1});
+            log(marker, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     */
+    public void warn(Marker marker, String message, Object p1, Object p2) {
+        if (isEnabled(Level.WARN, marker, message, p1, p2)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2});
+            log(marker, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     */
+    public void warn(Marker marker, String message, Object p1, Object p2, Object p3) {
+        if (isEnabled(Level.WARN, marker, message, p1, p2, p3)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3});
+            log(marker, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     */
+    public void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4) {
+        if (isEnabled(Level.WARN, marker, message, p1, p2, p3, p4)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4});
+            log(marker, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     */
+    public void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (isEnabled(Level.WARN, marker, message, p1, p2, p3, p4, p5)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5});
+            log(marker, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     */
+    public void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (isEnabled(Level.WARN, marker, message, p1, p2, p3, p4, p5, p6)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6});
+            log(marker, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     */
+    public void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                     Object p7) {
+        if (isEnabled(Level.WARN, marker, message, p1, p2, p3, p4, p5, p6, p7)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7});
+            log(marker, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     */
+    public void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                     Object p7, Object p8) {
+        if (isEnabled(Level.WARN, marker, message, p1, p2, p3, p4, p5, p6, p7, p8)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8});
+            log(marker, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     */
+    public void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                     Object p7, Object p8, Object p9) {
+        if (isEnabled(Level.WARN, marker, message, p1, p2, p3, p4, p5, p6, p7, p8, p9)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9});
+            log(marker, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>WARN</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     * @param p10 the tenth parameter.
+     */
+    public void warn(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                     Object p7, Object p8, Object p9, Object p10) {
+        if (isEnabled(Level.WARN, marker, message, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9, p10});
+            log(marker, FQCN, Level.WARN, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message at the <code>WARN</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the Message to log.
+     */
+    public void warn(MessageSupplier msgSupplier) {
+        if (isEnabled(Level.WARN, null, msgSupplier, null)) {
+            log(null, FQCN, Level.WARN, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>WARN</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the Message to log.
+     * @param t A Throwable or null.
+     */
+    public void warn(MessageSupplier msgSupplier, Throwable t) {
+        if (isEnabled(Level.WARN, null, msgSupplier, t)) {
+            log(null, FQCN, Level.WARN, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>WARN</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the Message to log.
+     */
+    public void warn(Marker marker, MessageSupplier msgSupplier) {
+        if (isEnabled(Level.WARN, marker, msgSupplier, null)) {
+            log(marker, FQCN, Level.WARN, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>WARN</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the Message to log.
+     * @param t A Throwable or null.
+     */
+    public void warn(Marker marker, MessageSupplier msgSupplier, Throwable t) {
+        if (isEnabled(Level.WARN, marker, msgSupplier, t)) {
+            log(marker, FQCN, Level.WARN, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>WARN</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the message to log.
+     */
+    public void warn(Supplier<?> msgSupplier) {
+        if (isEnabled(Level.WARN, null, msgSupplier, null)) {
+            log(null, FQCN, Level.WARN, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>WARN</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the message to log.
+     * @param t A Throwable or null.
+     */
+    public void warn(Supplier<?> msgSupplier, Throwable t) {
+        if (isEnabled(Level.WARN, null, msgSupplier, t)) {
+            log(null, FQCN, Level.WARN, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>WARN</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the message to log.
+     */
+    public void warn(Marker marker, Supplier<?> msgSupplier) {
+        if (isEnabled(Level.WARN, marker, msgSupplier, null)) {
+            log(marker, FQCN, Level.WARN, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>WARN</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the message to log.
+     * @param t A Throwable or null.
+     */
+    public void warn(Marker marker, Supplier<?> msgSupplier, Throwable t) {
+        if (isEnabled(Level.WARN, marker, msgSupplier, t)) {
+            log(marker, FQCN, Level.WARN, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Check whether this Logger is enabled for the WARN Level.
+     *
+     * @return boolean - <code>true</code> if this Logger is enabled for level
+     *         WARN, <code>false</code> otherwise.
+     */
+    public boolean isWarnEnabled() {
+        return isEnabled(Level.WARN, null, (Object) null, null);
+    }
+
+    /**
+     * Check whether this Logger is enabled for the WARN Level.
+     *
+     * @param marker The marker data.
      * @return boolean - <code>true</code> if this Logger is enabled for level
      *         WARN, <code>false</code> otherwise.
      */
@@ -1022,261 +2925,1211 @@ public abstract class AbstractLogger implements Logger {
      * @param marker the marker data specific to this log statement.
      * @param message the message object to log.
      */
-    public void error(Marker marker, Object message) {
-        if (isEnabled(Level.ERROR, marker, message, null)) {
-            log(marker, FQCN, Level.ERROR, new ObjectMessage(message), null);
+    public void error(Marker marker, Object message) {
+        if (isEnabled(Level.ERROR, marker, message, null)) {
+            log(marker, FQCN, Level.ERROR, new ObjectMessage(message), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>ERROR</code> level including the
+     * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+     *
+     * @param message the message object to log.
+     * @param t       the exception to log, including its stack trace.
+     */
+    public void error(Object message, Throwable t) {
+        if (isEnabled(Level.ERROR, null, message, t)) {
+            log(null, FQCN, Level.ERROR, new ObjectMessage(message), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>ERROR</code> level including the
+     * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message object to log.
+     * @param t       the exception to log, including its stack trace.
+     */
+    public void error(Marker marker, Object message, Throwable t) {
+        if (isEnabled(Level.ERROR, marker, message, t)) {
+            log(marker, FQCN, Level.ERROR, new ObjectMessage(message), t);
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param message the message to log.
+     * @param params  parameters to the message.
+     */
+    public void error(String message, Object... params) {
+        if (isEnabled(Level.ERROR, null, message, params)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, params);
+            log(null, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param params  parameters to the message.
+     */
+    public void error(Marker marker, String message, Object... params) {
+        if (isEnabled(Level.ERROR, marker, message, params)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, params);
+            log(marker, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     */
+    public void error(String message, Object p1) {
+        if (isEnabled(Level.ERROR, null, message, p1)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1});
+            log(null, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     */
+    public void error(String message, Object p1, Object p2) {
+        if (isEnabled(Level.ERROR, null, message, p1, p2)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2});
+            log(null, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     */
+    public void error(String message, Object p1, Object p2, Object p3) {
+        if (isEnabled(Level.ERROR, null, message, p1, p2, p3)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3});
+            log(null, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     */
+    public void error(String message, Object p1, Object p2, Object p3, Object p4) {
+        if (isEnabled(Level.ERROR, null, message, p1, p2, p3, p4)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4});
+            log(null, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     */
+    public void error(String message, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (isEnabled(Level.ERROR, null, message, p1, p2, p3, p4, p5)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5});
+            log(null, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     */
+    public void error(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (isEnabled(Level.ERROR, null, message, p1, p2, p3, p4, p5, p6)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6});
+            log(null, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     */
+    public void error(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (isEnabled(Level.ERROR, null, message, p1, p2, p3, p4, p5, p6, p7)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7});
+            log(null, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     */
+    public void error(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                      Object p8) {
+        if (isEnabled(Level.ERROR, null, message, p1, p2, p3, p4, p5, p6, p7, p8)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8});
+            log(null, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     */
+    public void error(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                      Object p8, Object p9) {
+        if (isEnabled(Level.ERROR, null, message, p1, p2, p3, p4, p5, p6, p7, p8, p9)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9});
+            log(null, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     * @param p10 the tenth parameter.
+     */
+    public void error(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                      Object p8, Object p9, Object p10) {
+        if (isEnabled(Level.ERROR, null, message, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9, p10});
+            log(null, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     */
+    public void error(Marker marker, String message, Object p1) {
+        if (isEnabled(Level.ERROR, marker, message, p1)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1});
+            log(marker, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     */
+    public void error(Marker marker, String message, Object p1, Object p2) {
+        if (isEnabled(Level.ERROR, marker, message, p1, p2)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2});
+            log(marker, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     */
+    public void error(Marker marker, String message, Object p1, Object p2, Object p3) {
+        if (isEnabled(Level.ERROR, marker, message, p1, p2, p3)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3});
+            log(marker, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     */
+    public void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4) {
+        if (isEnabled(Level.ERROR, marker, message, p1, p2, p3, p4)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4});
+            log(marker, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     */
+    public void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (isEnabled(Level.ERROR, marker, message, p1, p2, p3, p4, p5)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5});
+            log(marker, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     */
+    public void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (isEnabled(Level.ERROR, marker, message, p1, p2, p3, p4, p5, p6)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6});
+            log(marker, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     */
+    public void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7) {
+        if (isEnabled(Level.ERROR, marker, message, p1, p2, p3, p4, p5, p6, p7)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7});
+            log(marker, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     */
+    public void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7, Object p8) {
+        if (isEnabled(Level.ERROR, marker, message, p1, p2, p3, p4, p5, p6, p7, p8)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8});
+            log(marker, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     */
+    public void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7, Object p8, Object p9) {
+        if (isEnabled(Level.ERROR, marker, message, p1, p2, p3, p4, p5, p6, p7, p8, p9)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9});
+            log(marker, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>ERROR</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     * @param p10 the tenth parameter.
+     */
+    public void error(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7, Object p8, Object p9, Object p10) {
+        if (isEnabled(Level.ERROR, marker, message, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9, p10});
+            log(marker, FQCN, Level.ERROR, msg, msg.getThrowable());
+        }
+    }
+
+
+    /**
+     * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the Message to log.
+     */
+    public void error(MessageSupplier msgSupplier) {
+        if (isEnabled(Level.ERROR, null, msgSupplier, null)) {
+            log(null, FQCN, Level.ERROR, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the Message to log.
+     * @param t A Throwable or null.
+     */
+    public void error(MessageSupplier msgSupplier, Throwable t) {
+        if (isEnabled(Level.ERROR, null, msgSupplier, t)) {
+            log(null, FQCN, Level.ERROR, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the Message to log.
+     */
+    public void error(Marker marker, MessageSupplier msgSupplier) {
+        if (isEnabled(Level.ERROR, marker, msgSupplier, null)) {
+            log(marker, FQCN, Level.ERROR, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the Message to log.
+     * @param t A Throwable or null.
+     */
+    public void error(Marker marker, MessageSupplier msgSupplier, Throwable t) {
+        if (isEnabled(Level.ERROR, marker, msgSupplier, t)) {
+            log(marker, FQCN, Level.ERROR, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the message to log.
+     */
+    public void error(Supplier<?> msgSupplier) {
+        if (isEnabled(Level.ERROR, null, msgSupplier, null)) {
+            log(null, FQCN, Level.ERROR, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param msgSupplier the supplier of the message to log.
+     * @param t A Throwable or null.
+     */
+    public void error(Supplier<?> msgSupplier, Throwable t) {
+        if (isEnabled(Level.ERROR, null, msgSupplier, t)) {
+            log(null, FQCN, Level.ERROR, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the message to log.
+     */
+    public void error(Marker marker, Supplier<?> msgSupplier) {
+        if (isEnabled(Level.ERROR, marker, msgSupplier, null)) {
+            log(marker, FQCN, Level.ERROR, new LazyMessage(msgSupplier), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>ERROR</code> level. The supplier is only called if the
+     * logging call is enabled.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the message to log.
+     * @param t A Throwable or null.
+     */
+    public void error(Marker marker, Supplier<?> msgSupplier, Throwable t) {
+        if (isEnabled(Level.ERROR, marker, msgSupplier, t)) {
+            log(marker, FQCN, Level.ERROR, new LazyMessage(msgSupplier), t);
+        }
+    }
+
+    /**
+     * Check whether this Logger is enabled for the ERROR Level.
+     *
+     * @return boolean - <code>true</code> if this Logger is enabled for level
+     *         ERROR, <code>false</code> otherwise.
+     */
+    public boolean isErrorEnabled() {
+        return isEnabled(Level.ERROR, null, (Object) null, null);
+    }
+
+    /**
+     * Check whether this Logger is enabled for the ERROR Level.
+     *
+     * @param marker The marker data.
+     * @return boolean - <code>true</code> if this Logger is enabled for level
+     *         ERROR, <code>false</code> otherwise.
+     */
+    public boolean isErrorEnabled(Marker marker) {
+        return isEnabled(Level.ERROR, marker, (Object) null, null);
+    }
+
+    /**
+     * Log a message with the specific Marker at the ERROR level.
+     *
+     * @param msg the message string to be logged
+     */
+    public void error(Message msg) {
+        if (isEnabled(Level.ERROR, null, msg, null)) {
+            log(null, FQCN, Level.ERROR, msg, null);
+        }
+    }
+
+    /**
+     * Log a message with the specific Marker at the ERROR level.
+     *
+     * @param msg the message string to be logged
+     * @param t   A Throwable or null.
+     */
+    public void error(Message msg, Throwable t) {
+        if (isEnabled(Level.ERROR, null, msg, t)) {
+            log(null, FQCN, Level.ERROR, msg, t);
+        }
+    }
+
+    /**
+     * Log a message with the specific Marker at the ERROR level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg    the message string to be logged
+     */
+    public void error(Marker marker, Message msg) {
+        if (isEnabled(Level.ERROR, null, msg, null)) {
+            log(null, FQCN, Level.ERROR, msg, null);
+        }
+    }
+
+    /**
+     * Log a message with the specific Marker at the ERROR level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg    the message string to be logged
+     * @param t      A Throwable or null.
+     */
+    public void error(Marker marker, Message msg, Throwable t) {
+        if (isEnabled(Level.ERROR, marker, msg, t)) {
+            log(marker, FQCN, Level.ERROR, msg, t);
+        }
+    }
+
+    /**
+     * Log a message object with the {@link org.apache.logging.log4j.Level#FATAL FATAL} level.
+     *
+     * @param message the message object to log.
+     */
+    public void fatal(String message) {
+        if (isEnabled(Level.FATAL, null, message)) {
+            log(null, FQCN, Level.FATAL, new SimpleMessage(message), null);
+        }
+    }
+
+
+    /**
+     * Log a message object with the {@link org.apache.logging.log4j.Level#FATAL FATAL} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message object to log.
+     */
+    public void fatal(Marker marker, String message) {
+        if (isEnabled(Level.FATAL, marker, message)) {
+            log(marker, FQCN, Level.FATAL, new SimpleMessage(message), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>FATAL</code> level including the
+     * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+     *
+     * @param message the message object to log.
+     * @param t       the exception to log, including its stack trace.
+     */
+    public void fatal(String message, Throwable t) {
+        if (isEnabled(Level.FATAL, null, message, t)) {
+            log(null, FQCN, Level.FATAL, new SimpleMessage(message), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>FATAL</code> level including the
+     * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message object to log.
+     * @param t       the exception to log, including its stack trace.
+     */
+    public void fatal(Marker marker, String message, Throwable t) {
+        if (isEnabled(Level.FATAL, marker, message, t)) {
+            log(marker, FQCN, Level.FATAL, new SimpleMessage(message), t);
+        }
+    }
+
+    /**
+     * Log a message object with the {@link org.apache.logging.log4j.Level#FATAL FATAL} level.
+     *
+     * @param message the message object to log.
+     */
+    public void fatal(Object message) {
+        if (isEnabled(Level.FATAL, null, message, null)) {
+            log(null, FQCN, Level.FATAL, new ObjectMessage(message), null);
+        }
+    }
+
+    /**
+     * Log a message object with the {@link org.apache.logging.log4j.Level#FATAL FATAL} level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message object to log.
+     */
+    public void fatal(Marker marker, Object message) {
+        if (isEnabled(Level.FATAL, marker, message, null)) {
+            log(marker, FQCN, Level.FATAL, new ObjectMessage(message), null);
+        }
+    }
+
+    /**
+     * Log a message at the <code>FATAL</code> level including the
+     * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+     *
+     * @param message the message object to log.
+     * @param t       the exception to log, including its stack trace.
+     */
+    public void fatal(Object message, Throwable t) {
+        if (isEnabled(Level.FATAL, null, message, t)) {
+            log(null, FQCN, Level.FATAL, new ObjectMessage(message), t);
+        }
+    }
+
+    /**
+     * Log a message at the <code>FATAL</code> level including the
+     * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message object to log.
+     * @param t       the exception to log, including its stack trace.
+     */
+    public void fatal(Marker marker, Object message, Throwable t) {
+        if (isEnabled(Level.FATAL, marker, message, t)) {
+            log(marker, FQCN, Level.FATAL, new ObjectMessage(message), t);
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>FATAL</code> level.
+     *
+     * @param message the message to log.
+     * @param params  parameters to the message.
+     */
+    public void fatal(String message, Object... params) {
+        if (isEnabled(Level.FATAL, null, message, params)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, params);
+            log(null, FQCN, Level.FATAL, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>FATAL</code> level.
+     *
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param params  parameters to the message.
+     */
+    public void fatal(Marker marker, String message, Object... params) {
+        if (isEnabled(Level.FATAL, marker, message, params)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, params);
+            log(marker, FQCN, Level.FATAL, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>FATAL</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     */
+    public void fatal(String message, Object p1) {
+        if (isEnabled(Level.FATAL, null, message, p1)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1});
+            log(null, FQCN, Level.FATAL, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>FATAL</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     */
+    public void fatal(String message, Object p1, Object p2) {
+        if (isEnabled(Level.FATAL, null, message, p1, p2)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2});
+            log(null, FQCN, Level.FATAL, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>FATAL</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     */
+    public void fatal(String message, Object p1, Object p2, Object p3) {
+        if (isEnabled(Level.FATAL, null, message, p1, p2, p3)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3});
+            log(null, FQCN, Level.FATAL, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>FATAL</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     */
+    public void fatal(String message, Object p1, Object p2, Object p3, Object p4) {
+        if (isEnabled(Level.FATAL, null, message, p1, p2, p3, p4)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4});
+            log(null, FQCN, Level.FATAL, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>FATAL</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     */
+    public void fatal(String message, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (isEnabled(Level.FATAL, null, message, p1, p2, p3, p4, p5)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5});
+            log(null, FQCN, Level.FATAL, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>FATAL</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     */
+    public void fatal(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (isEnabled(Level.FATAL, null, message, p1, p2, p3, p4, p5, p6)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6});
+            log(null, FQCN, Level.FATAL, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>FATAL</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     */
+    public void fatal(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
+        if (isEnabled(Level.FATAL, null, message, p1, p2, p3, p4, p5, p6, p7)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7});
+            log(null, FQCN, Level.FATAL, msg, msg.getThrowable());
+        }
+    }
+
+    /**
+     * Log a message with parameters at the <code>FATAL</code> level.
+     *
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     */
+    public void fatal(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                      Object p8) {
+        if (isEnabled(Level.FATAL, null, message, p1, p2, p3, p4, p5, p6, p7, p8)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8});
+            log(null, FQCN, Level.FATAL, msg, msg.getThrowable());
         }
     }
 
     /**
-     * Log a message at the <code>ERROR</code> level including the
-     * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+     * Log a message with parameters at the <code>FATAL</code> level.
      *
-     * @param message the message object to log.
-     * @param t       the exception to log, including its stack trace.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
      */
-    public void error(Object message, Throwable t) {
-        if (isEnabled(Level.ERROR, null, message, t)) {
-            log(null, FQCN, Level.ERROR, new ObjectMessage(message), t);
+    public void fatal(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                      Object p8, Object p9) {
+        if (isEnabled(Level.FATAL, null, message, p1, p2, p3, p4, p5, p6, p7, p8, p9)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9});
+            log(null, FQCN, Level.FATAL, msg, msg.getThrowable());
         }
     }
 
     /**
-     * Log a message at the <code>ERROR</code> level including the
-     * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+     * Log a message with parameters at the <code>FATAL</code> level.
      *
-     * @param marker the marker data specific to this log statement.
-     * @param message the message object to log.
-     * @param t       the exception to log, including its stack trace.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     * @param p10 the tenth parameter.
      */
-    public void error(Marker marker, Object message, Throwable t) {
-        if (isEnabled(Level.ERROR, marker, message, t)) {
-            log(marker, FQCN, Level.ERROR, new ObjectMessage(message), t);
+    public void fatal(String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7,
+                      Object p8, Object p9, Object p10) {
+        if (isEnabled(Level.FATAL, null, message, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9, p10});
+            log(null, FQCN, Level.FATAL, msg, msg.getThrowable());
         }
     }
 
     /**
-     * Log a message with parameters at the <code>ERROR</code> level.
+     * Log a message with parameters at the <code>FATAL</code> level.
      *
+     * @param marker the marker data specific to this log statement.
      * @param message the message to log.
-     * @param params  parameters to the message.
+     * @param p1 the first parameter.
      */
-    public void error(String message, Object... params) {
-        if (isEnabled(Level.ERROR, null, message, params)) {
-            ParameterizedMessage msg = new ParameterizedMessage(message, params);
-            log(null, FQCN, Level.ERROR, msg, msg.getThrowable());
+    public void fatal(Marker marker, String message, Object p1) {
+        if (isEnabled(Level.FATAL, marker, message, p1)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1});
+            log(marker, FQCN, Level.FATAL, msg, msg.getThrowable());
         }
     }
 
     /**
-     * Log a message with parameters at the <code>ERROR</code> level.
+     * Log a message with parameters at the <code>FATAL</code> level.
      *
      * @param marker the marker data specific to this log statement.
      * @param message the message to log.
-     * @param params  parameters to the message.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
      */
-    public void error(Marker marker, String message, Object... params) {
-        if (isEnabled(Level.ERROR, marker, message, params)) {
-            ParameterizedMessage msg = new ParameterizedMessage(message, params);
-            log(marker, FQCN, Level.ERROR, msg, msg.getThrowable());
+    public void fatal(Marker marker, String message, Object p1, Object p2) {
+        if (isEnabled(Level.FATAL, marker, message, p1, p2)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2});
+            log(marker, FQCN, Level.FATAL, msg, msg.getThrowable());
         }
     }
 
-
     /**
-     * Check whether this Logger is enabled for the ERROR Level.
+     * Log a message with parameters at the <code>FATAL</code> level.
      *
-     * @return boolean - <code>true</code> if this Logger is enabled for level
-     *         ERROR, <code>false</code> otherwise.
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
      */
-    public boolean isErrorEnabled() {
-        return isEnabled(Level.ERROR, null, (Object) null, null);
+    public void fatal(Marker marker, String message, Object p1, Object p2, Object p3) {
+        if (isEnabled(Level.FATAL, marker, message, p1, p2, p3)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3});
+            log(marker, FQCN, Level.FATAL, msg, msg.getThrowable());
+        }
     }
 
     /**
-     * Check whether this Logger is enabled for the ERROR Level.
+     * Log a message with parameters at the <code>FATAL</code> level.
      *
-     * @param marker The marker data.
-     * @return boolean - <code>true</code> if this Logger is enabled for level
-     *         ERROR, <code>false</code> otherwise.
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
      */
-    public boolean isErrorEnabled(Marker marker) {
-        return isEnabled(Level.ERROR, marker, (Object) null, null);
+    public void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4) {
+        if (isEnabled(Level.FATAL, marker, message, p1, p2, p3, p4)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4});
+            log(marker, FQCN, Level.FATAL, msg, msg.getThrowable());
+        }
     }
 
     /**
-     * Log a message with the specific Marker at the ERROR level.
+     * Log a message with parameters at the <code>FATAL</code> level.
      *
-     * @param msg the message string to be logged
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
      */
-    public void error(Message msg) {
-        if (isEnabled(Level.ERROR, null, msg, null)) {
-            log(null, FQCN, Level.ERROR, msg, null);
+    public void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5) {
+        if (isEnabled(Level.FATAL, marker, message, p1, p2, p3, p4, p5)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5});
+            log(marker, FQCN, Level.FATAL, msg, msg.getThrowable());
         }
     }
 
     /**
-     * Log a message with the specific Marker at the ERROR level.
+     * Log a message with parameters at the <code>FATAL</code> level.
      *
-     * @param msg the message string to be logged
-     * @param t   A Throwable or null.
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
      */
-    public void error(Message msg, Throwable t) {
-        if (isEnabled(Level.ERROR, null, msg, t)) {
-            log(null, FQCN, Level.ERROR, msg, t);
+    public void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+        if (isEnabled(Level.FATAL, marker, message, p1, p2, p3, p4, p5, p6)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6});
+            log(marker, FQCN, Level.FATAL, msg, msg.getThrowable());
         }
     }
 
     /**
-     * Log a message with the specific Marker at the ERROR level.
+     * Log a message with parameters at the <code>FATAL</code> level.
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg    the message string to be logged
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
      */
-    public void error(Marker marker, Message msg) {
-        if (isEnabled(Level.ERROR, null, msg, null)) {
-            log(null, FQCN, Level.ERROR, msg, null);
+    public void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7) {
+        if (isEnabled(Level.FATAL, marker, message, p1, p2, p3, p4, p5, p6, p7)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7});
+            log(marker, FQCN, Level.FATAL, msg, msg.getThrowable());
         }
     }
 
     /**
-     * Log a message with the specific Marker at the ERROR level.
+     * Log a message with parameters at the <code>FATAL</code> level.
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg    the message string to be logged
-     * @param t      A Throwable or null.
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
      */
-    public void error(Marker marker, Message msg, Throwable t) {
-        if (isEnabled(Level.ERROR, marker, msg, t)) {
-            log(marker, FQCN, Level.ERROR, msg, t);
+    public void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7, Object p8) {
+        if (isEnabled(Level.FATAL, marker, message, p1, p2, p3, p4, p5, p6, p7, p8)) {
+            ParameterizedMessage msg = newParameterizedMessage(message, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8});
+            log(marker, FQCN, Level.FATAL, msg, msg.getThrowable());
         }
     }
 
     /**
-     * Log a message object with the {@link org.apache.logging.log4j.Level#FATAL FATAL} level.
+     * Log a message with parameters at the <code>FATAL</code> level.
      *
-     * @param message the message object to log.
+     * @param marker the marker data specific to this log statement.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
      */
-    public void fatal(String message) {
-        if (isEnabled(Level.FATAL, null, message)) {
-            log(null, FQCN, Level.FATAL, new SimpleMessage(message), null);
+    public void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7, Object p8, Object p9) {
+        if (isEnabled(Level.FATAL, marker, message, p1, p2, p3, p4, p5, p6, p7, p8, p9)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9});
+            log(marker, FQCN, Level.FATAL, msg, msg.getThrowable());
         }
     }
 
-
     /**
-     * Log a message object with the {@link org.apache.logging.log4j.Level#FATAL FATAL} level.
+     * Log a message with parameters at the <code>FATAL</code> level.
      *
      * @param marker the marker data specific to this log statement.
-     * @param message the message object to log.
+     * @param message the message to log.
+     * @param p1 the first parameter.
+     * @param p2 the second parameter.
+     * @param p3 the third parameter.
+     * @param p4 the fourth parameter.
+     * @param p5 the fifth parameter.
+     * @param p6 the sixth parameter.
+     * @param p7 the seventh parameter.
+     * @param p8 the eighth parameter.
+     * @param p9 the ninth parameter.
+     * @param p10 the tenth parameter.
      */
-    public void fatal(Marker marker, String message) {
-        if (isEnabled(Level.FATAL, marker, message)) {
-            log(marker, FQCN, Level.FATAL, new SimpleMessage(message), null);
+    public void fatal(Marker marker, String message, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6,
+                      Object p7, Object p8, Object p9, Object p10) {
+        if (isEnabled(Level.FATAL, marker, message, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10)) {
+            ParameterizedMessage msg = newParameterizedMessage(message,
+                new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9, p10});
+            log(marker, FQCN, Level.FATAL, msg, msg.getThrowable());
         }
     }
 
     /**
-     * Log a message at the <code>FATAL</code> level including the
-     * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+     * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+     * logging call is enabled.
      *
-     * @param message the message object to log.
-     * @param t       the exception to log, including its stack trace.
+     * @param msgSupplier the supplier of the Message to log.
      */
-    public void fatal(String message, Throwable t) {
-        if (isEnabled(Level.FATAL, null, message, t)) {
-            log(null, FQCN, Level.FATAL, new SimpleMessage(message), t);
+    public void fatal(MessageSupplier msgSupplier) {
+        if (isEnabled(Level.FATAL, null, msgSupplier, null)) {
+            log(null, FQCN, Level.FATAL, new LazyMessage(msgSupplier), null);
         }
     }
 
     /**
-     * Log a message at the <code>FATAL</code> level including the
-     * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+     * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+     * logging call is enabled.
      *
-     * @param marker the marker data specific to this log statement.
-     * @param message the message object to log.
-     * @param t       the exception to log, including its stack trace.
+     * @param msgSupplier the supplier of the Message to log.
+     * @param t A Throwable or null.
      */
-    public void fatal(Marker marker, String message, Throwable t) {
-        if (isEnabled(Level.FATAL, marker, message, t)) {
-            log(marker, FQCN, Level.FATAL, new SimpleMessage(message), t);
+    public void fatal(MessageSupplier msgSupplier, Throwable t) {
+        if (isEnabled(Level.FATAL, null, msgSupplier, t)) {
+            log(null, FQCN, Level.FATAL, new LazyMessage(msgSupplier), t);
         }
     }
 
     /**
-     * Log a message object with the {@link org.apache.logging.log4j.Level#FATAL FATAL} level.
+     * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+     * logging call is enabled.
      *
-     * @param message the message object to log.
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the Message to log.
      */
-    public void fatal(Object message) {
-        if (isEnabled(Level.FATAL, null, message, null)) {
-            log(null, FQCN, Level.FATAL, new ObjectMessage(message), null);
+    public void fatal(Marker marker, MessageSupplier msgSupplier) {
+        if (isEnabled(Level.FATAL, marker, msgSupplier, null)) {
+            log(marker, FQCN, Level.FATAL, new LazyMessage(msgSupplier), null);
         }
     }
 
     /**
-     * Log a message object with the {@link org.apache.logging.log4j.Level#FATAL FATAL} level.
+     * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+     * logging call is enabled.
      *
      * @param marker the marker data specific to this log statement.
-     * @param message the message object to log.
+     * @param msgSupplier the supplier of the Message to log.
+     * @param t A Throwable or null.
      */
-    public void fatal(Marker marker, Object message) {
-        if (isEnabled(Level.FATAL, marker, message, null)) {
-            log(marker, FQCN, Level.FATAL, new ObjectMessage(message), null);
+    public void fatal(Marker marker, MessageSupplier msgSupplier, Throwable t) {
+        if (isEnabled(Level.FATAL, marker, msgSupplier, t)) {
+            log(marker, FQCN, Level.FATAL, new LazyMessage(msgSupplier), t);
         }
     }
 
     /**
-     * Log a message at the <code>FATAL</code> level including the
-     * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+     * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+     * logging call is enabled.
      *
-     * @param message the message object to log.
-     * @param t       the exception to log, including its stack trace.
+     * @param msgSupplier the supplier of the message to log.
      */
-    public void fatal(Object message, Throwable t) {
-        if (isEnabled(Level.FATAL, null, message, t)) {
-            log(null, FQCN, Level.FATAL, new ObjectMessage(message), t);
+    public void fatal(Supplier<?> msgSupplier) {
+        if (isEnabled(Level.FATAL, null, msgSupplier, null)) {
+            log(null, FQCN, Level.FATAL, new LazyMessage(msgSupplier), null);
         }
     }
 
     /**
-     * Log a message at the <code>FATAL</code> level including the
-     * stack trace of the {@link Throwable}<code>t</code> passed as parameter.
+     * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+     * logging call is enabled.
      *
-     * @param marker the marker data specific to this log statement.
-     * @param message the message object to log.
-     * @param t       the exception to log, including its stack trace.
+     * @param msgSupplier the supplier of the message to log.
+     * @param t A Throwable or null.
      */
-    public void fatal(Marker marker, Object message, Throwable t) {
-        if (isEnabled(Level.FATAL, marker, message, t)) {
-            log(marker, FQCN, Level.FATAL, new ObjectMessage(message), t);
+    public void fatal(Supplier<?> msgSupplier, Throwable t) {
+        if (isEnabled(Level.FATAL, null, msgSupplier, t)) {
+            log(null, FQCN, Level.FATAL, new LazyMessage(msgSupplier), t);
         }
     }
 
     /**
-     * Log a message with parameters at the <code>FATAL</code> level.
+     * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+     * logging call is enabled.
      *
-     * @param message the message to log.
-     * @param params  parameters to the message.
+     * @param marker the marker data specific to this log statement.
+     * @param msgSupplier the supplier of the message to log.
      */
-    public void fatal(String message, Object... params) {
-        if (isEnabled(Level.FATAL, null, message, params)) {
-            ParameterizedMessage msg = new ParameterizedMessage(message, params);
-            log(null, FQCN, Level.FATAL, msg, msg.getThrowable());
+    public void fatal(Marker marker, Supplier<?> msgSupplier) {
+        if (isEnabled(Level.FATAL, marker, msgSupplier, null)) {
+            log(marker, FQCN, Level.FATAL, new LazyMessage(msgSupplier), null);
         }
     }
 
     /**
-     * Log a message with parameters at the <code>FATAL</code> level.
+     * Log a message at the <code>FATAL</code> level. The supplier is only called if the
+     * logging call is enabled.
      *
      * @param marker the marker data specific to this log statement.
-     * @param message the message to log.
-     * @param params  parameters to the message.
+     * @param msgSupplier the supplier of the message to log.
+     * @param t A Throwable or null.
      */
-    public void fatal(Marker marker, String message, Object... params) {
-        if (isEnabled(Level.FATAL, marker, message, params)) {
-            ParameterizedMessage msg = new ParameterizedMessage(message, params);
-            log(marker, FQCN, Level.FATAL, msg, msg.getThrowable());
+    public void fatal(Marker marker, Supplier<?> msgSupplier, Throwable t) {
+        if (isEnabled(Level.FATAL, marker, msgSupplier, t)) {
+            log(marker, FQCN, Level.FATAL, new LazyMessage(msgSupplier), t);
         }
     }
 
@@ -1349,6 +4202,18 @@ public abstract class AbstractLogger implements Logger {
         }
     }
 
+    /**
+     * Create the Message for a logging call with parameters. Implementations may override this to hand out
+     * Message objects that are reused.
+     *
+     * @param message The message pattern.
+     * @param params The parameters.
+     * @return The ParameterizedMessage.
+     */
+    protected ParameterizedMessage newParameterizedMessage(String message, Object[] params) {
+        return new ParameterizedMessage(message, params);
+    }
+
     /**
      * Log a message with location information.
      *
@@ -1433,6 +4298,145 @@ public abstract class AbstractLogger implements Logger {
     protected abstract boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2,
                                          Object p3, Object... params);
 
+    /**
+     * Determine if logging is enabled. Implementations should override this to avoid creating the
+     * parameter array.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param data The message.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @return True if logging is enabled, false otherwise.
+     */
+    protected boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4) {
+        return isEnabled(level, marker, data, p1, p2, p3, new Object[] {p4});
+    }
+
+    /**
+     * Determine if logging is enabled. Implementations should override this to avoid creating the
+     * parameter array.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param data The message.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @return True if logging is enabled, false otherwise.
+     */
+    protected boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4,
+                                Object p5) {
+        return isEnabled(level, marker, data, p1, p2, p3, new Object[] {p4, p5});
+    }
+
+    /**
+     * Determine if logging is enabled. Implementations should override this to avoid creating the
+     * parameter array.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param data The message.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @return True if logging is enabled, false otherwise.
+     */
+    protected boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4,
+                                Object p5, Object p6) {
+        return isEnabled(level, marker, data, p1, p2, p3, new Object[] {p4, p5, p6});
+    }
+
+    /**
+     * Determine if logging is enabled. Implementations should override this to avoid creating the
+     * parameter array.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param data The message.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @return True if logging is enabled, false otherwise.
+     */
+    protected boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4,
+                                Object p5, Object p6, Object p7) {
+        return isEnabled(level, marker, data, p1, p2, p3, new Object[] {p4, p5, p6, p7});
+    }
+
+    /**
+     * Determine if logging is enabled. Implementations should override this to avoid creating the
+     * parameter array.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param data The message.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @param p8 The eighth parameter.
+     * @return True if logging is enabled, false otherwise.
+     */
+    protected boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4,
+                                Object p5, Object p6, Object p7, Object p8) {
+        return isEnabled(level, marker, data, p1, p2, p3, new Object[] {p4, p5, p6, p7, p8});
+    }
+
+    /**
+     * Determine if logging is enabled. Implementations should override this to avoid creating the
+     * parameter array.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param data The message.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @param p8 The eighth parameter.
+     * @param p9 The ninth parameter.
+     * @return True if logging is enabled, false otherwise.
+     */
+    protected boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4,
+                                Object p5, Object p6, Object p7, Object p8, Object p9) {
+        return isEnabled(level, marker, data, p1, p2, p3, new Object[] {p4, p5, p6, p7, p8, p9});
+    }
+
+    /**
+     * Determine if logging is enabled. Implementations should override this to avoid creating the
+     * parameter array.
+     * @param level The logging Level to check.
+     * @param marker A Marker or null.
+     * @param data The message.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @param p8 The eighth parameter.
+     * @param p9 The ninth parameter.
+     * @param p10 The tenth parameter.
+     * @return True if logging is enabled, false otherwise.
+     */
+    protected boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4,
+                                Object p5, Object p6, Object p7, Object p8, Object p9, Object p10) {
+        return isEnabled(level, marker, data, p1, p2, p3, new Object[] {p4, p5, p6, p7, p8, p9, p10});
+    }
+
     /**
      * Determine if logging is enabled.
      * @param level The logging Level to check.
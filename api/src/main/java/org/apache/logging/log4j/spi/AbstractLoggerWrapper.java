@@ -138,7 +138,48 @@ public class AbstractLoggerWrapper extends AbstractLogger {
     @Override
     public boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3,
                                 Object... params) {
-        return logger.isEnabled(level, marker, data, p2, p2, p3, params);
+        return logger.isEnabled(level, marker, data, p1, p2, p3, params);
+    }
+
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4) {
+        return logger.isEnabled(level, marker, data, p1, p2, p3, p4);
+    }
+
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4,
+                             Object p5) {
+        return logger.isEnabled(level, marker, data, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4,
+                             Object p5, Object p6) {
+        return logger.isEnabled(level, marker, data, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4,
+                             Object p5, Object p6, Object p7) {
+        return logger.isEnabled(level, marker, data, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4,
+                             Object p5, Object p6, Object p7, Object p8) {
+        return logger.isEnabled(level, marker, data, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4,
+                             Object p5, Object p6, Object p7, Object p8, Object p9) {
+        return logger.isEnabled(level, marker, data, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String data, Object p1, Object p2, Object p3, Object p4,
+                             Object p5, Object p6, Object p7, Object p8, Object p9, Object p10) {
+        return logger.isEnabled(level, marker, data, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10);
     }
 
     /**
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.spi;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A ThreadContextMap that stores each thread's map as a {@link SortedArrayStringMap}. Changing the map copies
+ * two small arrays instead of rehashing a HashMap, and the snapshot can be read by index in key order without
+ * creating iterators.
+ */
+public class ArrayThreadContextMap implements ThreadContextMap {
+
+    private final ThreadLocal<SortedArrayStringMap> localMap;
+
+    /**
+     * Constructor for a map that child threads inherit.
+     */
+    public ArrayThreadContextMap() {
+        this(true);
+    }
+
+    /**
+     * Constructor.
+     * @param inheritable true if child threads should start with the map of the thread that created them.
+     */
+    public ArrayThreadContextMap(boolean inheritable) {
+        this.localMap = inheritable ? new InheritableThreadLocal<SortedArrayStringMap>() :
+            new ThreadLocal<SortedArrayStringMap>();
+    }
+
+    public void put(String key, String value) {
+        localMap.set(getImmutableMap().with(key, value));
+    }
+
+    public String get(String key) {
+        return getImmutableMap().get(key);
+    }
+
+    public void remove(String key) {
+        SortedArrayStringMap map = localMap.get();
+        if (map != null) {
+            SortedArrayStringMap result = map.without(key);
+            if (result.size() == 0) {
+                localMap.remove();
+            } else if (result != map) {
+                localMap.set(result);
+            }
+        }
+    }
+
+    public void clear() {
+        localMap.remove();
+    }
+
+    public boolean containsKey(String key) {
+        return getImmutableMap().containsKey(key);
+    }
+
+    public boolean isEmpty() {
+        return getImmutableMap().size() == 0;
+    }
+
+    public Map<String, String> getCopy() {
+        return new HashMap<String, String>(getImmutableMap());
+    }
+
+    public SortedArrayStringMap getImmutableMap() {
+        SortedArrayStringMap map = localMap.get();
+        return map == null ? SortedArrayStringMap.EMPTY : map;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.spi;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The default ThreadContextMap. Each thread holds an unmodifiable HashMap that is replaced by a modified copy
+ * whenever a value is put or removed.
+ */
+public class DefaultThreadContextMap implements ThreadContextMap {
+
+    private static final Map<String, String> EMPTY_MAP =
+        Collections.unmodifiableMap(new HashMap<String, String>());
+
+    private final ThreadLocal<Map<String, String>> localMap;
+
+    /**
+     * Constructor for a map that child threads inherit.
+     */
+    public DefaultThreadContextMap() {
+        this(true);
+    }
+
+    /**
+     * Constructor.
+     * @param inheritable true if child threads should start with the map of the thread that created them.
+     */
+    public DefaultThreadContextMap(boolean inheritable) {
+        this.localMap = inheritable ? new InheritableThreadLocal<Map<String, String>>() :
+            new ThreadLocal<Map<String, String>>();
+    }
+
+    public void put(String key, String value) {
+        Map<String, String> map = localMap.get();
+        Map<String, String> copy = map == null ? new HashMap<String, String>() : new HashMap<String, String>(map);
+        copy.put(key, value);
+        localMap.set(Collections.unmodifiableMap(copy));
+    }
+
+    public String get(String key) {
+        Map<String, String> map = localMap.get();
+        return map == null ? null : map.get(key);
+    }
+
+    public void remove(String key) {
+        Map<String, String> map = localMap.get();
+        if (map != null && map.containsKey(key)) {
+            Map<String, String> copy = new HashMap<String, String>(map);
+            copy.remove(key);
+            if (copy.isEmpty()) {
+                localMap.remove();
+            } else {
+                localMap.set(Collections.unmodifiableMap(copy));
+            }
+        }
+    }
+
+    public void clear() {
+        localMap.remove();
+    }
+
+    public boolean containsKey(String key) {
+        Map<String, String> map = localMap.get();
+        return map != null && map.containsKey(key);
+    }
+
+    public boolean isEmpty() {
+        Map<String, String> map = localMap.get();
+        return map == null || map.isEmpty();
+    }
+
+    public Map<String, String> getCopy() {
+        Map<String, String> map = localMap.get();
+        return map == null ? new HashMap<String, String>() : new HashMap<String, String>(map);
+    }
+
+    public Map<String, String> getImmutableMap() {
+        Map<String, String> map = localMap.get();
+        return map == null ? EMPTY_MAP : map;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.spi;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable Map of Strings held in two arrays sorted by key. Lookups are binary searches and the entries
+ * can be read by index, in key order, without creating an iterator. Changes are made by creating a new map
+ * with {@link #with(String, String)} or {@link #without(String)}. Null keys are not supported.
+ */
+public final class SortedArrayStringMap extends AbstractMap<String, String> implements Serializable {
+
+    /**
+     * The empty map.
+     */
+    public static final SortedArrayStringMap EMPTY = new SortedArrayStringMap(new String[0], new String[0]);
+
+    private static final long serialVersionUID = -2418452345937946011L;
+
+    private final String[] keys;
+
+    private final String[] values;
+
+    private transient Set<Map.Entry<String, String>> entrySet = null;
+
+    private SortedArrayStringMap(String[] keys, String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Create a map containing the entries of another Map.
+     * @param map The Map to copy.
+     * @return The new map.
+     */
+    public static SortedArrayStringMap copyOf(Map<String, String> map) {
+        if (map instanceof SortedArrayStringMap) {
+            return (SortedArrayStringMap) map;
+        }
+        SortedArrayStringMap result = EMPTY;
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            result = result.with(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Return the position of a key.
+     * @param key The key to locate.
+     * @return The index of the key, or (-(insertion point) - 1) if the key is not present.
+     */
+    public int indexOfKey(String key) {
+        int low = 0;
+        int high = keys.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = keys[mid].compareTo(key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Return the key at a position.
+     * @param index The position, from 0 to size() - 1.
+     * @return The key.
+     */
+    public String getKeyAt(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Return the value at a position.
+     * @param index The position, from 0 to size() - 1.
+     * @return The value.
+     */
+    public String getValueAt(int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int index = indexOfKey((String) key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && indexOfKey((String) key) >= 0;
+    }
+
+    /**
+     * Return a map with the value set for the key.
+     * @param key The key.
+     * @param value The value.
+     * @return The new map, or this map if it already contains the value for the key.
+     */
+    public SortedArrayStringMap with(String key, String value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null keys are not supported");
+        }
+        int index = indexOfKey(key);
+        if (index >= 0) {
+            if (value == null ? values[index] == null : value.equals(values[index])) {
+                return this;
+            }
+            String[] newValues = values.clone();
+            newValues[index] = value;
+            return new SortedArrayStringMap(keys, newValues);
+        }
+        index = -(index + 1);
+        int length = keys.length;
+        String[] newKeys = new String[length + 1];
+        String[] newValues = new String[length + 1];
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(values, 0, newValues, 0, index);
+        newKeys[index] = key;
+        newValues[index] = value;
+        System.arraycopy(keys, index, newKeys, index + 1, length - index);
+        System.arraycopy(values, index, newValues, index + 1, length - index);
+        return new SortedArrayStringMap(newKeys, newValues);
+    }
+
+    /**
+     * Return a map without the key.
+     * @param key The key to remove.
+     * @return The new map, or this map if it does not contain the key.
+     */
+    public SortedArrayStringMap without(String key) {
+        int index = key == null ? -1 : indexOfKey(key);
+        if (index < 0) {
+            return this;
+        }
+        int length = keys.length - 1;
+        if (length == 0) {
+            return EMPTY;
+        }
+        String[] newKeys = new String[length];
+        String[] newValues = new String[length];
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(values, 0, newValues, 0, index);
+        System.arraycopy(keys, index + 1, newKeys, index, length - index);
+        System.arraycopy(values, index + 1, newValues, index, length - index);
+        return new SortedArrayStringMap(newKeys, newValues);
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Map.Entry<String, String>>() {
+                @Override
+                public Iterator<Map.Entry<String, String>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return keys.length;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    /**
+     * Iterates over the entries in key order.
+     */
+    private class EntryIterator implements Iterator<Map.Entry<String, String>> {
+        private int index = 0;
+
+        public boolean hasNext() {
+            return index < keys.length;
+        }
+
+        public Map.Entry<String, String> next() {
+            if (index >= keys.length) {
+                throw new NoSuchElementException();
+            }
+            return new Entry(keys[index], values[index++]);
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * An entry in the map.
+     */
+    private static class Entry implements Map.Entry<String, String> {
+        private final String key;
+        private final String value;
+
+        public Entry(String key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public String setValue(String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return key.equals(entry.getKey()) &&
+                (value == null ? entry.getValue() == null : value.equals(entry.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
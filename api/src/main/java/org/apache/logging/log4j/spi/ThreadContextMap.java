@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.spi;
+
+import java.util.Map;
+
+/**
+ * Storage for the map used by {@link org.apache.logging.log4j.ThreadContext}. Implementations keep an immutable
+ * snapshot of the map for each thread so that log events can hold a reference to it instead of a copy.
+ */
+public interface ThreadContextMap {
+
+    /**
+     * Put a value in the current thread's map.
+     * @param key The key.
+     * @param value The value.
+     */
+    void put(String key, String value);
+
+    /**
+     * Get a value from the current thread's map.
+     * @param key The key.
+     * @return The value or null.
+     */
+    String get(String key);
+
+    /**
+     * Remove a value from the current thread's map.
+     * @param key The key.
+     */
+    void remove(String key);
+
+    /**
+     * Remove all the values from the current thread's map.
+     */
+    void clear();
+
+    /**
+     * Determine if the current thread's map contains a key.
+     * @param key The key.
+     * @return true if the key is present, false otherwise.
+     */
+    boolean containsKey(String key);
+
+    /**
+     * Determine if the current thread's map is empty.
+     * @return true if the map has no entries, false otherwise.
+     */
+    boolean isEmpty();
+
+    /**
+     * Return a copy of the current thread's map that may be modified.
+     * @return A copy of the map.
+     */
+    Map<String, String> getCopy();
+
+    /**
+     * Return the immutable snapshot of the current thread's map. The same snapshot must be returned until
+     * the map is changed.
+     * @return The map, which cannot be modified. It is never null.
+     */
+    Map<String, String> getImmutableMap();
+}
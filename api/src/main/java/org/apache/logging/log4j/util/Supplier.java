@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.util;
+
+/**
+ * Supplies a value when it is needed. Loggers accept a Supplier in place of a message so that building
+ * the message can be skipped when the logging call is disabled.
+ * <pre>
+ * logger.debug(new Supplier&lt;String&gt;() {
+ *     public String get() {
+ *         return "Cache contents: " + cache.dump();
+ *     }
+ * });
+ * </pre>
+ * @param <T> The type of the value that is supplied.
+ */
+public interface Supplier<T> {
+
+    /**
+     * Returns the value.
+     * @return The value.
+     */
+    T get();
+}
@@ -16,7 +16,11 @@
  */
 package org.apache.logging.log4j;
 
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.MessageSupplier;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.logging.log4j.message.StructuredDataMessage;
+import org.apache.logging.log4j.util.Supplier;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -92,6 +96,34 @@ public class LoggerTest {
         assertTrue("Incorrect substitution", results.get(0).startsWith(" DEBUG Hello, World"));
     }
 
+    @Test
+    public void debugWithFixedParms() {
+        logger.debug("{} {} {} {} {} {} {} {} {} {}", 1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        logger.debug("{} and {}", "one", "two", new RuntimeException("Test Exception"));
+        assertEquals(2, results.size());
+        assertTrue("Incorrect substitution", results.get(0).startsWith(" DEBUG 1 2 3 4 5 6 7 8 9 10"));
+        assertTrue("Unexpected results: " + results.get(1),
+            results.get(1).startsWith(" DEBUG one and two java.lang.RuntimeException: Test Exception"));
+    }
+
+    @Test
+    public void debugWithSupplier() {
+        logger.debug(new Supplier<String>() {
+            public String get() {
+                return "Supplied message";
+            }
+        });
+        logger.debug(new MessageSupplier() {
+            public Message get() {
+                return new ParameterizedMessage("Hello, {}", "World");
+            }
+        }, new RuntimeException("Test Exception"));
+        assertEquals(2, results.size());
+        assertTrue("Incorrect message", results.get(0).startsWith(" DEBUG Supplied message"));
+        assertTrue("Unexpected results: " + results.get(1),
+            results.get(1).startsWith(" DEBUG Hello, World java.lang.RuntimeException: Test Exception"));
+    }
+
     @Test
     public void debugWithParmsAndThrowable() {
         logger.debug("Hello, {}", "World", new RuntimeException("Test Exception"));
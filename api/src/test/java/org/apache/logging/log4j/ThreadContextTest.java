@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Stack;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class ThreadContextTest {
+
+    @After
+    public void tearDown() {
+        ThreadContext.clear();
+        ThreadContext.clearStack();
+    }
+
+    @Test
+    public void testSnapshotIsShared() {
+        Map<String, String> empty = ThreadContext.getImmutableContext();
+        assertTrue(empty.isEmpty());
+        ThreadContext.put("key", "value");
+        Map<String, String> map = ThreadContext.getImmutableContext();
+        assertSame(map, ThreadContext.getImmutableContext());
+        assertEquals("value", map.get("key"));
+        ThreadContext.put("other", "value");
+        assertEquals("A snapshot must not change", 1, map.size());
+        assertEquals(2, ThreadContext.getImmutableContext().size());
+        ThreadContext.remove("key");
+        ThreadContext.remove("other");
+        assertSame(empty, ThreadContext.getImmutableContext());
+        try {
+            map.put("key", "other");
+            fail("The context map should not be modifiable");
+        } catch (UnsupportedOperationException ex) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testGetContextReturnsCopy() {
+        ThreadContext.put("key", "value");
+        Map<String, String> copy = ThreadContext.getContext();
+        copy.put("key", "other");
+        assertEquals("value", ThreadContext.get("key"));
+    }
+
+    @Test
+    public void testStack() {
+        ThreadContext.push("first");
+        Stack<String> stack = ThreadContext.getImmutableStack();
+        assertSame(stack, ThreadContext.getImmutableStack());
+        ThreadContext.push("second");
+        assertEquals(2, ThreadContext.getDepth());
+        assertEquals("second", ThreadContext.peek());
+        assertEquals("A snapshot must not change", 1, stack.size());
+        try {
+            stack.push("third");
+            fail("The stack should not be modifiable");
+        } catch (UnsupportedOperationException ex) {
+            // Expected.
+        }
+        Stack<String> copy = ThreadContext.cloneStack();
+        copy.push("third");
+        assertEquals(2, ThreadContext.getDepth());
+        assertEquals("second", ThreadContext.pop());
+        assertEquals("first", ThreadContext.pop());
+        assertEquals("", ThreadContext.pop());
+        assertEquals(0, ThreadContext.getImmutableStack().size());
+    }
+
+    @Test
+    public void testInheritance() throws Exception {
+        ThreadContext.put("key", "value");
+        ThreadContext.push("parent");
+        final Map<String, String> parentMap = ThreadContext.getImmutableContext();
+        final Object[] results = new Object[3];
+        Thread thread = new Thread(new Runnable() {
+            public void run() {
+                results[0] = ThreadContext.getImmutableContext();
+                results[1] = ThreadContext.peek();
+                ThreadContext.put("key", "child");
+                results[2] = ThreadContext.get("key");
+            }
+        });
+        thread.start();
+        thread.join();
+        assertSame(parentMap, results[0]);
+        assertEquals("parent", results[1]);
+        assertEquals("child", results[2]);
+        assertEquals("value", ThreadContext.get("key"));
+    }
+}
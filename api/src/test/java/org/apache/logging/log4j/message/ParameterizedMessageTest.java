@@ -39,4 +39,49 @@ public class ParameterizedMessageTest {
         result = msg.getFormattedMessage();
         assertEquals(testMsg, result);
     }
+
+    @Test
+    public void testFormat() {
+        assertEquals("a 1 b 2 c", ParameterizedMessage.format("a {} b {} c", new Object[] {1, 2}));
+        assertEquals("a 1 b {}", ParameterizedMessage.format("a {} b {}", new Object[] {1}));
+        assertEquals("a {} 1", ParameterizedMessage.format("a \\{} {}", new Object[] {1}));
+        assertEquals("a \\1", ParameterizedMessage.format("a \\\\{}", new Object[] {1}));
+        assertEquals("a \\b 1", ParameterizedMessage.format("a \\b {}", new Object[] {1}));
+        assertEquals("{ 1 }", ParameterizedMessage.format("{ {} }", new Object[] {1}));
+        assertEquals("null", ParameterizedMessage.format("{}", new Object[] {null}));
+    }
+
+    @Test
+    public void testCountArgumentPlaceholders() {
+        assertEquals(0, ParameterizedMessage.countArgumentPlaceholders(null));
+        assertEquals(0, ParameterizedMessage.countArgumentPlaceholders("no placeholders"));
+        assertEquals(2, ParameterizedMessage.countArgumentPlaceholders("{} and {}"));
+        assertEquals(1, ParameterizedMessage.countArgumentPlaceholders("\\{} and {}"));
+        assertEquals(2, ParameterizedMessage.countArgumentPlaceholders("\\\\{} and {}"));
+    }
+
+    @Test
+    public void testFormatTo() {
+        ParameterizedMessage msg = new ParameterizedMessage("Hello {}, you are {}", new Object[] {"world", 42});
+        StringBuilder sb = new StringBuilder("> ");
+        msg.formatTo(sb);
+        assertEquals("> Hello world, you are 42", sb.toString());
+        assertEquals("Hello world, you are 42", msg.getFormattedMessage());
+        sb.setLength(0);
+        msg.formatTo(sb);
+        assertEquals(msg.getFormattedMessage(), sb.toString());
+    }
+
+    @Test
+    public void testFormatToUsesSubclassFormatting() {
+        ParameterizedMessage msg = new ParameterizedMessage("Hello {}", new Object[] {"world"}) {
+            @Override
+            protected String formatMessage(String msgPattern, String[] sArgs) {
+                return super.formatMessage(msgPattern, sArgs).toUpperCase();
+            }
+        };
+        StringBuilder sb = new StringBuilder();
+        msg.formatTo(sb);
+        assertEquals("HELLO WORLD", sb.toString());
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.message;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ */
+public class PrimitiveParameterizedMessageTest {
+
+    @Test
+    public void testFormat() {
+        PrimitiveParameterizedMessage msg = new PrimitiveParameterizedMessage("latency={} count={} ratio={}");
+        msg.add(1234567890123L).add(42).add(0.5);
+        assertEquals("latency=1234567890123 count=42 ratio=0.5", msg.getFormattedMessage());
+        StringBuilder sb = new StringBuilder("> ");
+        msg.formatTo(sb);
+        assertEquals("> latency=1234567890123 count=42 ratio=0.5", sb.toString());
+        Object[] params = msg.getParameters();
+        assertEquals(3, params.length);
+        assertEquals(Long.valueOf(1234567890123L), params[0]);
+        assertEquals(Long.valueOf(42), params[1]);
+        assertEquals(Double.valueOf(0.5), params[2]);
+    }
+
+    @Test
+    public void testMissingAndExtraParameters() {
+        PrimitiveParameterizedMessage msg = new PrimitiveParameterizedMessage("a={} b={}");
+        assertEquals("a={} b={}", msg.getFormattedMessage());
+        msg.add(1);
+        assertEquals("a=1 b={}", msg.getFormattedMessage());
+        msg.add(2).add(3);
+        assertEquals("a=1 b=2", msg.getFormattedMessage());
+        assertEquals(3, msg.getParameters().length);
+    }
+
+    @Test
+    public void testClear() {
+        PrimitiveParameterizedMessage msg = new PrimitiveParameterizedMessage("value={}");
+        assertEquals("value=1", msg.add(1).getFormattedMessage());
+        assertEquals("value=2", msg.clear().add(2).getFormattedMessage());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.spi;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class SortedArrayStringMapTest {
+
+    @Test
+    public void testWithAndWithout() {
+        SortedArrayStringMap map = SortedArrayStringMap.EMPTY.with("b", "2").with("c", "3").with("a", "1");
+        assertEquals(3, map.size());
+        assertEquals("a", map.getKeyAt(0));
+        assertEquals("b", map.getKeyAt(1));
+        assertEquals("c", map.getKeyAt(2));
+        assertEquals("2", map.get("b"));
+        assertNull(map.get("d"));
+        assertSame(map, map.with("a", "1"));
+        assertEquals("4", map.with("a", "4").get("a"));
+        assertEquals("1", map.get("a"));
+        SortedArrayStringMap removed = map.without("b");
+        assertEquals(2, removed.size());
+        assertFalse(removed.containsKey("b"));
+        assertSame(removed, removed.without("b"));
+        assertSame(SortedArrayStringMap.EMPTY, removed.without("a").without("c"));
+    }
+
+    @Test
+    public void testEqualsHashMap() {
+        Map<String, String> expected = new HashMap<String, String>();
+        expected.put("user", "jdoe");
+        expected.put("request", "42");
+        SortedArrayStringMap map = SortedArrayStringMap.copyOf(expected);
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals("{request=42, user=jdoe}", map.toString());
+    }
+
+    @Test
+    public void testThreadContextMap() throws Exception {
+        final ArrayThreadContextMap contextMap = new ArrayThreadContextMap(false);
+        contextMap.put("key", "value");
+        SortedArrayStringMap snapshot = contextMap.getImmutableMap();
+        assertSame(snapshot, contextMap.getImmutableMap());
+        contextMap.put("other", "value");
+        assertEquals(1, snapshot.size());
+        final Object[] result = new Object[1];
+        Thread thread = new Thread(new Runnable() {
+            public void run() {
+                result[0] = contextMap.get("key");
+            }
+        });
+        thread.start();
+        thread.join();
+        assertNull("Context should not be inherited", result[0]);
+        contextMap.remove("key");
+        contextMap.remove("other");
+        assertTrue(contextMap.isEmpty());
+    }
+}
@@ -71,6 +71,167 @@ public interface Filter {
      */
     Result filter(Logger logger, Level level, Marker marker, String msg, Object... params);
 
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @return the Result.
+     */
+    Result filter(Logger logger, Level level, Marker marker, String msg, Object p1);
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @return the Result.
+     */
+    Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2);
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @return the Result.
+     */
+    Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3);
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @return the Result.
+     */
+    Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4);
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @return the Result.
+     */
+    Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4,
+                  Object p5);
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @return the Result.
+     */
+    Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4,
+                  Object p5, Object p6);
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @return the Result.
+     */
+    Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4,
+                  Object p5, Object p6, Object p7);
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @param p8 The eighth parameter.
+     * @return the Result.
+     */
+    Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4,
+                  Object p5, Object p6, Object p7, Object p8);
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @param p8 The eighth parameter.
+     * @param p9 The ninth parameter.
+     * @return the Result.
+     */
+    Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4,
+                  Object p5, Object p6, Object p7, Object p8, Object p9);
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @param p8 The eighth parameter.
+     * @param p9 The ninth parameter.
+     * @param p10 The tenth parameter.
+     * @return the Result.
+     */
+    Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4,
+                  Object p5, Object p6, Object p7, Object p8, Object p9, Object p10);
+
     /**
      * Filter an event.
      * @param logger The Logger.
@@ -16,6 +16,8 @@
  */
 package org.apache.logging.log4j.core;
 
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+
 import java.io.Serializable;
 
 /**
@@ -43,6 +45,14 @@ public interface Layout<T extends Serializable> {
      */
     T formatAs(LogEvent event);
 
+    /**
+     * Formats the event directly into the destination's ByteBuffer. Layouts that produce text encode the
+     * characters without creating an intermediate String or byte array.
+     * @param event The Logging Event.
+     * @param destination The destination to encode the event into.
+     */
+    void encode(LogEvent event, ByteBufferDestination destination);
+
     /**
      * Returns the header for the layout format.
      * @return The header.
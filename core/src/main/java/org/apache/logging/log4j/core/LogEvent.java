@@ -19,6 +19,7 @@ package org.apache.logging.log4j.core;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.impl.ThrowableProxy;
 import org.apache.logging.log4j.message.Message;
 
 import java.io.Serializable;
@@ -83,6 +84,13 @@ public interface LogEvent extends Serializable {
      */
     Throwable getThrown();
 
+    /**
+     * Get the throwable associated with logging request along with the packaging information of each
+     * stack trace element. Resolving the packaging information is expensive, so it is only done when
+     * this method is called.
+     * @return The ThrowableProxy, may be null.
+     */
+    ThrowableProxy getThrownProxy();
 
     /**
      * Get the MDC data.
@@ -104,4 +112,17 @@ public interface LogEvent extends Serializable {
      */
     String getFQCN();
 
+    /**
+     * Determine if this is the last event in the batch that an asynchronous Appender or Logger is currently
+     * handing to the Appenders. Appenders that buffer their output can flush once at the end of the batch.
+     * @return true if this is the last event in the batch, false otherwise.
+     */
+    boolean isEndOfBatch();
+
+    /**
+     * Mark the event as the last one in the batch being handed to the Appenders.
+     * @param endOfBatch true if this is the last event in the batch.
+     */
+    void setEndOfBatch(boolean endOfBatch);
+
 }
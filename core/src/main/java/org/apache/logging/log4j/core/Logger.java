@@ -21,7 +21,9 @@ import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.apache.logging.log4j.core.filter.CompositeFilter;
+import org.apache.logging.log4j.core.impl.ReusableLogEventFactory;
 import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.logging.log4j.message.SimpleMessage;
 import org.apache.logging.log4j.spi.AbstractLogger;
 
@@ -112,8 +114,25 @@ public class Logger extends AbstractLogger {
         if (data == null) {
             data = new SimpleMessage("");
         }
-        config.config.getConfigurationMonitor().checkConfiguration();
-        config.loggerConfig.log(name, marker, fqcn, level, data, t);
+        try {
+            config.loggerConfig.log(name, marker, fqcn, level, data, t);
+        } finally {
+            ReusableLogEventFactory.release(data);
+        }
+    }
+
+    /**
+     * Returns the ParameterizedMessage owned by the current thread when garbage free logging is enabled.
+     * @param message The message pattern.
+     * @param params The parameters.
+     * @return The ParameterizedMessage.
+     */
+    @Override
+    protected ParameterizedMessage newParameterizedMessage(String message, Object[] params) {
+        if (ReusableLogEventFactory.isEnabled()) {
+            return ReusableLogEventFactory.getMessage(message, params);
+        }
+        return super.newParameterizedMessage(message, params);
     }
 
     @Override
@@ -147,6 +166,47 @@ public class Logger extends AbstractLogger {
         return config.filter(level, marker, msg, p1, p2, p3, params);
     }
 
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4) {
+        return config.filter(level, marker, msg, p1, p2, p3, p4);
+    }
+
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4,
+                             Object p5) {
+        return config.filter(level, marker, msg, p1, p2, p3, p4, p5);
+    }
+
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4,
+                             Object p5, Object p6) {
+        return config.filter(level, marker, msg, p1, p2, p3, p4, p5, p6);
+    }
+
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4,
+                             Object p5, Object p6, Object p7) {
+        return config.filter(level, marker, msg, p1, p2, p3, p4, p5, p6, p7);
+    }
+
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4,
+                             Object p5, Object p6, Object p7, Object p8) {
+        return config.filter(level, marker, msg, p1, p2, p3, p4, p5, p6, p7, p8);
+    }
+
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4,
+                             Object p5, Object p6, Object p7, Object p8, Object p9) {
+        return config.filter(level, marker, msg, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+    }
+
+    @Override
+    public boolean isEnabled(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4,
+                             Object p5, Object p6, Object p7, Object p8, Object p9, Object p10) {
+        return config.filter(level, marker, msg, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10);
+    }
+
     @Override
     public boolean isEnabled(Level level, Marker marker, Object msg, Throwable t) {
         return config.filter(level, marker, msg, t);
@@ -255,7 +315,9 @@ public class Logger extends AbstractLogger {
     }
 
     /**
-     * The binding between a Logger and its configuration.
+     * The binding between a Logger and its configuration. The global Filter of the Configuration is captured
+     * when the binding is created so that, when there is none, checking whether a Level is enabled is a
+     * single comparison. The Configuration updates the Loggers when its global Filter is changed.
      */
     protected class PrivateConfig {
         private final LoggerConfig loggerConfig;
@@ -263,6 +325,7 @@ public class Logger extends AbstractLogger {
         private final Level level;
         private final int intLevel;
         private final Logger logger;
+        private final Filter globalFilter;
 
         public PrivateConfig(Configuration config, Logger logger) {
             this.config = config;
@@ -270,6 +333,7 @@ public class Logger extends AbstractLogger {
             this.level = this.loggerConfig.getLevel();
             this.intLevel = this.level.intLevel();
             this.logger = logger;
+            this.globalFilter = config.getFilter();
         }
 
         public PrivateConfig(PrivateConfig pc, Level level) {
@@ -278,6 +342,7 @@ public class Logger extends AbstractLogger {
             this.level = level;
             this.intLevel = this.level.intLevel();
             this.logger = pc.logger;
+            this.globalFilter = pc.globalFilter;
         }
 
         public PrivateConfig(PrivateConfig pc, LoggerConfig lc) {
@@ -286,115 +351,181 @@ public class Logger extends AbstractLogger {
             this.level = lc.getLevel();
             this.intLevel = this.level.intLevel();
             this.logger = pc.logger;
+            this.globalFilter = pc.globalFilter;
         }
 
         protected void logEvent(LogEvent event) {
-            config.getConfigurationMonitor().checkConfiguration();
             loggerConfig.log(event);
         }
 
         boolean filter(Level level, Marker marker, String msg) {
-            config.getConfigurationMonitor().checkConfiguration();
-            Filter filter = config.getFilter();
-            if (filter != null) {
-                Filter.Result r = filter.filter(logger, level, marker, msg);
-                if (r != Filter.Result.NEUTRAL) {
-                    return r == Filter.Result.ACCEPT;
-                }
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
             }
-
             return intLevel >= level.intLevel();
         }
 
         boolean filter(Level level, Marker marker, String msg, Throwable t) {
-            config.getConfigurationMonitor().checkConfiguration();
-            Filter filter = config.getFilter();
-            if (filter != null) {
-                Filter.Result r = filter.filter(logger, level, marker, msg, t);
-                if (r != Filter.Result.NEUTRAL) {
-                    return r == Filter.Result.ACCEPT;
-                }
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, (Object) msg, t);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
             }
-
             return intLevel >= level.intLevel();
         }
 
         boolean filter(Level level, Marker marker, String msg, Object p1) {
-            config.getConfigurationMonitor().checkConfiguration();
-            Filter filter = config.getFilter();
-            if (filter != null) {
-                Filter.Result r = filter.filter(logger, level, marker, msg, p1);
-                if (r != Filter.Result.NEUTRAL) {
-                    return r == Filter.Result.ACCEPT;
-                }
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg, p1);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
             }
-
             return intLevel >= level.intLevel();
         }
 
         boolean filter(Level level, Marker marker, String msg, Object p1, Object p2) {
-            config.getConfigurationMonitor().checkConfiguration();
-            Filter filter = config.getFilter();
-            if (filter != null) {
-                Filter.Result r = filter.filter(logger, level, marker, msg, p1, p2);
-                if (r != Filter.Result.NEUTRAL) {
-                    return r == Filter.Result.ACCEPT;
-                }
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg, p1, p2);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
             }
-
             return intLevel >= level.intLevel();
         }
 
         boolean filter(Level level, Marker marker, String msg, Object p1, Object p2, Object p3) {
-            config.getConfigurationMonitor().checkConfiguration();
-            Filter filter = config.getFilter();
-            if (filter != null) {
-                Filter.Result r = filter.filter(logger, level, marker, msg, p1, p2, p3);
-                if (r != Filter.Result.NEUTRAL) {
-                    return r == Filter.Result.ACCEPT;
-                }
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg, p1, p2, p3);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
             }
-
             return intLevel >= level.intLevel();
         }
 
         boolean filter(Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
                        Object... params) {
-            config.getConfigurationMonitor().checkConfiguration();
-            Filter filter = config.getFilter();
-            if (filter != null) {
-                Filter.Result r = filter.filter(logger, level, marker, msg, p1, p2, p3, params);
-                if (r != Filter.Result.NEUTRAL) {
-                    return r == Filter.Result.ACCEPT;
-                }
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg, p1, p2, p3, params);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
             }
+            return intLevel >= level.intLevel();
+        }
 
+        boolean filter(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4) {
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg, p1, p2, p3, p4);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
+            }
             return intLevel >= level.intLevel();
         }
 
-        boolean filter(Level level, Marker marker, Object msg, Throwable t) {
-            config.getConfigurationMonitor().checkConfiguration();
-            Filter filter = config.getFilter();
-            if (filter != null) {
-                Filter.Result r = filter.filter(logger, level, marker, msg, t);
-                if (r != Filter.Result.NEUTRAL) {
-                    return r == Filter.Result.ACCEPT;
-                }
+        boolean filter(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4, Object p5) {
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
             }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg, p1, p2, p3, p4, p5);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
+            }
+            return intLevel >= level.intLevel();
+        }
 
+        boolean filter(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4, Object p5,
+                       Object p6) {
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg, p1, p2, p3, p4, p5, p6);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
+            }
             return intLevel >= level.intLevel();
         }
 
-        boolean filter(Level level, Marker marker, Message msg, Throwable t) {
-            config.getConfigurationMonitor().checkConfiguration();
-            Filter filter = config.getFilter();
-            if (filter != null) {
-                Filter.Result r = filter.filter(logger, level, marker, msg, t);
-                if (r != Filter.Result.NEUTRAL) {
-                    return r == Filter.Result.ACCEPT;
-                }
+        boolean filter(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4, Object p5,
+                       Object p6, Object p7) {
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg, p1, p2, p3, p4, p5, p6, p7);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
+            }
+            return intLevel >= level.intLevel();
+        }
+
+        boolean filter(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4, Object p5,
+                       Object p6, Object p7, Object p8) {
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg, p1, p2, p3, p4, p5, p6, p7, p8);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
+            }
+            return intLevel >= level.intLevel();
+        }
+
+        boolean filter(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4, Object p5,
+                       Object p6, Object p7, Object p8, Object p9) {
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
+            }
+            return intLevel >= level.intLevel();
+        }
+
+        boolean filter(Level level, Marker marker, String msg, Object p1, Object p2, Object p3, Object p4, Object p5,
+                       Object p6, Object p7, Object p8, Object p9, Object p10) {
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
             }
+            return intLevel >= level.intLevel();
+        }
 
+        boolean filter(Level level, Marker marker, Object msg, Throwable t) {
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg, t);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
+            }
+            return intLevel >= level.intLevel();
+        }
+
+        boolean filter(Level level, Marker marker, Message msg, Throwable t) {
+            if (globalFilter == null) {
+                return intLevel >= level.intLevel();
+            }
+            Filter.Result r = globalFilter.filter(logger, level, marker, msg, t);
+            if (r != Filter.Result.NEUTRAL) {
+                return r == Filter.Result.ACCEPT;
+            }
             return intLevel >= level.intLevel();
         }
     }
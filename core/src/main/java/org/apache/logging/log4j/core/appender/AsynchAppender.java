@@ -29,6 +29,7 @@ import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
 import org.apache.logging.log4j.core.config.plugins.PluginElement;
 import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.impl.ReusableLogEventFactory;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -115,6 +116,7 @@ public final class AsynchAppender extends AppenderBase {
         if (!isStarted()) {
             throw new IllegalStateException("AsynchAppender " + getName() + " is not active");
         }
+        event = ReusableLogEventFactory.toImmutable(event);
         if (event instanceof Log4jLogEvent) {
             if (blocking && queue.remainingCapacity() > 0) {
                 try {
@@ -200,6 +202,7 @@ public final class AsynchAppender extends AppenderBase {
                     continue;
                 }
                 Log4jLogEvent event = Log4jLogEvent.deserialize(s);
+                event.setEndOfBatch(queue.isEmpty());
                 boolean success = false;
                 for (AppenderControl control : appenders) {
                     try {
@@ -221,6 +224,7 @@ public final class AsynchAppender extends AppenderBase {
             while (!queue.isEmpty()) {
                 try {
                     Log4jLogEvent event = Log4jLogEvent.deserialize(queue.take());
+                    event.setEndOfBatch(queue.isEmpty());
                     for (AppenderControl control : appenders) {
                         control.callAppender(event);
                     }
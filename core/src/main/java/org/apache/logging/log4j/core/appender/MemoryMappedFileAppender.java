@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttr;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+/**
+ * File Appender that writes to a memory mapped file.
+ */
+@Plugin(name = "MemoryMappedFile", type = "Core", elementType = "appender", printObject = true)
+public final class MemoryMappedFileAppender extends OutputStreamAppender {
+
+    private final String fileName;
+
+    private MemoryMappedFileAppender(String name, Layout layout, Filter filter, MemoryMappedFileManager manager,
+                                     String filename, boolean handleException) {
+        // Flushing a memory mapped file does nothing so there is no point in asking for it.
+        super(name, layout, filter, handleException, false, manager);
+        this.fileName = filename;
+    }
+
+    /**
+     * Return the file name this appender is associated with.
+     * @return The File name.
+     */
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    /**
+     * Create a MemoryMappedFile Appender.
+     * @param fileName The name and path of the file.
+     * @param append "True" if the file should be appended to, "false" if it should be overwritten.
+     * The default is "true".
+     * @param name The name of the Appender.
+     * @param regionLength The number of bytes of the file to map at a time. The default is 32 MB.
+     * @param forceInterval The number of milliseconds between forcing the data to disk. The default is 0,
+     * which means the data is only forced when the file is closed.
+     * @param suppress "true" if exceptions should be hidden from the application, "false" otherwise.
+     * The default is "true".
+     * @param layout The layout to use to format the event. If no layout is provided the default PatternLayout
+     * will be used.
+     * @param filter The filter, if any, to use.
+     * @return The MemoryMappedFileAppender.
+     */
+    @PluginFactory
+    public static MemoryMappedFileAppender createAppender(@PluginAttr("fileName") String fileName,
+                                                          @PluginAttr("append") String append,
+                                                          @PluginAttr("name") String name,
+                                                          @PluginAttr("regionLength") String regionLength,
+                                                          @PluginAttr("forceInterval") String forceInterval,
+                                                          @PluginAttr("suppressExceptions") String suppress,
+                                                          @PluginElement("layout") Layout layout,
+                                                          @PluginElement("filters") Filter filter) {
+
+        boolean isAppend = append == null ? true : Boolean.valueOf(append);
+        int length = regionLength == null ? MemoryMappedOutputStream.DEFAULT_REGION_LENGTH :
+            Integer.parseInt(regionLength);
+        long interval = forceInterval == null ? 0 : Long.parseLong(forceInterval);
+        boolean handleExceptions = suppress == null ? true : Boolean.valueOf(suppress);
+
+        if (name == null) {
+            LOGGER.error("No name provided for MemoryMappedFileAppender");
+            return null;
+        }
+
+        if (fileName == null) {
+            LOGGER.error("No filename provided for MemoryMappedFileAppender with name "  + name);
+            return null;
+        }
+
+        if (length <= 0) {
+            LOGGER.error("Invalid region length " + regionLength + " for MemoryMappedFileAppender with name "
+                + name);
+            return null;
+        }
+
+        MemoryMappedFileManager manager = MemoryMappedFileManager.getFileManager(fileName, isAppend, length,
+            interval);
+        if (manager == null) {
+            return null;
+        }
+        if (layout == null) {
+            layout = PatternLayout.createLayout(null, null, null, null);
+        }
+        return new MemoryMappedFileAppender(name, layout, filter, manager, fileName, handleExceptions);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Manages a file that is written through a {@link MemoryMappedOutputStream}.
+ */
+public class MemoryMappedFileManager extends FileManager {
+
+    private static ManagerFactory factory = new MemoryMappedFileManagerFactory();
+
+    private final int regionLength;
+    private final long forceInterval;
+
+    protected MemoryMappedFileManager(String fileName, OutputStream os, boolean append, int regionLength,
+                                      long forceInterval) {
+        super(fileName, os, append, false);
+        this.regionLength = regionLength;
+        this.forceInterval = forceInterval;
+    }
+
+    /**
+     * Return the MemoryMappedFileManager.
+     * @param fileName The name of the file to manage.
+     * @param append true if the file should be appended to, false if it should be overwritten.
+     * @param regionLength The number of bytes to map at a time.
+     * @param forceInterval The number of milliseconds between forcing the mapped data to disk, or zero if
+     * it should only be forced when the file is closed.
+     * @return A MemoryMappedFileManager for the File.
+     */
+    public static MemoryMappedFileManager getFileManager(String fileName, boolean append, int regionLength,
+                                                         long forceInterval) {
+        return (MemoryMappedFileManager) getManager(fileName, factory,
+            new FactoryData(append, regionLength, forceInterval));
+    }
+
+    /**
+     * Return the number of bytes that are mapped at a time.
+     * @return The region length.
+     */
+    public int getRegionLength() {
+        return regionLength;
+    }
+
+    /**
+     * Return the number of milliseconds between forcing the mapped data to disk.
+     * @return The force interval.
+     */
+    public long getForceInterval() {
+        return forceInterval;
+    }
+
+    /**
+     * Factory Data.
+     */
+    private static class FactoryData {
+        private boolean append;
+        private int regionLength;
+        private long forceInterval;
+
+        /**
+         * Constructor.
+         * @param append Append status.
+         * @param regionLength The region length.
+         * @param forceInterval The force interval.
+         */
+        public FactoryData(boolean append, int regionLength, long forceInterval) {
+            this.append = append;
+            this.regionLength = regionLength;
+            this.forceInterval = forceInterval;
+        }
+    }
+
+    /**
+     * Factory to create a MemoryMappedFileManager.
+     */
+    private static class MemoryMappedFileManagerFactory
+        implements ManagerFactory<MemoryMappedFileManager, FactoryData> {
+
+        /**
+         * Create a MemoryMappedFileManager.
+         * @param name The name of the File.
+         * @param data The FactoryData
+         * @return The MemoryMappedFileManager for the File.
+         */
+        public MemoryMappedFileManager createManager(String name, FactoryData data) {
+            File file = new File(name);
+            final File parent = file.getParentFile();
+            if (null != parent && !parent.exists()) {
+                parent.mkdirs();
+            }
+
+            try {
+                OutputStream os = new MemoryMappedOutputStream(name, data.append, data.regionLength,
+                    data.forceInterval);
+                return new MemoryMappedFileManager(name, os, data.append, data.regionLength, data.forceInterval);
+            } catch (IOException ex) {
+                LOGGER.error("MemoryMappedFileManager (" + name + ") " + ex);
+            }
+            return null;
+        }
+    }
+}
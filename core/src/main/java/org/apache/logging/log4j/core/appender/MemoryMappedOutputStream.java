@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import org.apache.logging.log4j.core.helpers.Scheduler;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * OutputStream that copies the bytes directly into a region of the file that is mapped into memory. When the
+ * region is full the next region is mapped, which grows the file by the region length. Writes do not require
+ * a system call so the data is only guaranteed to be on disk after {@link #force()} is called. That happens
+ * when the stream is closed and, optionally, at a fixed interval by the {@link Scheduler}. When the stream is
+ * closed the unused part of the last region is truncated from the file.
+ */
+public class MemoryMappedOutputStream extends OutputStream {
+
+    /**
+     * The default length of a mapped region.
+     */
+    public static final int DEFAULT_REGION_LENGTH = 32 * 1024 * 1024;
+
+    private static final StatusLogger LOGGER = StatusLogger.getLogger();
+
+    private final String fileName;
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final int regionLength;
+    private final ScheduledFuture<?> forceTask;
+    private MappedByteBuffer mappedBuffer;
+    private long mappingOffset;
+    private boolean closed = false;
+
+    /**
+     * Constructor.
+     * @param fileName The name of the file.
+     * @param append true if the file should be appended to, false if it should be overwritten.
+     * @param regionLength The number of bytes to map at a time.
+     * @param forceInterval The number of milliseconds between calls to {@link #force()}. If zero or less
+     * the mapped regions are only forced when the stream is closed.
+     * @throws IOException if the file cannot be opened or mapped.
+     */
+    public MemoryMappedOutputStream(String fileName, boolean append, int regionLength, long forceInterval)
+        throws IOException {
+        if (regionLength <= 0) {
+            throw new IllegalArgumentException("Invalid region length " + regionLength);
+        }
+        this.fileName = fileName;
+        this.regionLength = regionLength;
+        this.file = new RandomAccessFile(new File(fileName), "rw");
+        this.channel = file.getChannel();
+        try {
+            if (append) {
+                mappingOffset = channel.size();
+            } else {
+                channel.truncate(0);
+                mappingOffset = 0;
+            }
+            mappedBuffer = channel.map(FileChannel.MapMode.READ_WRITE, mappingOffset, regionLength);
+        } catch (IOException ex) {
+            file.close();
+            throw ex;
+        }
+        if (forceInterval > 0) {
+            forceTask = Scheduler.scheduleWithFixedDelay(new Runnable() {
+                public void run() {
+                    force();
+                }
+            }, forceInterval);
+        } else {
+            forceTask = null;
+        }
+    }
+
+    /**
+     * Return the number of bytes that are mapped at a time.
+     * @return The region length.
+     */
+    public int getRegionLength() {
+        return regionLength;
+    }
+
+    /**
+     * Return the number of bytes that have been written to the file.
+     * @return The length of the data in the file.
+     */
+    public synchronized long getLength() {
+        return mappingOffset + mappedBuffer.position();
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+        ensureOpen();
+        if (!mappedBuffer.hasRemaining()) {
+            remap();
+        }
+        mappedBuffer.put((byte) b);
+    }
+
+    @Override
+    public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+        ensureOpen();
+        while (length > 0) {
+            if (!mappedBuffer.hasRemaining()) {
+                remap();
+            }
+            int chunk = Math.min(length, mappedBuffer.remaining());
+            mappedBuffer.put(bytes, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * The data is visible to other readers of the file as soon as it is written so there is nothing to flush.
+     * Use {@link #force()} to write the data to the storage device.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Force the data in the mapped region to be written to the storage device. The lock is not held while
+     * the region is written so other threads can continue to write to the stream.
+     */
+    public void force() {
+        MappedByteBuffer buffer;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            buffer = mappedBuffer;
+        }
+        buffer.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (forceTask != null) {
+            forceTask.cancel(false);
+        }
+        try {
+            mappedBuffer.force();
+            channel.truncate(mappingOffset + mappedBuffer.position());
+        } finally {
+            file.close();
+        }
+    }
+
+    private void remap() throws IOException {
+        // The previous region is unmapped when it is garbage collected. Its pages are shared with the file so
+        // nothing is lost, but when the regions are forced periodically the Scheduler also forces the previous
+        // one so that the interval bounds the data at risk. That is not done while holding the lock.
+        if (forceTask != null) {
+            final MappedByteBuffer previous = mappedBuffer;
+            Scheduler.schedule(new Runnable() {
+                public void run() {
+                    previous.force();
+                }
+            }, 0);
+        }
+        mappingOffset += mappedBuffer.position();
+        mappedBuffer = channel.map(FileChannel.MapMode.READ_WRITE, mappingOffset, regionLength);
+        LOGGER.debug("Mapped {} bytes of {} at offset {}", regionLength, fileName, mappingOffset);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream " + fileName + " is closed");
+        }
+    }
+}
@@ -20,10 +20,6 @@ import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.Layout;
 import org.apache.logging.log4j.core.LogEvent;
 
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
 /**
  * Writes the byte output stream. The stream will already have been encoded.
  */
@@ -45,10 +41,6 @@ public abstract class OutputStreamAppender extends AppenderBase {
 
     private volatile OutputStreamManager manager;
 
-    private ReadWriteLock rwLock = new ReentrantReadWriteLock();
-    private Lock readLock = rwLock.readLock();
-    private Lock writeLock = rwLock.writeLock();
-
     /**
      * Instantiate a WriterAppender and set the output destination to a
      * new {@link java.io.OutputStreamWriter} initialized with <code>os</code>
@@ -72,17 +64,15 @@ public abstract class OutputStreamAppender extends AppenderBase {
         return manager;
     }
 
+    /**
+     * Switch to a new manager. Events that are being appended to the old manager when it is released are
+     * written to the new one.
+     * @param newManager The new OutputStreamManager.
+     */
     protected void replaceManager(OutputStreamManager newManager) {
-
-        writeLock.lock();
-        try {
-            OutputStreamManager old = manager;
-            manager = newManager;
-            old.release();
-        } finally {
-            writeLock.unlock();
-        }
-
+        OutputStreamManager old = manager;
+        manager = newManager;
+        old.release();
     }
 
     @Override
@@ -103,24 +93,28 @@ public abstract class OutputStreamAppender extends AppenderBase {
     }
 
     /**
-     * Actual writing occurs here.
+     * Actual writing occurs here. The stream is flushed after the event if immediateFlush is set or if the
+     * event is the last one in a batch handed over by an asynchronous Appender or Logger. The event is
+     * encoded before the manager is locked and the lock is only taken once to write and flush it.
      * <p/>
      * <p>Most subclasses of <code>OutputStreamAppender</code> will need to
      * override this method.
      * @param event The LogEvent.
      */
     public void append(LogEvent event) {
-        readLock.lock();
+        OutputStreamManager current = manager;
+        boolean flush = this.immediateFlush || event.isEndOfBatch();
         try {
-            manager.write(getLayout().format(event));
-            if (this.immediateFlush) {
-                manager.flush();
+            while (!current.write(getLayout(), event, flush)) {
+                // The manager was released while the event was being encoded.
+                if (current == manager) {
+                    throw new AppenderRuntimeException("Stream " + current.getName() + " has been closed");
+                }
+                current = manager;
             }
         } catch (AppenderRuntimeException ex) {
-            error("Unable to write to stream " + manager.getName() + " for appender " + getName());
+            error("Unable to write to stream " + current.getName() + " for appender " + getName());
             throw ex;
-        } finally {
-            readLock.unlock();
         }
     }
 }
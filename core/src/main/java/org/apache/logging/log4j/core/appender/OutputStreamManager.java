@@ -16,8 +16,13 @@
  */
 package org.apache.logging.log4j.core.appender;
 
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Manage an OutputStream so that it can be shared by multiple Appenders and will
@@ -25,10 +30,29 @@ import java.io.OutputStream;
  */
 public class OutputStreamManager extends AbstractManager {
 
+    private static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 256 * 1024;
+
     private OutputStream os;
 
+    /**
+     * Buffer each thread encodes its events into before they are written.
+     */
+    private final ThreadLocal<EventBuffer> eventBuffers = new ThreadLocal<EventBuffer>() {
+        @Override
+        protected EventBuffer initialValue() {
+            return new EventBuffer();
+        }
+    };
+
     private byte[] footer = null;
 
+    /**
+     * Set when the last Appender using the manager has released it. Guarded by the manager's lock.
+     */
+    private boolean released = false;
+
     protected OutputStreamManager(OutputStream os, String streamName) {
         super(streamName);
         this.os = os;
@@ -74,7 +98,8 @@ public class OutputStreamManager extends AbstractManager {
     /**
      * Default hook to write footer during close.
      */
-    public void releaseSub() {
+    public synchronized void releaseSub() {
+        released = true;
         if (footer != null) {
             write(footer);
         }
@@ -97,6 +122,57 @@ public class OutputStreamManager extends AbstractManager {
         this.os = os;
     }
 
+    /**
+     * Encode the event with the Layout into a buffer owned by the current thread and write the result with a
+     * single call to {@link #write(byte[], int, int)}. The event is formatted without holding the lock
+     * and no String or byte array is created for it.
+     * @param layout The Layout.
+     * @param event The LogEvent.
+     * @throws AppenderRuntimeException if an error occurs.
+     */
+    public void write(Layout<?> layout, LogEvent event) {
+        write(layout, event, false);
+    }
+
+    /**
+     * Encode the event with the Layout into a buffer owned by the current thread, then write it and optionally
+     * flush the stream while holding the lock only once. Threads only contend for the lock while the bytes
+     * are copied to the stream.
+     * @param layout The Layout.
+     * @param event The LogEvent.
+     * @param flush true if the stream should be flushed after the event is written.
+     * @return false if the manager has been released and nothing was written, true otherwise.
+     * @throws AppenderRuntimeException if an error occurs.
+     */
+    public boolean write(Layout<?> layout, LogEvent event, boolean flush) {
+        EventBuffer buffer = eventBuffers.get();
+        if (buffer.inUse) {
+            // The Layout logged to an Appender that shares this manager.
+            buffer = new EventBuffer();
+        }
+        buffer.inUse = true;
+        try {
+            layout.encode(event, buffer);
+            ByteBuffer buf = buffer.getByteBuffer();
+            return writeEvent(buf.array(), buf.arrayOffset(), buf.position(), flush);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private synchronized boolean writeEvent(byte[] bytes, int offset, int length, boolean flush) {
+        if (released) {
+            return false;
+        }
+        if (length > 0) {
+            write(bytes, offset, length);
+        }
+        if (flush) {
+            flush();
+        }
+        return true;
+    }
+
     /**
      * Some output streams synchronize writes while others do not. Synchronizing here insures that
      * log events won't be intertwined.
@@ -147,4 +223,34 @@ public class OutputStreamManager extends AbstractManager {
             throw new AppenderRuntimeException(msg, ex);
         }
     }
+
+    /**
+     * Holds a single encoded event. The buffer grows instead of being written out when it is full so the
+     * event reaches the stream in one piece.
+     */
+    private static class EventBuffer implements ByteBufferDestination {
+        private ByteBuffer buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+        private boolean inUse;
+
+        public ByteBuffer getByteBuffer() {
+            return buffer;
+        }
+
+        public ByteBuffer drain(ByteBuffer buf) {
+            ByteBuffer larger = ByteBuffer.allocate(buf.capacity() * 2);
+            buf.flip();
+            larger.put(buf);
+            buffer = larger;
+            return larger;
+        }
+
+        private void release() {
+            inUse = false;
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+            } else {
+                buffer.clear();
+            }
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttr;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+/**
+ * File Appender that writes through a FileChannel using a large buffer.
+ */
+@Plugin(name = "RandomAccessFile", type = "Core", elementType = "appender", printObject = true)
+public final class RandomAccessFileAppender extends OutputStreamAppender {
+
+    private final String fileName;
+
+    private RandomAccessFileAppender(String name, Layout layout, Filter filter, RandomAccessFileManager manager,
+                                     String filename, boolean handleException, boolean immediateFlush) {
+        super(name, layout, filter, handleException, immediateFlush, manager);
+        this.fileName = filename;
+    }
+
+    /**
+     * Return the file name this appender is associated with.
+     * @return The File name.
+     */
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    /**
+     * Create a RandomAccessFile Appender.
+     * @param fileName The name and path of the file.
+     * @param append "True" if the file should be appended to, "false" if it should be overwritten.
+     * The default is "true".
+     * @param name The name of the Appender.
+     * @param immediateFlush "true" if the contents should be flushed on every write, "false" otherwise. The default
+     * is "true".
+     * @param bufferSize The size of the buffer in bytes. The default is 262144 (256 KB).
+     * @param flushInterval The number of milliseconds between writing the buffer to the file. The default is 0,
+     * which means the buffer is only written when it is full or when the Appender flushes.
+     * @param suppress "true" if exceptions should be hidden from the application, "false" otherwise.
+     * The default is "true".
+     * @param layout The layout to use to format the event. If no layout is provided the default PatternLayout
+     * will be used.
+     * @param filter The filter, if any, to use.
+     * @return The RandomAccessFileAppender.
+     */
+    @PluginFactory
+    public static RandomAccessFileAppender createAppender(@PluginAttr("fileName") String fileName,
+                                                          @PluginAttr("append") String append,
+                                                          @PluginAttr("name") String name,
+                                                          @PluginAttr("immediateFlush") String immediateFlush,
+                                                          @PluginAttr("bufferSize") String bufferSize,
+                                                          @PluginAttr("flushInterval") String flushInterval,
+                                                          @PluginAttr("suppressExceptions") String suppress,
+                                                          @PluginElement("layout") Layout layout,
+                                                          @PluginElement("filters") Filter filter) {
+
+        boolean isAppend = append == null ? true : Boolean.valueOf(append);
+        boolean isFlush = immediateFlush == null ? true : Boolean.valueOf(immediateFlush);
+        int size = bufferSize == null ? RandomAccessFileManager.DEFAULT_BUFFER_SIZE : Integer.parseInt(bufferSize);
+        long interval = flushInterval == null ? 0 : Long.parseLong(flushInterval);
+        boolean handleExceptions = suppress == null ? true : Boolean.valueOf(suppress);
+
+        if (name == null) {
+            LOGGER.error("No name provided for RandomAccessFileAppender");
+            return null;
+        }
+
+        if (fileName == null) {
+            LOGGER.error("No filename provided for RandomAccessFileAppender with name "  + name);
+            return null;
+        }
+
+        if (size <= 0) {
+            LOGGER.error("Invalid buffer size " + bufferSize + " for RandomAccessFileAppender with name " + name);
+            return null;
+        }
+
+        RandomAccessFileManager manager = RandomAccessFileManager.getFileManager(fileName, isAppend, size,
+            interval);
+        if (manager == null) {
+            return null;
+        }
+        if (layout == null) {
+            layout = PatternLayout.createLayout(null, null, null, null);
+        }
+        return new RandomAccessFileAppender(name, layout, filter, manager, fileName, handleExceptions, isFlush);
+    }
+}
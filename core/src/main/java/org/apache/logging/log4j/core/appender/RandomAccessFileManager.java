@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import org.apache.logging.log4j.core.helpers.Scheduler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Manages a file that is written through a FileChannel. Events are copied into a large direct ByteBuffer
+ * that is only written to the file when it is full, when the Appender flushes or, optionally, at a fixed
+ * interval. This results in far fewer system calls than a BufferedOutputStream.
+ */
+public class RandomAccessFileManager extends OutputStreamManager {
+
+    /**
+     * The default size of the buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+    private static ManagerFactory factory = new RandomAccessFileManagerFactory();
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final boolean isAppend;
+    private final long flushInterval;
+    private final ScheduledFuture<?> flushTask;
+
+    protected RandomAccessFileManager(String fileName, RandomAccessFile file, boolean append, int bufferSize,
+                                      long flushInterval) {
+        super(null, fileName);
+        this.file = file;
+        this.channel = file.getChannel();
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.isAppend = append;
+        this.flushInterval = flushInterval;
+        if (flushInterval > 0) {
+            flushTask = Scheduler.scheduleWithFixedDelay(new Runnable() {
+                public void run() {
+                    try {
+                        flush();
+                    } catch (AppenderRuntimeException ex) {
+                        LOGGER.error("Unable to flush " + getName(), ex);
+                    }
+                }
+            }, flushInterval);
+        } else {
+            flushTask = null;
+        }
+    }
+
+    /**
+     * Return the RandomAccessFileManager.
+     * @param fileName The name of the file to manage.
+     * @param append true if the file should be appended to, false if it should be overwritten.
+     * @param bufferSize The size of the buffer in bytes.
+     * @param flushInterval The number of milliseconds between writing the buffer to the file, or zero if the
+     * buffer should only be written when it is full or the Appender flushes.
+     * @return A RandomAccessFileManager for the File.
+     */
+    public static RandomAccessFileManager getFileManager(String fileName, boolean append, int bufferSize,
+                                                         long flushInterval) {
+        return (RandomAccessFileManager) getManager(fileName, factory,
+            new FactoryData(append, bufferSize, flushInterval));
+    }
+
+    /**
+     * Returns the name of the File being managed.
+     * @return The name of the File being managed.
+     */
+    public String getFileName() {
+        return getName();
+    }
+
+    /**
+     * Return the append status.
+     * @return true if the file will be appended to, false if it is overwritten.
+     */
+    public boolean isAppend() {
+        return isAppend;
+    }
+
+    /**
+     * Return the size of the buffer.
+     * @return The size of the buffer in bytes.
+     */
+    public int getBufferSize() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Return the number of milliseconds between writing the buffer to the file.
+     * @return The flush interval.
+     */
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    @Override
+    public synchronized void setHeader(byte[] header) {
+        if (header != null) {
+            try {
+                write(header, 0, header.length);
+            } catch (AppenderRuntimeException ex) {
+                LOGGER.error("Unable to write header", ex);
+            }
+        }
+    }
+
+    /**
+     * Copy the bytes into the buffer, writing the buffer to the file first if there is not enough room.
+     * @param bytes The serialized Log event.
+     * @param offset The offset into the byte array.
+     * @param length The number of bytes to write.
+     * @throws AppenderRuntimeException if an error occurs.
+     */
+    @Override
+    protected synchronized void write(byte[] bytes, int offset, int length) {
+        if (length > buffer.remaining()) {
+            flushBuffer();
+            if (length > buffer.capacity()) {
+                writeFully(ByteBuffer.wrap(bytes, offset, length));
+                return;
+            }
+        }
+        buffer.put(bytes, offset, length);
+    }
+
+    /**
+     * Write the contents of the buffer to the file.
+     * @throws AppenderRuntimeException if an error occurs.
+     */
+    @Override
+    public synchronized void flush() {
+        flushBuffer();
+    }
+
+    @Override
+    protected synchronized void close() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
+        try {
+            flushBuffer();
+        } catch (AppenderRuntimeException ex) {
+            LOGGER.error("Unable to flush " + getName() + " before closing it", ex);
+        }
+        try {
+            file.close();
+        } catch (IOException ex) {
+            LOGGER.error("Unable to close file " + getName() + ". " + ex);
+        }
+    }
+
+    private void flushBuffer() {
+        if (buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        try {
+            writeFully(buffer);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private void writeFully(ByteBuffer buf) {
+        try {
+            while (buf.hasRemaining()) {
+                channel.write(buf);
+            }
+        } catch (IOException ex) {
+            String msg = "Error writing to file " + getName();
+            throw new AppenderRuntimeException(msg, ex);
+        }
+    }
+
+    /**
+     * Factory Data.
+     */
+    private static class FactoryData {
+        private boolean append;
+        private int bufferSize;
+        private long flushInterval;
+
+        /**
+         * Constructor.
+         * @param append Append status.
+         * @param bufferSize The size of the buffer.
+         * @param flushInterval The flush interval.
+         */
+        public FactoryData(boolean append, int bufferSize, long flushInterval) {
+            this.append = append;
+            this.bufferSize = bufferSize;
+            this.flushInterval = flushInterval;
+        }
+    }
+
+    /**
+     * Factory to create a RandomAccessFileManager.
+     */
+    private static class RandomAccessFileManagerFactory
+        implements ManagerFactory<RandomAccessFileManager, FactoryData> {
+
+        /**
+         * Create a RandomAccessFileManager.
+         * @param name The name of the File.
+         * @param data The FactoryData
+         * @return The RandomAccessFileManager for the File.
+         */
+        public RandomAccessFileManager createManager(String name, FactoryData data) {
+            File file = new File(name);
+            final File parent = file.getParentFile();
+            if (null != parent && !parent.exists()) {
+                parent.mkdirs();
+            }
+
+            try {
+                RandomAccessFile raf = new RandomAccessFile(file, "rw");
+                try {
+                    if (data.append) {
+                        raf.seek(raf.length());
+                    } else {
+                        raf.setLength(0);
+                    }
+                } catch (IOException ex) {
+                    raf.close();
+                    throw ex;
+                }
+                return new RandomAccessFileManager(name, raf, data.append, data.bufferSize, data.flushInterval);
+            } catch (IOException ex) {
+                LOGGER.error("RandomAccessFileManager (" + name + ") " + ex);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.async.EventHandler;
+import org.apache.logging.log4j.core.async.RingBuffer;
+import org.apache.logging.log4j.core.async.RingBufferProcessor;
+import org.apache.logging.log4j.core.async.WaitStrategy;
+import org.apache.logging.log4j.core.config.AppenderControl;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.ConfigurationException;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttr;
+import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.impl.MutableLogEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appender to write to one or more Appenders asynchronously through a preallocated ring buffer. Unlike the
+ * AsynchAppender, events are not serialized and no locks are taken when handing an event to the background
+ * thread. The background thread passes every event that is available when it wakes up to the referenced
+ * Appenders as a single batch. The RingBufferAppender does not allow filters to be specified on the Appender
+ * references.
+ */
+@Plugin(name = "RingBuffer", type = "Core", elementType = "appender", printObject = true)
+public final class RingBufferAppender extends AppenderBase {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private final RingBuffer<Slot> ringBuffer;
+    private final boolean blocking;
+    private final boolean includeLocation;
+    private final Configuration config;
+    private final AppenderRef[] appenderRefs;
+    private final String errorRef;
+    private AppenderControl[] appenders;
+    private AppenderControl errorAppender = null;
+    private RingBufferProcessor<Slot> processor = null;
+
+    private RingBufferAppender(String name, Filter filter, AppenderRef[] appenderRefs, String errorRef,
+                               int bufferSize, WaitStrategy waitStrategy, boolean blocking, boolean includeLocation,
+                               boolean handleExceptions, Configuration config) {
+        super(name, filter, null, handleExceptions);
+        this.ringBuffer = new RingBuffer<Slot>(bufferSize, waitStrategy, new RingBuffer.Factory<Slot>() {
+            public Slot newInstance() {
+                return new Slot();
+            }
+        });
+        this.blocking = blocking;
+        this.includeLocation = includeLocation;
+        this.config = config;
+        this.appenderRefs = appenderRefs;
+        this.errorRef = errorRef;
+    }
+
+    @Override
+    public void start() {
+        Map<String, Appender> map = config.getAppenders();
+        List<AppenderControl> controls = new ArrayList<AppenderControl>();
+        for (AppenderRef appenderRef : appenderRefs) {
+            if (map.containsKey(appenderRef.getRef())) {
+                controls.add(new AppenderControl(map.get(appenderRef.getRef()), null, null));
+            } else {
+                LOGGER.error("No appender named {} was configured", appenderRef);
+            }
+        }
+        if (errorRef != null) {
+            if (map.containsKey(errorRef)) {
+                errorAppender = new AppenderControl(map.get(errorRef), null, null);
+            } else {
+                LOGGER.error("Unable to set up error Appender. No appender named {} was configured", errorRef);
+            }
+        }
+        if (controls.size() == 0 && errorRef == null) {
+            throw new ConfigurationException("No appenders are available for RingBufferAppender " + getName());
+        }
+        appenders = controls.toArray(new AppenderControl[controls.size()]);
+        processor = new RingBufferProcessor<Slot>("RingBufferAppender-" + getName(), ringBuffer,
+            new SlotHandler());
+        processor.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        processor.shutdown();
+        try {
+            processor.join();
+        } catch (InterruptedException ex) {
+            LOGGER.warn("Interrupted while stopping RingBufferAppender {}", getName());
+        }
+    }
+
+    /**
+     * Hands the event to the background thread.
+     * @param event The LogEvent.
+     */
+    public void append(LogEvent event) {
+        if (!isStarted()) {
+            throw new IllegalStateException("RingBufferAppender " + getName() + " is not active");
+        }
+        long sequence = blocking ? ringBuffer.next() : ringBuffer.tryNext();
+        if (sequence < 0) {
+            // The buffer is full or the Appender was stopped while waiting for a slot.
+            error("Appender " + getName() + " is unable to write primary appenders. buffer is full");
+            if (errorAppender != null) {
+                errorAppender.callAppender(event);
+            }
+            return;
+        }
+        try {
+            ringBuffer.get(sequence).event = snapshot(event);
+        } finally {
+            ringBuffer.publish(sequence);
+        }
+    }
+
+    /**
+     * Copies the event, capturing the parts of it that depend on the calling thread. The copy belongs to this
+     * Appender alone, so the background thread can mark the end of a batch on it without changing the event
+     * seen by the other Appenders of the caller. A MutableLogEvent will be reused once this call returns so
+     * its memento is used.
+     */
+    private LogEvent snapshot(LogEvent event) {
+        if (event instanceof MutableLogEvent) {
+            if (includeLocation) {
+                event.getSource();
+            }
+            return ((MutableLogEvent) event).createMemento();
+        }
+        return new Log4jLogEvent(event.getLoggerName(), event.getMarker(), event.getFQCN(), event.getLevel(),
+            event.getMessage(), event.getThrown(), event.getContextMap(), event.getContextStack(),
+            event.getThreadName(), includeLocation ? event.getSource() : null, event.getMillis());
+    }
+
+    /**
+     * Create a RingBufferAppender.
+     * @param appenderRefs The Appenders to reference.
+     * @param errorRef An optional Appender to write to if the buffer is full or other errors occur.
+     * @param blocking True if the Appender should wait when the buffer is full. The default is true.
+     * @param size The number of slots in the ring buffer. It will be rounded up to a power of 2. The default
+     * is 1024.
+     * @param waitStrategy How the threads wait on the buffer: "Spin", "Yield", "Park" or "Block". The default
+     * is "Block".
+     * @param includeLocation "true" if the location of the caller should be captured before the event is handed
+     * to the background thread. The default is "false".
+     * @param name The name of the Appender.
+     * @param filter The Filter or null.
+     * @param config The Configuration.
+     * @param suppress "true" if exceptions should be hidden from the application, "false" otherwise.
+     * The default is "true".
+     * @return The RingBufferAppender.
+     */
+    @PluginFactory
+    public static RingBufferAppender createAppender(@PluginElement("appender-ref") AppenderRef[] appenderRefs,
+                                                    @PluginAttr("error-ref") String errorRef,
+                                                    @PluginAttr("blocking") String blocking,
+                                                    @PluginAttr("bufferSize") String size,
+                                                    @PluginAttr("waitStrategy") String waitStrategy,
+                                                    @PluginAttr("includeLocation") String includeLocation,
+                                                    @PluginAttr("name") String name,
+                                                    @PluginElement("filter") Filter filter,
+                                                    @PluginConfiguration Configuration config,
+                                                    @PluginAttr("suppressExceptions") String suppress) {
+        if (name == null) {
+            LOGGER.error("No name provided for RingBufferAppender");
+            return null;
+        }
+        if (appenderRefs == null) {
+            LOGGER.error("No appender references provided to RingBufferAppender {}", name);
+        }
+
+        boolean isBlocking = blocking == null ? true : Boolean.valueOf(blocking);
+        int bufferSize = size == null ? DEFAULT_BUFFER_SIZE : Integer.parseInt(size);
+        WaitStrategy strategy = WaitStrategy.toWaitStrategy(waitStrategy, WaitStrategy.BLOCK);
+        if (waitStrategy != null && !strategy.name().equalsIgnoreCase(waitStrategy)) {
+            LOGGER.error("Invalid wait strategy {} for RingBufferAppender {}. Using {}", waitStrategy, name,
+                strategy);
+        }
+        boolean location = includeLocation == null ? false : Boolean.valueOf(includeLocation);
+        boolean handleExceptions = suppress == null ? true : Boolean.valueOf(suppress);
+
+        return new RingBufferAppender(name, filter, appenderRefs, errorRef, bufferSize, strategy, isBlocking,
+            location, handleExceptions, config);
+    }
+
+    /**
+     * A preallocated entry in the ring buffer.
+     */
+    private static class Slot {
+        private LogEvent event;
+    }
+
+    /**
+     * Calls the Appenders on the background thread.
+     */
+    private class SlotHandler implements EventHandler<Slot> {
+
+        public void onEvent(Slot slot, long sequence, boolean endOfBatch) {
+            LogEvent event = slot.event;
+            slot.event = null;
+            if (event == null) {
+                return;
+            }
+            event.setEndOfBatch(endOfBatch);
+            boolean success = false;
+            for (AppenderControl control : appenders) {
+                try {
+                    control.callAppender(event);
+                    success = true;
+                } catch (Exception ex) {
+                    // If no appender is successful the error appender will get it.
+                }
+            }
+            if (!success && errorAppender != null) {
+                try {
+                    errorAppender.callAppender(event);
+                } catch (Exception ex) {
+                    // Silently accept the error.
+                }
+            }
+        }
+    }
+}
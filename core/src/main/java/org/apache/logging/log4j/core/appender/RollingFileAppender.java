@@ -89,6 +89,11 @@ public final class RollingFileAppender extends OutputStreamAppender {
      * @param name The name of the Appender (required).
      * @param bufferedIO When true, I/O will be buffered. Defaults to "true".
      * @param immediateFlush When true, events are immediately flushed. Defaults to "true".
+     * @param memoryMapped When true, the file is written through a memory mapped region and bufferedIO is
+     * ignored. Defaults to "false".
+     * @param regionLength The number of bytes to map at a time when the file is memory mapped. Defaults to 32 MB.
+     * @param forceInterval The number of milliseconds between forcing memory mapped data to disk. Defaults to 0,
+     * which means the data is only forced when the file is closed.
      * @param policy The triggering policy. (required).
      * @param strategy The rollover strategy. Defaults to DefaultRolloverStrategy.
      * @param layout The layout to use (defaults to the default PatternLayout).
@@ -105,6 +110,9 @@ public final class RollingFileAppender extends OutputStreamAppender {
                                               @PluginAttr("name") String name,
                                               @PluginAttr("bufferedIO") String bufferedIO,
                                               @PluginAttr("immediateFlush") String immediateFlush,
+                                              @PluginAttr("memoryMapped") String memoryMapped,
+                                              @PluginAttr("regionLength") String regionLength,
+                                              @PluginAttr("forceInterval") String forceInterval,
                                               @PluginElement("policy") TriggeringPolicy policy,
                                               @PluginElement("strategy") RolloverStrategy strategy,
                                               @PluginElement("layout") Layout layout,
@@ -116,6 +124,10 @@ public final class RollingFileAppender extends OutputStreamAppender {
         boolean handleExceptions = suppress == null ? true : Boolean.valueOf(suppress);
         boolean isBuffered = bufferedIO == null ? true : Boolean.valueOf(bufferedIO);
         boolean isFlush = immediateFlush == null ? true : Boolean.valueOf(immediateFlush);
+        boolean isMapped = memoryMapped == null ? false : Boolean.valueOf(memoryMapped);
+        int length = !isMapped ? 0 : regionLength == null ? MemoryMappedOutputStream.DEFAULT_REGION_LENGTH :
+            Integer.parseInt(regionLength);
+        long interval = forceInterval == null ? 0 : Long.parseLong(forceInterval);
 
         if (name == null) {
             LOGGER.error("No name provided for FileAppender");
@@ -132,6 +144,11 @@ public final class RollingFileAppender extends OutputStreamAppender {
             return null;
         }
 
+        if (isMapped && length <= 0) {
+            LOGGER.error("Invalid region length " + regionLength + " for FileAppender with name " + name);
+            return null;
+        }
+
         if (policy == null) {
             LOGGER.error("A TriggeringPolicy must be provided");
             return null;
@@ -141,7 +158,8 @@ public final class RollingFileAppender extends OutputStreamAppender {
             strategy = DefaultRolloverStrategy.createStrategy(null, null, config);
         }
 
-        RollingFileManager manager = RollingFileManager.getFileManager(fileName, filePattern, isAppend, isBuffered);
+        RollingFileManager manager = RollingFileManager.getFileManager(fileName, filePattern, isAppend, isBuffered,
+            length, interval);
         if (manager == null) {
             return null;
         }
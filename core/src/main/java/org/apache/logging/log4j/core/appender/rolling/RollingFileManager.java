@@ -19,12 +19,12 @@ package org.apache.logging.log4j.core.appender.rolling;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.FileManager;
 import org.apache.logging.log4j.core.appender.ManagerFactory;
+import org.apache.logging.log4j.core.appender.MemoryMappedOutputStream;
 import org.apache.logging.log4j.core.appender.rolling.helper.Action;
 import org.apache.logging.log4j.core.appender.rolling.helper.ActionBase;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -41,12 +41,21 @@ public class RollingFileManager extends FileManager {
     private long initialTime;
     private PatternProcessor processor;
     private final Semaphore semaphore = new Semaphore(1);
+    private final int regionLength;
+    private final long forceInterval;
 
     protected RollingFileManager(String fileName, String pattern, OutputStream os, boolean append, long size,
                                  long time) {
+        this(fileName, pattern, os, append, size, time, 0, 0);
+    }
+
+    protected RollingFileManager(String fileName, String pattern, OutputStream os, boolean append, long size,
+                                 long time, int regionLength, long forceInterval) {
         super(fileName, os, append, false);
         this.size = size;
         this.initialTime = time;
+        this.regionLength = regionLength;
+        this.forceInterval = forceInterval;
         processor = new PatternProcessor(pattern);
     }
 
@@ -61,8 +70,26 @@ public class RollingFileManager extends FileManager {
     public static RollingFileManager getFileManager(String fileName, String pattern, boolean append,
                                                     boolean bufferedIO) {
 
+        return getFileManager(fileName, pattern, append, bufferedIO, 0, 0);
+    }
+
+    /**
+     * Return a RollingFileManager.
+     * @param fileName The file name.
+     * @param pattern The pattern for rolling file.
+     * @param append true if the file should be appended to.
+     * @param bufferedIO true if data should be buffered. Ignored if the file is memory mapped.
+     * @param regionLength If greater than zero the file is written through a {@link MemoryMappedOutputStream}
+     * that maps this many bytes at a time.
+     * @param forceInterval The number of milliseconds between forcing memory mapped data to disk, or zero if it
+     * should only be forced when the file is closed.
+     * @return A RollingFileManager.
+     */
+    public static RollingFileManager getFileManager(String fileName, String pattern, boolean append,
+                                                    boolean bufferedIO, int regionLength, long forceInterval) {
+
         return (RollingFileManager) getManager(fileName, new FactoryData(pattern, append,
-            bufferedIO), factory);
+            bufferedIO, regionLength, forceInterval), factory);
     }
 
     protected synchronized void write(byte[] bytes, int offset, int length) {
@@ -86,6 +113,14 @@ public class RollingFileManager extends FileManager {
         return initialTime;
     }
 
+    /**
+     * Determine if the file is memory mapped.
+     * @return true if the file is written through a MemoryMappedOutputStream.
+     */
+    public boolean isMemoryMapped() {
+        return regionLength > 0;
+    }
+
     /**
      * Determine if a rollover should occur.
      * @param event The LogEvent.
@@ -97,9 +132,11 @@ public class RollingFileManager extends FileManager {
             try {
                 size = 0;
                 initialTime = System.currentTimeMillis();
-                OutputStream os = new FileOutputStream(getFileName(), isAppend());
+                OutputStream os = regionLength > 0 ?
+                    new MemoryMappedOutputStream(getFileName(), isAppend(), regionLength, forceInterval) :
+                    new FileOutputStream(getFileName(), isAppend());
                 setOutputStream(os);
-            } catch (FileNotFoundException ex) {
+            } catch (IOException ex) {
                 LOGGER.error("FileManager (" + getFileName() + ") " + ex);
             }
         }
@@ -215,17 +252,24 @@ public class RollingFileManager extends FileManager {
         private String pattern;
         private boolean append;
         private boolean bufferedIO;
+        private int regionLength;
+        private long forceInterval;
 
         /**
          * Create the data for the factory.
          * @param pattern The pattern.
          * @param append The append flag.
          * @param bufferedIO The bufferedIO flag.
+         * @param regionLength The memory mapped region length or zero.
+         * @param forceInterval The memory mapped force interval.
          */
-        public FactoryData(String pattern, boolean append, boolean bufferedIO) {
+        public FactoryData(String pattern, boolean append, boolean bufferedIO, int regionLength,
+                           long forceInterval) {
             this.pattern = pattern;
             this.append = append;
             this.bufferedIO = bufferedIO;
+            this.regionLength = regionLength;
+            this.forceInterval = forceInterval;
         }
     }
 
@@ -257,12 +301,17 @@ public class RollingFileManager extends FileManager {
 
             OutputStream os;
             try {
-                os = new FileOutputStream(name, data.append);
-                if (data.bufferedIO) {
-                    os = new BufferedOutputStream(os);
+                if (data.regionLength > 0) {
+                    os = new MemoryMappedOutputStream(name, data.append, data.regionLength, data.forceInterval);
+                } else {
+                    os = new FileOutputStream(name, data.append);
+                    if (data.bufferedIO) {
+                        os = new BufferedOutputStream(os);
+                    }
                 }
-                return new RollingFileManager(name, data.pattern, os, data.append, size, time);
-            } catch (FileNotFoundException ex) {
+                return new RollingFileManager(name, data.pattern, os, data.append, size, time, data.regionLength,
+                    data.forceInterval);
+            } catch (IOException ex) {
                 LOGGER.error("FileManager (" + name + ") " + ex);
             }
             return null;
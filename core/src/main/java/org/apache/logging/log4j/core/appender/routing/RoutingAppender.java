@@ -29,6 +29,7 @@ import org.apache.logging.log4j.core.config.plugins.PluginAttr;
 import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
 import org.apache.logging.log4j.core.config.plugins.PluginElement;
 import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.lookup.StrSubstitutor;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -49,6 +50,7 @@ public final class RoutingAppender extends AppenderBase {
     private final Configuration config;
     private ConcurrentMap<String, AppenderControl> appenders = new ConcurrentHashMap<String, AppenderControl>();
     private final RewritePolicy rewritePolicy;
+    private volatile StrSubstitutor.Template pattern;
 
     private RoutingAppender(String name, Filter filter, boolean handleException, Routes routes,
                             RewritePolicy rewritePolicy, Configuration config) {
@@ -60,6 +62,7 @@ public final class RoutingAppender extends AppenderBase {
 
     @Override
     public void start() {
+        pattern = config.getSubst().compile(routes.getPattern());
         Map<String, Appender> map = config.getAppenders();
         for (Route route : routes.getRoutes()) {
             if (route.getAppenderRef() != null) {
@@ -99,7 +102,8 @@ public final class RoutingAppender extends AppenderBase {
         if (rewritePolicy != null) {
             event = rewritePolicy.rewrite(event);
         }
-        String key = config.getSubst().replace(event, routes.getPattern());
+        StrSubstitutor.Template template = pattern;
+        String key = template != null ? template.format(event) : config.getSubst().replace(event, routes.getPattern());
         AppenderControl control = getControl(key, event);
         if (control != null) {
             control.callAppender(event);
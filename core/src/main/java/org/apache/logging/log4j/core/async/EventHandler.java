@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+/**
+ * Called by a {@link RingBufferProcessor} for each slot that is consumed.
+ * @param <T> The type of the slots.
+ */
+public interface EventHandler<T> {
+
+    /**
+     * Process a slot. The slot will be reused once this method returns so references to it must
+     * not be retained.
+     * @param slot The slot.
+     * @param sequence The sequence of the slot.
+     * @param endOfBatch true if this is the last slot that was available when the batch was started.
+     */
+    void onEvent(T slot, long sequence, boolean endOfBatch);
+}
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed size ring of preallocated slots that any number of producer threads can write to and a single
+ * consumer thread reads from. Producers claim a sequence with a compare and set on the cursor, fill in the
+ * slot for that sequence and then publish it. No locks are taken unless the BLOCK WaitStrategy is used and
+ * the consumer is idle.
+ * @param <T> The type of the slots.
+ */
+public class RingBuffer<T> {
+
+    private static final int MAX_SIZE = 1 << 30;
+
+    private static final long BLOCK_TIMEOUT_MILLIS = 10;
+
+    private final Object[] slots;
+
+    private final int mask;
+
+    private final int shift;
+
+    /**
+     * For each slot, the number of times the ring has wrapped when the slot was last published.
+     */
+    private final AtomicIntegerArray published;
+
+    /**
+     * The highest sequence claimed by a producer.
+     */
+    private final AtomicLong cursor = new AtomicLong(-1);
+
+    /**
+     * The highest sequence the consumer has finished with.
+     */
+    private final AtomicLong consumed = new AtomicLong(-1);
+
+    private final WaitStrategy waitStrategy;
+
+    private final Lock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private volatile boolean consumerWaiting = false;
+
+    private volatile boolean alerted = false;
+
+    /**
+     * Factory used to preallocate the slots.
+     * @param <T> The type of the slots.
+     */
+    public interface Factory<T> {
+        /**
+         * Create a slot.
+         * @return The new slot.
+         */
+        T newInstance();
+    }
+
+    /**
+     * Constructor.
+     * @param size The requested number of slots. It will be rounded up to the next power of 2.
+     * @param waitStrategy The WaitStrategy.
+     * @param factory The Factory used to create the slots.
+     */
+    public RingBuffer(int size, WaitStrategy waitStrategy, Factory<T> factory) {
+        int capacity = ceilingPowerOfTwo(size);
+        this.slots = new Object[capacity];
+        this.mask = capacity - 1;
+        this.shift = Integer.numberOfTrailingZeros(capacity);
+        this.published = new AtomicIntegerArray(capacity);
+        this.waitStrategy = waitStrategy;
+        for (int i = 0; i < capacity; ++i) {
+            slots[i] = factory.newInstance();
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Returns the smallest power of 2 that is greater than or equal to the size.
+     * @param size The requested size.
+     * @return The power of 2.
+     */
+    public static int ceilingPowerOfTwo(int size) {
+        if (size >= MAX_SIZE) {
+            return MAX_SIZE;
+        }
+        int capacity = 1;
+        while (capacity < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Return the number of slots.
+     * @return The number of slots.
+     */
+    public int getBufferSize() {
+        return slots.length;
+    }
+
+    /**
+     * Return the WaitStrategy.
+     * @return The WaitStrategy.
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * Return the number of slots that are free.
+     * @return The number of free slots.
+     */
+    public long remainingCapacity() {
+        return slots.length - (cursor.get() - consumed.get());
+    }
+
+    /**
+     * Claim the next sequence if a slot is free. No sequence is claimed once {@link #alert()} has been called
+     * because the consumer may already have stopped. A sequence claimed while the alert is raised is published
+     * with its slot unchanged, so EventHandlers must ignore slots that were not filled in.
+     * @return The sequence or -1 if the buffer is full or the consumer has been alerted.
+     */
+    public long tryNext() {
+        long current;
+        long next;
+        do {
+            if (alerted) {
+                return -1;
+            }
+            current = cursor.get();
+            next = current + 1;
+            if (next - slots.length > consumed.get()) {
+                return -1;
+            }
+        } while (!cursor.compareAndSet(current, next));
+        if (alerted) {
+            // The consumer may have read the cursor before it was advanced. Fill the gap and give up the slot.
+            publish(next);
+            return -1;
+        }
+        return next;
+    }
+
+    /**
+     * Claim the next sequence, waiting for a free slot if the buffer is full. The wait is abandoned if
+     * {@link #alert()} is called.
+     * @return The sequence or -1 if the consumer has been alerted.
+     */
+    public long next() {
+        long sequence;
+        while ((sequence = tryNext()) < 0) {
+            if (alerted) {
+                return -1;
+            }
+            waitStrategy.idle();
+        }
+        return sequence;
+    }
+
+    /**
+     * Return the slot for a claimed sequence.
+     * @param sequence The sequence.
+     * @return The slot.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long sequence) {
+        return (T) slots[(int) sequence & mask];
+    }
+
+    /**
+     * Make the slot for a claimed sequence visible to the consumer.
+     * @param sequence The sequence.
+     */
+    public void publish(long sequence) {
+        published.set((int) sequence & mask, (int) (sequence >>> shift));
+        if (consumerWaiting) {
+            signalConsumer();
+        }
+    }
+
+    /**
+     * Determine if the slot for a sequence has been published.
+     * @param sequence The sequence.
+     * @return true if the slot has been published, false otherwise.
+     */
+    public boolean isPublished(long sequence) {
+        return published.get((int) sequence & mask) == (int) (sequence >>> shift);
+    }
+
+    /**
+     * Return the highest sequence that was claimed.
+     * @return The highest claimed sequence.
+     */
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    /**
+     * Return the highest contiguous published sequence starting at a sequence.
+     * @param sequence The first sequence to check.
+     * @return The highest published sequence, or sequence - 1 if the sequence has not been published.
+     */
+    public long getHighestPublished(long sequence) {
+        long available = cursor.get();
+        for (long seq = sequence; seq <= available; ++seq) {
+            if (!isPublished(seq)) {
+                return seq - 1;
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Called by the consumer to wait until the sequence is published.
+     * @param sequence The sequence to wait for.
+     * @return The highest contiguous published sequence. This will be less than the requested sequence if the
+     * wait was interrupted by {@link #alert()}.
+     */
+    public long waitFor(long sequence) {
+        long available;
+        while ((available = getHighestPublished(sequence)) < sequence) {
+            if (alerted) {
+                return available;
+            }
+            if (waitStrategy == WaitStrategy.BLOCK) {
+                block(sequence);
+            } else {
+                waitStrategy.idle();
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Called by the consumer to free all the slots up to and including the sequence.
+     * @param sequence The last sequence that was consumed.
+     */
+    public void release(long sequence) {
+        consumed.set(sequence);
+    }
+
+    /**
+     * Wake the consumer so it will notice that it should stop. Producers can no longer claim sequences.
+     */
+    public void alert() {
+        alerted = true;
+        signalConsumer();
+    }
+
+    /**
+     * Determine if the consumer has been asked to stop.
+     * @return true if {@link #alert()} was called.
+     */
+    public boolean isAlerted() {
+        return alerted;
+    }
+
+    private void block(long sequence) {
+        lock.lock();
+        try {
+            consumerWaiting = true;
+            if (!isPublished(sequence) && !alerted) {
+                notEmpty.await(BLOCK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException ie) {
+            // The caller will check again.
+        } finally {
+            consumerWaiting = false;
+            lock.unlock();
+        }
+    }
+
+    private void signalConsumer() {
+        lock.lock();
+        try {
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
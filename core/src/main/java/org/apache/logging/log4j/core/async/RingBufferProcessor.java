@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.status.StatusLogger;
+
+/**
+ * Thread that consumes a RingBuffer. All the slots that have been published when the processor wakes up are
+ * handed to the EventHandler as a single batch before any of them are released back to the producers.
+ * @param <T> The type of the slots.
+ */
+public class RingBufferProcessor<T> extends Thread {
+
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    private final RingBuffer<T> ringBuffer;
+
+    private final EventHandler<T> handler;
+
+    /**
+     * Constructor.
+     * @param name The name of the Thread.
+     * @param ringBuffer The RingBuffer to consume.
+     * @param handler The EventHandler to call for each slot.
+     */
+    public RingBufferProcessor(String name, RingBuffer<T> ringBuffer, EventHandler<T> handler) {
+        super(name);
+        this.ringBuffer = ringBuffer;
+        this.handler = handler;
+        setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+        long next = 0;
+        while (!ringBuffer.isAlerted()) {
+            long available = ringBuffer.waitFor(next);
+            if (available >= next) {
+                next = process(next, available);
+            }
+        }
+        // Process every event claimed before the shutdown. No more sequences can be claimed, but producers
+        // may not have published the ones they hold yet.
+        long last = ringBuffer.getCursor();
+        while (next <= last) {
+            long available = ringBuffer.getHighestPublished(next);
+            if (available >= next) {
+                next = process(next, available);
+            } else {
+                ringBuffer.getWaitStrategy().idle();
+            }
+        }
+    }
+
+    /**
+     * Stop the processor once all published events have been handled.
+     */
+    public void shutdown() {
+        ringBuffer.alert();
+    }
+
+    private long process(long first, long last) {
+        for (long sequence = first; sequence <= last; ++sequence) {
+            try {
+                handler.onEvent(ringBuffer.get(sequence), sequence, sequence == last);
+            } catch (Exception ex) {
+                LOGGER.error("Exception processing event " + sequence + " in " + getName(), ex);
+            }
+        }
+        ringBuffer.release(last);
+        return last + 1;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Determines what a thread does while it waits on a {@link RingBuffer}. SPIN gives the lowest latency
+ * at the cost of a fully used CPU, BLOCK uses the least CPU at the cost of a lock handoff when the consumer
+ * is idle.
+ */
+public enum WaitStrategy {
+    /** Busy spin. */
+    SPIN,
+    /** Yield the processor to other threads. */
+    YIELD,
+    /** Park the thread for the shortest possible time. */
+    PARK,
+    /** Block the consumer on a Condition that producers signal. Producers waiting for space will park. */
+    BLOCK;
+
+    private static final long PARK_NANOS = 1L;
+
+    /**
+     * Waits once. Called repeatedly while a thread waits for a slot to be freed or published.
+     */
+    public void idle() {
+        switch (this) {
+            case SPIN:
+                break;
+            case YIELD:
+                Thread.yield();
+                break;
+            default:
+                LockSupport.parkNanos(PARK_NANOS);
+                break;
+        }
+    }
+
+    /**
+     * Returns the WaitStrategy for the name, or the default if the name is null or does not match
+     * a WaitStrategy.
+     * @param name The name of the WaitStrategy.
+     * @param defaultStrategy The WaitStrategy to return if no match was found.
+     * @return The WaitStrategy.
+     */
+    public static WaitStrategy toWaitStrategy(String name, WaitStrategy defaultStrategy) {
+        if (name == null) {
+            return defaultStrategy;
+        }
+        String strategy = name.toUpperCase();
+        for (WaitStrategy waitStrategy : values()) {
+            if (waitStrategy.name().equals(strategy)) {
+                return waitStrategy;
+            }
+        }
+        return defaultStrategy;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttr;
+import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.impl.ReusableLogEventFactory;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * LoggerConfig that hands events to a background thread. The calling thread only captures the state that
+ * cannot be recovered later (the timestamp, thread name and thread context) into a preallocated slot of a
+ * ring buffer shared by all the asynchronous Loggers of the Configuration. The LogEvent is created, filtered
+ * and passed to the Appenders and to the parent LoggerConfigs on the background thread.
+ * <p/>
+ * If a LogEventFactory other than the LoggerConfig has been set the event is logged synchronously.
+ */
+@Plugin(name = "asyncLogger", type = "Core", printObject = true)
+public class AsyncLoggerConfig extends LoggerConfig {
+
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    private final AsyncLoggerConfigHelper helper;
+    private final boolean includeLocation;
+
+    protected AsyncLoggerConfig(String name, List<AppenderRef> appenders, Filter filter, Level level,
+                                boolean additive, boolean includeLocation, Configuration config) {
+        super(name, appenders, filter, level, additive);
+        this.includeLocation = includeLocation;
+        this.helper = config == null ? null : AsyncLoggerConfigHelper.getHelper(config);
+    }
+
+    @Override
+    public void startFilter() {
+        if (helper != null) {
+            helper.start();
+        }
+        super.startFilter();
+    }
+
+    /**
+     * Captures the event on the caller's thread and hands it to the background thread.
+     * @param loggerName The name of the Logger.
+     * @param marker A Marker or null if none is present.
+     * @param fqcn The fully qualified class name of the caller.
+     * @param level The event Level.
+     * @param data The Message.
+     * @param t A Throwable or null.
+     */
+    @Override
+    public void log(String loggerName, Marker marker, String fqcn, Level level, Message data, Throwable t) {
+        if (helper == null || getLogEventFactory() != this ||
+            !helper.publish(this, loggerName, marker, fqcn, level, ReusableLogEventFactory.toImmutable(data), t,
+                ThreadContext.getImmutableContext(),
+                ThreadContext.getImmutableStack(), Thread.currentThread().getName(),
+                includeLocation ? Log4jLogEvent.calcLocation(fqcn) : null, System.currentTimeMillis())) {
+            super.log(loggerName, marker, fqcn, level, data, t);
+        }
+    }
+
+    /**
+     * Called on the background thread to filter the event and pass it to the Appenders.
+     * @param event The LogEvent.
+     */
+    void asyncLog(LogEvent event) {
+        super.log(event);
+    }
+
+    /**
+     * Factory method to create an asynchronous LoggerConfig.
+     * @param additivity True if additive, false otherwise.
+     * @param loggerLevel The Level to be associated with the Logger.
+     * @param loggerName The name of the Logger.
+     * @param includeLocation "true" if the location of the caller should be captured before the event is handed
+     * to the background thread. The default is "false".
+     * @param refs An array of Appender names.
+     * @param filter A Filter.
+     * @param config The Configuration.
+     * @return A new AsyncLoggerConfig.
+     */
+    @PluginFactory
+    public static LoggerConfig createLogger(@PluginAttr("additivity") String additivity,
+                                            @PluginAttr("level") String loggerLevel,
+                                            @PluginAttr("name") String loggerName,
+                                            @PluginAttr("includeLocation") String includeLocation,
+                                            @PluginElement("appender-ref") AppenderRef[] refs,
+                                            @PluginElement("filters") Filter filter,
+                                            @PluginConfiguration Configuration config) {
+        if (loggerName == null) {
+            LOGGER.error("Loggers cannot be configured without a name");
+            return null;
+        }
+
+        List<AppenderRef> appenderRefs = Arrays.asList(refs);
+        Level level;
+        try {
+            level = loggerLevel == null ? Level.ERROR : Level.valueOf(loggerLevel.toUpperCase());
+        } catch (Exception ex) {
+            LOGGER.error("Invalid Log level specified: {}. Defaulting to Error", loggerLevel);
+            level = Level.ERROR;
+        }
+        String name = loggerName.equals("root") ? "" : loggerName;
+        boolean additive = additivity == null ? true : Boolean.parseBoolean(additivity);
+        boolean location = includeLocation == null ? false : Boolean.parseBoolean(includeLocation);
+
+        return new AsyncLoggerConfig(name, appenderRefs, filter, level, additive, location, config);
+    }
+
+    /**
+     * The asynchronous root Logger.
+     */
+    @Plugin(name = "asyncRoot", type = "Core", printObject = true)
+    public static class RootLogger extends AsyncLoggerConfig {
+
+        protected RootLogger(List<AppenderRef> appenders, Filter filter, Level level, boolean additive,
+                             boolean includeLocation, Configuration config) {
+            super(LogManager.ROOT_LOGGER_NAME, appenders, filter, level, additive, includeLocation, config);
+        }
+
+        @PluginFactory
+        public static LoggerConfig createLogger(@PluginAttr("additivity") String additivity,
+                                                @PluginAttr("level") String loggerLevel,
+                                                @PluginAttr("includeLocation") String includeLocation,
+                                                @PluginElement("appender-ref") AppenderRef[] refs,
+                                                @PluginElement("filters") Filter filter,
+                                                @PluginConfiguration Configuration config) {
+            List<AppenderRef> appenderRefs = Arrays.asList(refs);
+            Level level;
+            try {
+                level = loggerLevel == null ? Level.ERROR : Level.valueOf(loggerLevel.toUpperCase());
+            } catch (Exception ex) {
+                LOGGER.error("Invalid Log level specified: {}. Defaulting to Error", loggerLevel);
+                level = Level.ERROR;
+            }
+            boolean additive = additivity == null ? true : Boolean.parseBoolean(additivity);
+            boolean location = includeLocation == null ? false : Boolean.parseBoolean(includeLocation);
+
+            return new RootLogger(appenderRefs, filter, level, additive, location, config);
+        }
+    }
+}
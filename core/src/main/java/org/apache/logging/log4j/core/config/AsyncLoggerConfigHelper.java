@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.Lifecycle;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.async.EventHandler;
+import org.apache.logging.log4j.core.async.RingBuffer;
+import org.apache.logging.log4j.core.async.RingBufferProcessor;
+import org.apache.logging.log4j.core.async.WaitStrategy;
+import org.apache.logging.log4j.core.helpers.Constants;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.LazyMessage;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.util.Map;
+import java.util.Stack;
+
+/**
+ * Owns the ring buffer and the background thread shared by all the AsyncLoggerConfigs of a Configuration. It is
+ * registered as a component of the Configuration and is stopped when the Configuration is stopped.
+ */
+final class AsyncLoggerConfigHelper implements Lifecycle {
+
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    private static final String COMPONENT_NAME = AsyncLoggerConfigHelper.class.getName();
+
+    private static final int DEFAULT_RING_BUFFER_SIZE = 32 * 1024;
+
+    private final String name;
+
+    private final RingBuffer<Slot> ringBuffer;
+
+    private RingBufferProcessor<Slot> processor;
+
+    private volatile boolean started = false;
+
+    private AsyncLoggerConfigHelper(String name, int size, WaitStrategy waitStrategy) {
+        this.name = name;
+        this.ringBuffer = new RingBuffer<Slot>(size, waitStrategy, new RingBuffer.Factory<Slot>() {
+            public Slot newInstance() {
+                return new Slot();
+            }
+        });
+    }
+
+    /**
+     * Return the helper for a Configuration, creating it if this is the first AsyncLoggerConfig.
+     * @param config The Configuration.
+     * @return The AsyncLoggerConfigHelper.
+     */
+    static AsyncLoggerConfigHelper getHelper(Configuration config) {
+        AsyncLoggerConfigHelper helper = (AsyncLoggerConfigHelper) config.getComponent(COMPONENT_NAME);
+        if (helper == null) {
+            String name = config.getName() == null ? "AsyncLoggerConfig" : "AsyncLoggerConfig-" + config.getName();
+            config.addComponent(COMPONENT_NAME, new AsyncLoggerConfigHelper(name, getRingBufferSize(),
+                getWaitStrategy()));
+            helper = (AsyncLoggerConfigHelper) config.getComponent(COMPONENT_NAME);
+        }
+        return helper;
+    }
+
+    private static int getRingBufferSize() {
+        String size = System.getProperty(Constants.ASYNC_LOGGER_RING_BUFFER_SIZE);
+        if (size == null) {
+            return DEFAULT_RING_BUFFER_SIZE;
+        }
+        try {
+            return Integer.parseInt(size);
+        } catch (NumberFormatException ex) {
+            LOGGER.error("Invalid ring buffer size {} for asynchronous Loggers. Using {}", size,
+                DEFAULT_RING_BUFFER_SIZE);
+            return DEFAULT_RING_BUFFER_SIZE;
+        }
+    }
+
+    private static WaitStrategy getWaitStrategy() {
+        String strategy = System.getProperty(Constants.ASYNC_LOGGER_WAIT_STRATEGY);
+        WaitStrategy waitStrategy = WaitStrategy.toWaitStrategy(strategy, WaitStrategy.BLOCK);
+        if (strategy != null && !waitStrategy.name().equalsIgnoreCase(strategy)) {
+            LOGGER.error("Invalid wait strategy {} for asynchronous Loggers. Using {}", strategy, waitStrategy);
+        }
+        return waitStrategy;
+    }
+
+    public synchronized void start() {
+        if (processor == null) {
+            processor = new RingBufferProcessor<Slot>(name, ringBuffer, new SlotHandler());
+            processor.start();
+            started = true;
+        }
+    }
+
+    public synchronized void stop() {
+        if (!started) {
+            return;
+        }
+        started = false;
+        processor.shutdown();
+        try {
+            processor.join();
+        } catch (InterruptedException ex) {
+            LOGGER.warn("Interrupted while waiting for {} to stop", name);
+        }
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * Hands the state captured on the caller's thread to the background thread.
+     * @return false if the event must be logged synchronously because the helper is not running, was stopped
+     * before a slot could be claimed, or the caller is the background thread itself.
+     */
+    boolean publish(AsyncLoggerConfig loggerConfig, String loggerName, Marker marker, String fqcn, Level level,
+                    Message message, Throwable t, Map<String, String> contextMap, Stack<String> contextStack,
+                    String threadName, StackTraceElement location, long timestamp) {
+        if (!started || Thread.currentThread() == processor) {
+            return false;
+        }
+        long sequence = ringBuffer.next();
+        if (sequence < 0) {
+            // The helper was stopped while this thread was waiting.
+            return false;
+        }
+        Slot slot = ringBuffer.get(sequence);
+        slot.loggerConfig = loggerConfig;
+        slot.loggerName = loggerName;
+        slot.marker = marker;
+        slot.fqcn = fqcn;
+        slot.level = level;
+        slot.message = message;
+        slot.thrown = t;
+        slot.contextMap = contextMap;
+        slot.contextStack = contextStack;
+        slot.threadName = threadName;
+        slot.location = location;
+        slot.timestamp = timestamp;
+        ringBuffer.publish(sequence);
+        return true;
+    }
+
+    /**
+     * A preallocated entry in the ring buffer.
+     */
+    private static class Slot {
+        private AsyncLoggerConfig loggerConfig;
+        private String loggerName;
+        private Marker marker;
+        private String fqcn;
+        private Level level;
+        private Message message;
+        private Throwable thrown;
+        private Map<String, String> contextMap;
+        private Stack<String> contextStack;
+        private String threadName;
+        private StackTraceElement location;
+        private long timestamp;
+
+        private void clear() {
+            loggerConfig = null;
+            loggerName = null;
+            marker = null;
+            fqcn = null;
+            level = null;
+            message = null;
+            thrown = null;
+            contextMap = null;
+            contextStack = null;
+            threadName = null;
+            location = null;
+        }
+    }
+
+    /**
+     * Creates the LogEvent and runs the LoggerConfig on the background thread.
+     */
+    private static class SlotHandler implements EventHandler<Slot> {
+
+        public void onEvent(Slot slot, long sequence, boolean endOfBatch) {
+            AsyncLoggerConfig loggerConfig = slot.loggerConfig;
+            if (loggerConfig == null) {
+                return;
+            }
+            Message message = slot.message;
+            if (message instanceof LazyMessage) {
+                // the supplier is called here rather than on the thread that logged the event
+                message = ((LazyMessage) message).getMessage();
+            }
+            LogEvent event = new Log4jLogEvent(slot.loggerName, slot.marker, slot.fqcn, slot.level, message,
+                slot.thrown, slot.contextMap, slot.contextStack, slot.threadName, slot.location, slot.timestamp);
+            slot.clear();
+            event.setEndOfBatch(endOfBatch);
+            loggerConfig.asyncLog(event);
+        }
+    }
+}
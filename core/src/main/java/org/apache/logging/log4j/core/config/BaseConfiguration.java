@@ -19,26 +19,20 @@ package org.apache.logging.log4j.core.config;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.Appender;
 import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Lifecycle;
 import org.apache.logging.log4j.core.LogEvent;
-import org.apache.logging.log4j.core.config.plugins.PluginAttr;
-import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
-import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.plugins.PluginManager;
-import org.apache.logging.log4j.core.config.plugins.PluginElement;
-import org.apache.logging.log4j.core.config.plugins.PluginNode;
+import org.apache.logging.log4j.core.config.plugins.PluginFactoryMethod;
 import org.apache.logging.log4j.core.config.plugins.PluginType;
-import org.apache.logging.log4j.core.config.plugins.PluginValue;
 import org.apache.logging.log4j.core.filter.Filterable;
-import org.apache.logging.log4j.core.helpers.NameUtil;
 import org.apache.logging.log4j.core.lookup.Interpolator;
 import org.apache.logging.log4j.core.lookup.StrLookup;
 import org.apache.logging.log4j.core.lookup.StrSubstitutor;
 import org.apache.logging.log4j.status.StatusLogger;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -46,6 +40,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The Base Configuration. Many configuration implementations will extend this class.
@@ -89,6 +84,10 @@ public class BaseConfiguration extends Filterable implements Configuration {
 
     private LoggerConfig root = new LoggerConfig();
 
+    private volatile LoggerConfigIndex index = new LoggerConfigIndex(loggers, root);
+
+    private final AtomicInteger generation = new AtomicInteger();
+
     private boolean started = false;
 
     private ConcurrentMap<String, Object> componentMap = new ConcurrentHashMap<String, Object>();
@@ -99,6 +98,7 @@ public class BaseConfiguration extends Filterable implements Configuration {
     protected BaseConfiguration() {
         pluginManager = new PluginManager("Core");
         rootNode = new Node();
+        root.setGeneration(generation);
     }
 
     /**
@@ -108,20 +108,37 @@ public class BaseConfiguration extends Filterable implements Configuration {
         pluginManager.collectPlugins();
         setup();
         doConfigure();
+        index = new LoggerConfigIndex(loggers, root);
         for (LoggerConfig logger : loggers.values()) {
             logger.startFilter();
         }
         for (Appender appender : appenders.values()) {
             appender.start();
         }
+        root.compile();
+        for (LoggerConfig logger : loggers.values()) {
+            logger.compile();
+        }
 
         startFilter();
+        if (monitor instanceof Lifecycle) {
+            ((Lifecycle) monitor).start();
+        }
     }
 
     /**
      * Tear down the configuration.
      */
     public void stop() {
+        if (monitor instanceof Lifecycle) {
+            ((Lifecycle) monitor).stop();
+        }
+        // Stop components such as the asynchronous Logger thread first so queued events reach the appenders.
+        for (Object component : componentMap.values()) {
+            if (component instanceof Lifecycle) {
+                ((Lifecycle) component).stop();
+            }
+        }
         for (LoggerConfig logger : loggers.values()) {
             logger.clearAppenders();
             logger.stopFilter();
@@ -239,6 +256,42 @@ public class BaseConfiguration extends Filterable implements Configuration {
         listeners.remove(listener);
     }
 
+    /**
+     * Add a Filter to the configuration. The Loggers capture the global Filter so those using this
+     * configuration are updated.
+     * @param filter The Filter to add.
+     */
+    @Override
+    public synchronized void addFilter(Filter filter) {
+        super.addFilter(filter);
+        updateLoggers();
+    }
+
+    /**
+     * Remove a Filter from the configuration and update the Loggers using it.
+     * @param filter The Filter to remove.
+     */
+    @Override
+    public synchronized void removeFilter(Filter filter) {
+        super.removeFilter(filter);
+        updateLoggers();
+    }
+
+    /**
+     * Update the Loggers of the LoggerContexts that are currently using this configuration. While the
+     * configuration is being started it is not yet in use so nothing is updated.
+     */
+    private void updateLoggers() {
+        for (ConfigurationListener listener : listeners) {
+            if (listener instanceof LoggerContext) {
+                LoggerContext ctx = (LoggerContext) listener;
+                if (ctx.getConfiguration() == this) {
+                    ctx.updateLoggers();
+                }
+            }
+        }
+    }
+
     /**
      * Return the Appender with the specified name.
      * @param name The name of the Appender.
@@ -367,16 +420,7 @@ public class BaseConfiguration extends Filterable implements Configuration {
      * @return The located LoggerConfig.
      */
     public LoggerConfig getLoggerConfig(String name) {
-        if (loggers.containsKey(name)) {
-            return loggers.get(name);
-        }
-        String substr = name;
-        while ((substr = NameUtil.getSubName(substr)) != null) {
-            if (loggers.containsKey(substr)) {
-                return loggers.get(substr);
-            }
-        }
-        return root;
+        return index.get(name);
     }
 
     /**
@@ -501,29 +545,17 @@ public class BaseConfiguration extends Filterable implements Configuration {
             }
         }
 
-        Method factoryMethod = null;
-
-        for (Method method : clazz.getMethods()) {
-            if (method.isAnnotationPresent(PluginFactory.class)) {
-                factoryMethod = method;
-                break;
-            }
-        }
-        if (factoryMethod == null) {
+        PluginFactoryMethod factory = type.getFactoryMethod();
+        if (factory == null) {
             return null;
         }
+        PluginFactoryMethod.Parameter[] parameters = factory.getParameters();
+        Object[] parms = new Object[parameters.length];
 
-        Annotation[][] parmArray = factoryMethod.getParameterAnnotations();
-        Class[] parmClasses = factoryMethod.getParameterTypes();
-        if (parmArray.length != parmClasses.length) {
-            LOGGER.error("Number of parameter annotations does not equal the number of paramters");
-        }
-        Object[] parms = new Object[parmClasses.length];
-
-        int index = 0;
         Map<String, String> attrs = node.getAttributes();
         List<Node> children = node.getChildren();
-        StringBuilder sb = new StringBuilder();
+        // The description of the parameters is only needed for the debug message.
+        StringBuilder sb = LOGGER.isDebugEnabled() ? new StringBuilder() : null;
         List<Node> used = new ArrayList<Node>();
 
         /*
@@ -536,107 +568,81 @@ public class BaseConfiguration extends Filterable implements Configuration {
          *     Store the array into the parameter array.
          *   If not an array, store the object in the child node into the parameter array.
          */
-        for (Annotation[] parmTypes : parmArray) {
-            for (Annotation a : parmTypes) {
-                if (sb.length() == 0) {
-                    sb.append(" with params(");
-                } else {
-                    sb.append(", ");
-                }
-                if (a instanceof PluginNode) {
+        for (int index = 0; index < parameters.length; ++index) {
+            PluginFactoryMethod.Parameter parm = parameters[index];
+            String name = parm.getName();
+            if (parm.getBinding() == PluginFactoryMethod.Binding.NONE) {
+                continue;
+            }
+            if (sb != null) {
+                sb.append(sb.length() == 0 ? " with params(" : ", ");
+            }
+            switch (parm.getBinding()) {
+                case NODE:
                     parms[index] = node;
-                    sb.append("Node=").append(node.getName());
-                } else if (a instanceof PluginConfiguration) {
+                    if (sb != null) {
+                        sb.append("Node=").append(node.getName());
+                    }
+                    break;
+                case CONFIGURATION:
                     parms[index] = this;
-                    if (this.name != null) {
-                        sb.append("Configuration(").append(name).append(")");
-                    } else {
-                        sb.append("Configuration");
+                    if (sb != null) {
+                        if (this.name != null) {
+                            sb.append("Configuration(").append(this.name).append(")");
+                        } else {
+                            sb.append("Configuration");
+                        }
                     }
-                } else if (a instanceof PluginValue) {
-                    String name = ((PluginValue) a).value();
+                    break;
+                case VALUE: {
                     String v = node.getValue();
                     if (v == null) {
                         v = getAttrValue("value", attrs);
                     }
                     String value = subst.replace(event, v);
-                    sb.append(name).append("=\"").append(value).append("\"");
+                    if (sb != null) {
+                        sb.append(name).append("=\"").append(value).append("\"");
+                    }
                     parms[index] = value;
-                } else if (a instanceof PluginAttr) {
-                    String name = ((PluginAttr) a).value();
+                    break;
+                }
+                case ATTRIBUTE: {
                     String value = subst.replace(event, getAttrValue(name, attrs));
-                    sb.append(name).append("=\"").append(value).append("\"");
+                    if (sb != null) {
+                        sb.append(name).append("=\"").append(value).append("\"");
+                    }
                     parms[index] = value;
-                } else if (a instanceof PluginElement) {
-                    PluginElement elem = (PluginElement) a;
-                    String name = elem.value();
-                    if (parmClasses[index].isArray()) {
-                        Class parmClass = parmClasses[index].getComponentType();
-                        List<Object> list = new ArrayList<Object>();
-                        sb.append(name).append("={");
-                        boolean first = true;
-                        for (Node child : children) {
-                            PluginType childType = child.getType();
-                            if (elem.value().equalsIgnoreCase(childType.getElementName()) ||
-                                parmClass.isAssignableFrom(childType.getPluginClass())) {
-                                used.add(child);
-                                if (!first) {
-                                    sb.append(", ");
-                                }
-                                first = false;
-                                Object obj = child.getObject();
-                                if (obj == null) {
-                                    System.out.println("Null object returned for " + child.getName());
-                                }
-                                if (obj.getClass().isArray()) {
-                                    printArray(sb, (Object[]) obj);
-                                    parms[index] = obj;
-                                    break;
-                                }
-                                sb.append(child.toString());
-                                list.add(obj);
-                            }
-                        }
-                        sb.append("}");
-                        if (parms[index] != null) {
-                            break;
-                        }
-                        if (list.size() > 0 && !parmClass.isAssignableFrom(list.get(0).getClass())) {
-                            LOGGER.error("Attempted to assign List containing class " +
-                                list.get(0).getClass().getName() + " to array of type " + parmClass +
-                                " for attribute " + name);
-                            break;
-                        }
-                        Object[] array = (Object[]) Array.newInstance(parmClass, list.size());
-                        int i = 0;
-                        for (Object obj : list) {
-                            array[i] = obj;
-                            ++i;
-                        }
-                        parms[index] = array;
-                    } else {
-                        Class parmClass = parmClasses[index];
-                        boolean present = false;
-                        for (Node child : children) {
-                            PluginType childType = child.getType();
-                            if (elem.value().equals(childType.getElementName()) ||
-                                parmClass.isAssignableFrom(childType.getPluginClass())) {
+                    break;
+                }
+                case ELEMENT_ARRAY:
+                    parms[index] = createElementArray(parm, children, used, sb);
+                    break;
+                case ELEMENT: {
+                    Class parmClass = parm.getType();
+                    boolean present = false;
+                    for (Node child : children) {
+                        PluginType childType = child.getType();
+                        if (name.equals(childType.getElementName()) ||
+                            parmClass.isAssignableFrom(childType.getPluginClass())) {
+                            if (sb != null) {
                                 sb.append(child.getName()).append("(").append(child.toString()).append(")");
-                                present = true;
-                                used.add(child);
-                                parms[index] = child.getObject();
-                                break;
                             }
-                        }
-                        if (!present) {
-                            sb.append("null");
+                            present = true;
+                            used.add(child);
+                            parms[index] = child.getObject();
+                            break;
                         }
                     }
+                    if (!present && sb != null) {
+                        sb.append("null");
+                    }
+                    break;
                 }
+                default:
+                    break;
             }
-            ++index;
         }
-        if (sb.length() > 0) {
+        if (sb != null && sb.length() > 0) {
             sb.append(")");
         }
 
@@ -673,19 +679,18 @@ public class BaseConfiguration extends Filterable implements Configuration {
             }
         }
 
+        Method factoryMethod = factory.getMethod();
         try {
-            int mod = factoryMethod.getModifiers();
-            if (!Modifier.isStatic(mod)) {
+            if (!factory.isStatic()) {
                 LOGGER.error(factoryMethod.getName() + " method is not static on class " +
                     clazz.getName() + " for element " + node.getName());
                 return null;
             }
-            LOGGER.debug("Calling {} on class {} for element {}{}", factoryMethod.getName(), clazz.getName(),
-                node.getName(), sb.toString());
-            //if (parms.length > 0) {
-                return factoryMethod.invoke(null, parms);
-            //}
-            //return factoryMethod.invoke(null, node);
+            if (sb != null) {
+                LOGGER.debug("Calling {} on class {} for element {}{}", factoryMethod.getName(), clazz.getName(),
+                    node.getName(), sb.toString());
+            }
+            return factory.invoke(parms);
         } catch (Exception e) {
             LOGGER.error("Unable to invoke method " + factoryMethod.getName() + " in class " +
                 clazz.getName() + " for element " + node.getName(), e);
@@ -693,6 +698,64 @@ public class BaseConfiguration extends Filterable implements Configuration {
         return null;
     }
 
+    /**
+     * Creates the array for a PluginElement parameter from the matching child nodes. If a child node
+     * contains an array it is used as is.
+     */
+    private Object createElementArray(PluginFactoryMethod.Parameter parm, List<Node> children, List<Node> used,
+                                      StringBuilder sb) {
+        String name = parm.getName();
+        Class parmClass = parm.getType();
+        List<Object> list = new ArrayList<Object>();
+        if (sb != null) {
+            sb.append(name).append("={");
+        }
+        boolean first = true;
+        for (Node child : children) {
+            PluginType childType = child.getType();
+            if (name.equalsIgnoreCase(childType.getElementName()) ||
+                parmClass.isAssignableFrom(childType.getPluginClass())) {
+                used.add(child);
+                Object obj = child.getObject();
+                if (obj == null) {
+                    LOGGER.error("Null object returned for " + child.getName() + " in " + name);
+                    continue;
+                }
+                if (!first && sb != null) {
+                    sb.append(", ");
+                }
+                first = false;
+                if (obj.getClass().isArray()) {
+                    if (sb != null) {
+                        printArray(sb, (Object[]) obj);
+                        sb.append("}");
+                    }
+                    return obj;
+                }
+                if (sb != null) {
+                    sb.append(child.toString());
+                }
+                list.add(obj);
+            }
+        }
+        if (sb != null) {
+            sb.append("}");
+        }
+        if (list.size() > 0 && !parmClass.isAssignableFrom(list.get(0).getClass())) {
+            LOGGER.error("Attempted to assign List containing class " +
+                list.get(0).getClass().getName() + " to array of type " + parmClass +
+                " for attribute " + name);
+            return null;
+        }
+        Object[] array = (Object[]) Array.newInstance(parmClass, list.size());
+        int i = 0;
+        for (Object obj : list) {
+            array[i] = obj;
+            ++i;
+        }
+        return array;
+    }
+
     private void printArray(StringBuilder sb, Object[] array) {
         boolean first = true;
         for (Object obj : array) {
@@ -716,7 +779,12 @@ public class BaseConfiguration extends Filterable implements Configuration {
     }
 
     private void setParents() {
-         for (Map.Entry<String, LoggerConfig> entry : loggers.entrySet()) {
+        index = new LoggerConfigIndex(loggers, root);
+        root.setGeneration(generation);
+        for (LoggerConfig logger : loggers.values()) {
+            logger.setGeneration(generation);
+        }
+        for (Map.Entry<String, LoggerConfig> entry : loggers.entrySet()) {
             LoggerConfig logger = entry.getValue();
             String name = entry.getKey();
             if (!name.equals("")) {
@@ -16,69 +16,169 @@
  */
 package org.apache.logging.log4j.core.config;
 
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.Lifecycle;
+import org.apache.logging.log4j.core.helpers.Scheduler;
+import org.apache.logging.log4j.status.StatusLogger;
+
 import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ScheduledFuture;
 
 /**
- * Configuration monitor that periodically checks the timestamp of the configuration file and calls the
- * ConfigurationListeners when an update occurs.
+ * Configuration monitor that periodically checks the timestamp and length of the configuration file, and of
+ * any files it includes, on the shared background Scheduler while the Configuration is started. Threads that
+ * are logging never check the files themselves. Once a change is seen the files must stay unchanged for a
+ * short quiet period before the ConfigurationListeners are called, so a burst of writes results in a single
+ * reconfiguration. The listeners are called on their own thread so that a slow reconfiguration does not hold
+ * up other tasks on the Scheduler.
  */
-public class FileConfigurationMonitor implements ConfigurationMonitor {
+public class FileConfigurationMonitor implements ConfigurationMonitor, Lifecycle {
 
-    private static final int MASK = 0x0f;
+    private static final Logger LOGGER = StatusLogger.getLogger();
 
     private static final int MIN_INTERVAL = 5;
 
     private static final int MILLIS_PER_SECOND = 1000;
 
-    private final File file;
+    private static final long QUIET_PERIOD = 500;
+
+    private final File[] files;
+
+    private long[] lastState;
 
-    private long lastModified;
+    private long[] pendingState = null;
 
     private final List<ConfigurationListener> listeners;
 
     private final int interval;
 
-    private long nextCheck;
+    private Reconfigurable reconfigurable;
 
-    private volatile int counter = 0;
+    private ScheduledFuture<?> future = null;
 
-    private Reconfigurable reconfigurable;
+    private ScheduledFuture<?> settleFuture = null;
 
     /**
      * Constructor.
      * @param reconfigurable The Configuration that can be reconfigured.
      * @param file The File to monitor.
      * @param listeners The List of ConfigurationListeners to notify upon a change.
-     * @param interval The monitor interval in seconds. The minimum interval is 30 seconds.
+     * @param interval The monitor interval in seconds. The minimum interval is 5 seconds.
      */
     public FileConfigurationMonitor(Reconfigurable reconfigurable, File file, List<ConfigurationListener> listeners,
                                     int interval) {
+        this(reconfigurable, Collections.singletonList(file), listeners, interval);
+    }
+
+    /**
+     * Constructor.
+     * @param reconfigurable The Configuration that can be reconfigured.
+     * @param files The configuration file followed by any files it includes.
+     * @param listeners The List of ConfigurationListeners to notify upon a change.
+     * @param interval The monitor interval in seconds. The minimum interval is 5 seconds.
+     */
+    public FileConfigurationMonitor(Reconfigurable reconfigurable, List<File> files,
+                                    List<ConfigurationListener> listeners, int interval) {
         this.reconfigurable = reconfigurable;
-        this.file = file;
-        this.lastModified = file.lastModified();
+        this.files = files.toArray(new File[files.size()]);
+        this.lastState = getState();
         this.listeners = listeners;
         this.interval = (interval < MIN_INTERVAL ? MIN_INTERVAL : interval) * MILLIS_PER_SECOND;
-        this.nextCheck = System.currentTimeMillis() + interval;
     }
 
     /**
-     * Called to determine if the configuration has changed.
+     * Checks are performed in the background so there is nothing to do.
      */
     public void checkConfiguration() {
-        if ((++counter & MASK) == 0) {
-            synchronized (this) {
-                long current = System.currentTimeMillis();
-                if (current >= nextCheck) {
-                    nextCheck = current + interval;
-                    if (file.lastModified() > lastModified) {
-                        lastModified = file.lastModified();
-                        for (ConfigurationListener listener : listeners) {
-                            listener.onChange(reconfigurable);
-                        }
-                    }
+    }
+
+    /**
+     * Start checking the files.
+     */
+    public synchronized void start() {
+        if (future == null) {
+            future = Scheduler.scheduleWithFixedDelay(new Runnable() {
+                public void run() {
+                    checkFiles();
                 }
+            }, interval);
+        }
+    }
+
+    /**
+     * Stop checking the files.
+     */
+    public synchronized void stop() {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        if (settleFuture != null) {
+            settleFuture.cancel(false);
+            settleFuture = null;
+        }
+        pendingState = null;
+    }
+
+    public synchronized boolean isStarted() {
+        return future != null;
+    }
+
+    private long[] getState() {
+        long[] state = new long[files.length * 2];
+        for (int i = 0; i < files.length; ++i) {
+            state[i * 2] = files[i].lastModified();
+            state[i * 2 + 1] = files[i].length();
+        }
+        return state;
+    }
+
+    private synchronized void checkFiles() {
+        if (future == null || pendingState != null) {
+            return;
+        }
+        long[] state = getState();
+        if (!Arrays.equals(state, lastState)) {
+            waitForQuiet(state);
+        }
+    }
+
+    private void waitForQuiet(long[] state) {
+        pendingState = state;
+        settleFuture = Scheduler.schedule(new Runnable() {
+            public void run() {
+                settle();
             }
+        }, QUIET_PERIOD);
+    }
+
+    private synchronized void settle() {
+        if (future == null || pendingState == null) {
+            return;
+        }
+        long[] state = getState();
+        if (!Arrays.equals(state, pendingState)) {
+            waitForQuiet(state);
+            return;
         }
+        lastState = state;
+        pendingState = null;
+        settleFuture = null;
+        Thread thread = new Thread(new Runnable() {
+            public void run() {
+                for (ConfigurationListener listener : listeners) {
+                    try {
+                        listener.onChange(reconfigurable);
+                    } catch (Exception ex) {
+                        LOGGER.error("Unable to reconfigure from " + files[0], ex);
+                    }
+                }
+            }
+        }, "Log4j-Reconfiguration");
+        thread.setDaemon(true);
+        thread.start();
     }
 }
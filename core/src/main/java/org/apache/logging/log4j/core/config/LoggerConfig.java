@@ -27,11 +27,13 @@ import org.apache.logging.log4j.core.filter.Filterable;
 import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.impl.LogEventFactory;
+import org.apache.logging.log4j.core.impl.ReusableLogEventFactory;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.config.plugins.PluginAttr;
 import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.core.config.plugins.PluginElement;
 import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.message.LazyMessage;
 import org.apache.logging.log4j.message.Message;
 
 import java.util.ArrayList;
@@ -53,6 +55,8 @@ public class LoggerConfig extends Filterable implements LogEventFactory {
     private static final Logger LOGGER = StatusLogger.getLogger();
     private static final int MAX_RETRIES = 3;
     private static final long WAIT_TIME = 1000;
+    private static final LogEventFactory REUSABLE_EVENT_FACTORY =
+        ReusableLogEventFactory.isEnabled() ? new ReusableLogEventFactory() : null;
 
     private List<AppenderRef> appenderRefs = new ArrayList<AppenderRef>();
     private Map<String, AppenderControl> appenders = new ConcurrentHashMap<String, AppenderControl>();
@@ -63,6 +67,14 @@ public class LoggerConfig extends Filterable implements LogEventFactory {
     private LoggerConfig parent;
     private AtomicInteger counter = new AtomicInteger();
     private boolean shutdown = false;
+    private volatile Dispatch dispatch = null;
+
+    /**
+     * Incremented whenever the appenders, filter, parent or additivity of a LoggerConfig change so that
+     * every compiled dispatch chain that may include the LoggerConfig is rebuilt before it is used again.
+     * All the LoggerConfigs of a Configuration share its counter.
+     */
+    private volatile AtomicInteger generation = new AtomicInteger();
 
 
     /**
@@ -116,6 +128,24 @@ public class LoggerConfig extends Filterable implements LogEventFactory {
      */
     public void setParent(LoggerConfig parent) {
         this.parent = parent;
+        if (parent != null) {
+            setGeneration(parent.generation);
+        }
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Shares the generation counter of the Configuration that owns this LoggerConfig, so that changes to
+     * the LoggerConfigs of one Configuration do not cause those of another to be rebuilt. A LoggerConfig
+     * that is not owned by a Configuration shares the counter of its parent.
+     * @param generation The counter of the Configuration.
+     */
+    void setGeneration(AtomicInteger generation) {
+        if (this.generation != generation) {
+            this.generation = generation;
+            dispatch = null;
+            generation.incrementAndGet();
+        }
     }
 
     /**
@@ -134,6 +164,7 @@ public class LoggerConfig extends Filterable implements LogEventFactory {
      */
     public void addAppender(Appender appender, Level level, Filter filter) {
         appenders.put(appender.getName(), new AppenderControl(appender, level, filter));
+        generation.incrementAndGet();
     }
 
     /**
@@ -143,6 +174,7 @@ public class LoggerConfig extends Filterable implements LogEventFactory {
     public void removeAppender(String name) {
         AppenderControl ctl = appenders.remove(name);
         if (ctl != null) {
+            generation.incrementAndGet();
             cleanupFilter(ctl);
         }
     }
@@ -171,6 +203,7 @@ public class LoggerConfig extends Filterable implements LogEventFactory {
             iterator.remove();
             cleanupFilter(ctl);
         }
+        generation.incrementAndGet();
     }
 
     private void cleanupFilter(AppenderControl ctl) {
@@ -237,6 +270,19 @@ public class LoggerConfig extends Filterable implements LogEventFactory {
      */
     public void setAdditive(boolean additive) {
         this.additive = additive;
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public synchronized void addFilter(Filter filter) {
+        super.addFilter(filter);
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public synchronized void removeFilter(Filter filter) {
+        super.removeFilter(filter);
+        generation.incrementAndGet();
     }
 
     /**
@@ -249,8 +295,15 @@ public class LoggerConfig extends Filterable implements LogEventFactory {
      * @param t A Throwable or null.
      */
     public void log(String loggerName, Marker marker, String fqcn, Level level, Message data, Throwable t) {
+        if (data instanceof LazyMessage) {
+            data = ((LazyMessage) data).getMessage();
+        }
         LogEvent event = logEventFactory.createEvent(loggerName, marker, fqcn, level, data, t);
-        log(event);
+        try {
+            log(event);
+        } finally {
+            ReusableLogEventFactory.release(event);
+        }
     }
 
     /**
@@ -274,22 +327,16 @@ public class LoggerConfig extends Filterable implements LogEventFactory {
     }
 
     /**
-     * Logs an event.
+     * Logs an event. The event is passed through the compiled dispatch chain, which holds the filters and
+     * Appenders of this LoggerConfig followed by those of each ancestor it is additive to, so the hierarchy
+     * is handled in a single pass.
      * @param event Yhe log event.
      */
     public void log(LogEvent event) {
 
         counter.incrementAndGet();
         try {
-            if (isFiltered(event)) {
-                return;
-            }
-
-            callAppenders(event);
-
-            if (additive && parent != null) {
-                parent.log(event);
-            }
+            getDispatch().callAppenders(event);
         } finally {
             if (counter.decrementAndGet() == 0) {
                 synchronized (this) {
@@ -302,10 +349,20 @@ public class LoggerConfig extends Filterable implements LogEventFactory {
         }
     }
 
-    private void callAppenders(LogEvent event) {
-        for (AppenderControl control : appenders.values()) {
-            control.callAppender(event);
+    /**
+     * Builds the dispatch chain now rather than on the first event.
+     */
+    void compile() {
+        getDispatch();
+    }
+
+    private Dispatch getDispatch() {
+        Dispatch current = dispatch;
+        if (current == null || current.generation != generation.get()) {
+            current = new Dispatch(this);
+            dispatch = current;
         }
+        return current;
     }
 
     /**
@@ -320,6 +377,9 @@ public class LoggerConfig extends Filterable implements LogEventFactory {
      */
     public LogEvent createEvent(String loggerName, Marker marker, String fqcn, Level level, Message data,
                                 Throwable t) {
+        if (REUSABLE_EVENT_FACTORY != null) {
+            return REUSABLE_EVENT_FACTORY.createEvent(loggerName, marker, fqcn, level, data, t);
+        }
         return new Log4jLogEvent(loggerName, marker, fqcn, level, data, t);
     }
 
@@ -362,6 +422,46 @@ public class LoggerConfig extends Filterable implements LogEventFactory {
         return new LoggerConfig(name, appenderRefs, filter, level, additive);
     }
 
+    /**
+     * The filters and AppenderControls of a LoggerConfig and its additive ancestors in the order they are
+     * called. A filter entry stops the dispatch of an event it denies, as the LoggerConfig that owns it would.
+     */
+    private static final class Dispatch {
+        private final int generation;
+        private final Filter[] filters;
+        private final AppenderControl[] controls;
+
+        public Dispatch(LoggerConfig config) {
+            this.generation = config.generation.get();
+            List<Filter> filterList = new ArrayList<Filter>();
+            List<AppenderControl> controlList = new ArrayList<AppenderControl>();
+            for (LoggerConfig lc = config; lc != null; lc = lc.additive ? lc.parent : null) {
+                Filter filter = lc.getFilter();
+                if (filter != null) {
+                    filterList.add(filter);
+                    controlList.add(null);
+                }
+                for (AppenderControl control : lc.appenders.values()) {
+                    filterList.add(null);
+                    controlList.add(control);
+                }
+            }
+            this.filters = filterList.toArray(new Filter[filterList.size()]);
+            this.controls = controlList.toArray(new AppenderControl[controlList.size()]);
+        }
+
+        public void callAppenders(LogEvent event) {
+            for (int i = 0; i < controls.length; ++i) {
+                AppenderControl control = controls[i];
+                if (control != null) {
+                    control.callAppender(event);
+                } else if (filters[i].filter(event) == Filter.Result.DENY) {
+                    return;
+                }
+            }
+        }
+    }
+
     /**
      * The root Logger.
      */
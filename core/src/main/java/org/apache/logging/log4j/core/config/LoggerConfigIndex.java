@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An immutable radix tree of the configured LoggerConfig names. Resolving a Logger name walks the tree one
+ * edge at a time comparing the characters in place, so the nearest configured ancestor is found in a single
+ * pass over the name without creating any substrings.
+ */
+public final class LoggerConfigIndex {
+
+    private final Node rootNode = new Node("");
+
+    private final LoggerConfig root;
+
+    /**
+     * Constructor.
+     * @param loggers The LoggerConfigs keyed by name.
+     * @param root The LoggerConfig to return when no configured name is an ancestor of the Logger name.
+     */
+    public LoggerConfigIndex(Map<String, LoggerConfig> loggers, LoggerConfig root) {
+        this.root = root;
+        for (Map.Entry<String, LoggerConfig> entry : loggers.entrySet()) {
+            insert(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Locates the LoggerConfig with the longest name that is equal to the Logger name or is one of its
+     * dot separated ancestors.
+     * @param name The Logger name.
+     * @return The located LoggerConfig or the root LoggerConfig if no match was found.
+     */
+    public LoggerConfig get(String name) {
+        LoggerConfig result = rootNode.config != null ? rootNode.config : root;
+        int length = name.length();
+        int pos = 0;
+        Node node = rootNode;
+        while (pos < length) {
+            Node child = node.getChild(name.charAt(pos));
+            if (child == null) {
+                break;
+            }
+            String label = child.label;
+            if (!name.regionMatches(pos, label, 0, label.length())) {
+                break;
+            }
+            pos += label.length();
+            node = child;
+            if (node.config != null && (pos == length || name.charAt(pos) == '.')) {
+                result = node.config;
+            }
+        }
+        return result;
+    }
+
+    private void insert(String name, LoggerConfig config) {
+        Node node = rootNode;
+        int pos = 0;
+        int length = name.length();
+        while (pos < length) {
+            Node child = node.getChild(name.charAt(pos));
+            if (child == null) {
+                child = new Node(name.substring(pos));
+                child.config = config;
+                node.addChild(child);
+                return;
+            }
+            String label = child.label;
+            int common = 1;
+            while (common < label.length() && pos + common < length &&
+                label.charAt(common) == name.charAt(pos + common)) {
+                ++common;
+            }
+            if (common < label.length()) {
+                Node split = new Node(label.substring(0, common));
+                child.label = label.substring(common);
+                split.addChild(child);
+                node.replaceChild(split);
+                child = split;
+            }
+            pos += common;
+            node = child;
+        }
+        node.config = config;
+    }
+
+    /**
+     * A node in the tree. The label holds the characters on the edge leading to the node.
+     */
+    private static class Node {
+        private String label;
+        private LoggerConfig config;
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+
+        public Node(String label) {
+            this.label = label;
+        }
+
+        public Node getChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i < 0 ? null : children[i];
+        }
+
+        public void addChild(Node child) {
+            char c = child.label.charAt(0);
+            int i = -(Arrays.binarySearch(keys, c) + 1);
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            newKeys[i] = c;
+            newChildren[i] = child;
+            System.arraycopy(keys, i, newKeys, i + 1, keys.length - i);
+            System.arraycopy(children, i, newChildren, i + 1, children.length - i);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        public void replaceChild(Node child) {
+            children[Arrays.binarySearch(keys, child.label.charAt(0))] = child;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config.plugins;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.status.StatusLogger;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * The factory method of a Plugin along with how each of its parameters is bound. The method and its
+ * parameter annotations are resolved once per PluginType instead of each time a Plugin is created.
+ */
+public final class PluginFactoryMethod {
+
+    /**
+     * How a factory method parameter is bound to a configuration Node.
+     */
+    public enum Binding {
+        /** The Node being configured. */
+        NODE,
+        /** The Configuration. */
+        CONFIGURATION,
+        /** The value of the Node. */
+        VALUE,
+        /** An attribute of the Node. */
+        ATTRIBUTE,
+        /** The object of a child Node. */
+        ELEMENT,
+        /** The objects of the matching child Nodes. */
+        ELEMENT_ARRAY,
+        /** The parameter is not annotated and is always null. */
+        NONE
+    }
+
+    private static final Logger LOGGER = StatusLogger.getLogger();
+
+    private final Method method;
+    private final boolean isStatic;
+    private final Parameter[] parameters;
+
+    private PluginFactoryMethod(Method method) {
+        this.method = method;
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+        Annotation[][] parmArray = method.getParameterAnnotations();
+        Class<?>[] parmClasses = method.getParameterTypes();
+        if (parmArray.length != parmClasses.length) {
+            LOGGER.error("Number of parameter annotations does not equal the number of paramters");
+        }
+        parameters = new Parameter[parmClasses.length];
+        for (int i = 0; i < parmClasses.length; ++i) {
+            parameters[i] = new Parameter(i < parmArray.length ? parmArray[i] : new Annotation[0], parmClasses[i]);
+        }
+    }
+
+    /**
+     * Locates the method annotated with PluginFactory.
+     * @param clazz The Plugin class.
+     * @return The PluginFactoryMethod or null if the class has no factory method.
+     */
+    public static PluginFactoryMethod forClass(Class<?> clazz) {
+        for (Method method : clazz.getMethods()) {
+            if (method.isAnnotationPresent(PluginFactory.class)) {
+                return new PluginFactoryMethod(method);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the factory method.
+     * @return The Method.
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns whether the factory method is static and can therefore be called.
+     * @return true if the method is static.
+     */
+    public boolean isStatic() {
+        return isStatic;
+    }
+
+    /**
+     * Returns the parameters of the factory method.
+     * @return The Parameters, which must not be modified.
+     */
+    public Parameter[] getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Calls the factory method.
+     * @param args The bound parameters.
+     * @return The Plugin object.
+     * @throws IllegalAccessException if the method cannot be accessed.
+     * @throws InvocationTargetException if the method throws an exception.
+     */
+    public Object invoke(Object[] args) throws IllegalAccessException, InvocationTargetException {
+        return method.invoke(null, args);
+    }
+
+    /**
+     * A parameter of the factory method.
+     */
+    public static final class Parameter {
+        private final Binding binding;
+        private final String name;
+        private final Class<?> type;
+
+        private Parameter(Annotation[] annotations, Class<?> parmClass) {
+            Binding b = Binding.NONE;
+            String n = null;
+            for (Annotation a : annotations) {
+                if (a instanceof PluginNode) {
+                    b = Binding.NODE;
+                } else if (a instanceof PluginConfiguration) {
+                    b = Binding.CONFIGURATION;
+                } else if (a instanceof PluginValue) {
+                    b = Binding.VALUE;
+                    n = ((PluginValue) a).value();
+                } else if (a instanceof PluginAttr) {
+                    b = Binding.ATTRIBUTE;
+                    n = ((PluginAttr) a).value();
+                } else if (a instanceof PluginElement) {
+                    b = parmClass.isArray() ? Binding.ELEMENT_ARRAY : Binding.ELEMENT;
+                    n = ((PluginElement) a).value();
+                } else {
+                    continue;
+                }
+                break;
+            }
+            this.binding = b;
+            this.name = n;
+            this.type = b == Binding.ELEMENT_ARRAY ? parmClass.getComponentType() : parmClass;
+        }
+
+        /**
+         * Returns how the parameter is bound.
+         * @return The Binding.
+         */
+        public Binding getBinding() {
+            return binding;
+        }
+
+        /**
+         * Returns the name of the value, attribute or element.
+         * @return The name or null if the binding has no name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the type of the parameter or, for an array of elements, the type of each element.
+         * @return The type.
+         */
+        public Class<?> getType() {
+            return type;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.apache.logging.log4j.core.config.plugins;
 
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.helpers.Constants;
 import org.apache.logging.log4j.core.helpers.Loader;
 import org.apache.logging.log4j.status.StatusLogger;
 
@@ -30,8 +31,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.text.DecimalFormat;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -48,14 +51,20 @@ public class PluginManager {
         new ConcurrentHashMap<String, ConcurrentMap<String, PluginType>>();
 
     private static CopyOnWriteArrayList<String> packages = new CopyOnWriteArrayList<String>();
-    private static final String PATH = "org/apache/logging/log4j/core/config/plugins/";
-    private static final String FILENAME = "Log4j2Plugins.dat";
+    /** The directory holding the plugin index in each jar. */
+    static final String PATH = "org/apache/logging/log4j/core/config/plugins/";
+    /** The name of the plugin index. */
+    static final String FILENAME = "Log4j2Plugins.dat";
     private static final String LOG4J_PACKAGES = "org.apache.logging.log4j.core";
 
     private static final Logger LOGGER = StatusLogger.getLogger();
 
     private static String rootDir;
 
+    private static volatile boolean indexLoaded;
+
+    private static volatile boolean indexDecoded;
+
     private Map<String, PluginType> plugins = new HashMap<String, PluginType>();
     private final String type;
     private final Class clazz;
@@ -126,43 +135,50 @@ public class PluginManager {
     }
 
     /**
-     * Collects plugins, optionally obtaining them from a preload map.
-     * @param preLoad if true, plugins will be obtained from the preload map.
+     * Collects plugins, optionally obtaining them from the plugin indexes.
+     * <p>
+     * The indexes, Log4j2Plugins.dat, are written at build time by the {@link PluginProcessor} for every jar
+     * that contains plugins and are read only once. Only the packages named by a configuration's packages
+     * attribute are scanned. The Log4j packages are scanned when preLoad is false, when no index could be
+     * decoded or when the log4j.plugins.scan system property is set to true.
+     * @param preLoad if true, plugins will be obtained from the plugin indexes.
      * @param pkgs A comma separated list of package names to scan for plugins. If
      * null the default Log4j package name will be used.
      */
     public void collectPlugins(boolean preLoad, String pkgs) {
-        if (pluginTypeMap.containsKey(type)) {
-            plugins = pluginTypeMap.get(type);
-            preLoad = false;
-        }
         long start = System.nanoTime();
         ResolverUtil<?> r = new ResolverUtil();
         ClassLoader loader = Loader.getClassLoader();
         if (loader != null) {
             r.setClassLoader(loader);
         }
-        if (preLoad) {
-            ConcurrentMap<String, ConcurrentMap<String, PluginType>> map = decode(loader);
-            if (map != null) {
-                pluginTypeMap = map;
-                plugins = map.get(type);
-            } else {
-                LOGGER.warn("Plugin preloads not available");
+        if (preLoad && !indexDecoded) {
+            synchronized (PluginManager.class) {
+                if (!indexDecoded) {
+                    ConcurrentMap<String, ConcurrentMap<String, PluginType>> map = decode(loader);
+                    if (map != null) {
+                        pluginTypeMap = map;
+                        indexLoaded = true;
+                    } else {
+                        LOGGER.warn("No plugin index could be loaded, scanning " + LOG4J_PACKAGES + " for plugins");
+                    }
+                    indexDecoded = true;
+                }
             }
         }
-        if (plugins.size() == 0) {
+        List<String> scanPackages = new ArrayList<String>(packages);
+        if (!preLoad || !indexLoaded || Boolean.getBoolean(Constants.LOG4J_PLUGIN_SCAN)) {
             if (pkgs == null) {
-                packages.add(LOG4J_PACKAGES);
+                scanPackages.add(LOG4J_PACKAGES);
             } else {
                 String[] names = pkgs.split(",");
                 for (String name : names) {
-                    packages.add(name);
+                    scanPackages.add(name);
                 }
             }
         }
         ResolverUtil.Test test = new PluginTest(clazz);
-        for (String pkg : packages) {
+        for (String pkg : scanPackages) {
             r.findInPackage(test, pkg);
         }
         for (Class<?> item : r.getClasses()) {
@@ -177,6 +193,9 @@ public class PluginManager {
         }
         long elapsed = System.nanoTime() - start;
         plugins = pluginTypeMap.get(type);
+        if (plugins == null) {
+            plugins = new HashMap<String, PluginType>();
+        }
         StringBuilder sb = new StringBuilder("Generated plugins");
         sb.append(" in ");
         DecimalFormat numFormat = new DecimalFormat("#0");
@@ -188,7 +207,7 @@ public class PluginManager {
         LOGGER.debug(sb.toString());
     }
 
-    private static ConcurrentMap<String, ConcurrentMap<String, PluginType>> decode(ClassLoader loader) {
+    static ConcurrentMap<String, ConcurrentMap<String, PluginType>> decode(ClassLoader loader) {
         Enumeration<URL> resources;
         try {
             resources = loader.getResources(PATH + FILENAME);
@@ -199,19 +218,21 @@ public class PluginManager {
         ConcurrentMap<String, ConcurrentMap<String, PluginType>> map =
             new ConcurrentHashMap<String, ConcurrentMap<String, PluginType>>();
         while (resources.hasMoreElements()) {
+            URL url = resources.nextElement();
+            LOGGER.debug("Found Plugin Map at {}", url.toExternalForm());
+            DataInputStream dis = null;
             try {
-                URL url = resources.nextElement();
-                LOGGER.debug("Found Plugin Map at {}", url.toExternalForm());
                 InputStream is = url.openStream();
                 BufferedInputStream bis = new BufferedInputStream(is);
-                DataInputStream dis = new DataInputStream(bis);
+                dis = new DataInputStream(bis);
                 int count = dis.readInt();
                 for (int j = 0; j < count; ++j) {
                     String type = dis.readUTF();
                     int entries = dis.readInt();
                     ConcurrentMap<String, PluginType> types = map.get(type);
                     if (types == null) {
-                        types = new ConcurrentHashMap<String, PluginType>(count);
+                        map.putIfAbsent(type, new ConcurrentHashMap<String, PluginType>(entries));
+                        types = map.get(type);
                     }
                     for (int i = 0; i < entries; ++i) {
                         String key = dis.readUTF();
@@ -219,20 +240,38 @@ public class PluginManager {
                         String name = dis.readUTF();
                         boolean printable = dis.readBoolean();
                         boolean defer = dis.readBoolean();
-                        Class clazz = Class.forName(className);
-                        types.put(key, new PluginType(clazz, name, printable, defer));
+                        Class clazz = loadClass(loader, className, url);
+                        if (clazz != null) {
+                            types.put(key, new PluginType(clazz, name, printable, defer));
+                        }
+                    }
+                }
+            } catch (IOException ex) {
+                LOGGER.warn("Unable to read plugin index " + url.toExternalForm(), ex);
+            } finally {
+                if (dis != null) {
+                    try {
+                        dis.close();
+                    } catch (IOException ex) {
+                        // Ignore the exception.
                     }
-                    map.putIfAbsent(type, types);
                 }
-                dis.close();
-            } catch (Exception ex) {
-                LOGGER.warn("Unable to preload plugins", ex);
-                return null;
             }
         }
         return map.size() == 0 ? null : map;
     }
 
+    private static Class loadClass(ClassLoader loader, String className, URL url) {
+        try {
+            return loader.loadClass(className);
+        } catch (ClassNotFoundException ex) {
+            LOGGER.warn("Unable to load plugin " + className + " listed in " + url.toExternalForm(), ex);
+        } catch (LinkageError err) {
+            LOGGER.warn("Unable to load plugin " + className + " listed in " + url.toExternalForm(), err);
+        }
+        return null;
+    }
+
     private static void encode(ConcurrentMap<String, ConcurrentMap<String, PluginType>> map) {
         String fileName = rootDir + PATH + FILENAME;
         try {
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config.plugins;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Annotation processor that writes the index of the Plugins in the classes being compiled to
+ * Log4j2Plugins.dat, the file the PluginManager reads at startup instead of scanning the classpath.
+ * The processor is located by javac through META-INF/services whenever log4j-core is on the
+ * classpath, so every jar containing Plugins carries its own index.
+ */
+@SupportedAnnotationTypes("org.apache.logging.log4j.core.config.plugins.Plugin")
+public class PluginProcessor extends AbstractProcessor {
+
+    private final Map<String, Map<String, PluginEntry>> pluginTypes = new TreeMap<String, Map<String, PluginEntry>>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latest();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!pluginTypes.isEmpty()) {
+                writeIndex();
+            }
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(Plugin.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+            Plugin plugin = element.getAnnotation(Plugin.class);
+            String className = processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString();
+            String elementName = plugin.elementType().equals(Plugin.EMPTY) ? plugin.name() : plugin.elementType();
+            Map<String, PluginEntry> plugins = pluginTypes.get(plugin.type());
+            if (plugins == null) {
+                plugins = new TreeMap<String, PluginEntry>();
+                pluginTypes.put(plugin.type(), plugins);
+            }
+            plugins.put(plugin.name().toLowerCase(), new PluginEntry(className, elementName, plugin.printObject(),
+                plugin.deferChildren()));
+        }
+        return false;
+    }
+
+    /**
+     * Writes the index in the format read by PluginManager.
+     */
+    private void writeIndex() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                PluginManager.PATH + PluginManager.FILENAME);
+            DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(file.openOutputStream()));
+            try {
+                dos.writeInt(pluginTypes.size());
+                for (Map.Entry<String, Map<String, PluginEntry>> outer : pluginTypes.entrySet()) {
+                    dos.writeUTF(outer.getKey());
+                    dos.writeInt(outer.getValue().size());
+                    for (Map.Entry<String, PluginEntry> entry : outer.getValue().entrySet()) {
+                        PluginEntry plugin = entry.getValue();
+                        dos.writeUTF(entry.getKey());
+                        dos.writeUTF(plugin.className);
+                        dos.writeUTF(plugin.elementName);
+                        dos.writeBoolean(plugin.printObject);
+                        dos.writeBoolean(plugin.deferChildren);
+                    }
+                }
+            } finally {
+                dos.close();
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Unable to write " + PluginManager.FILENAME + ": " + ex.getMessage());
+        }
+    }
+
+    /**
+     * The indexed attributes of a Plugin.
+     */
+    private static final class PluginEntry {
+        private final String className;
+        private final String elementName;
+        private final boolean printObject;
+        private final boolean deferChildren;
+
+        public PluginEntry(String className, String elementName, boolean printObject, boolean deferChildren) {
+            this.className = className;
+            this.elementName = elementName;
+            this.printObject = printObject;
+            this.deferChildren = deferChildren;
+        }
+    }
+}
@@ -28,6 +28,8 @@ public class PluginType implements Serializable {
     private String elementName;
     private boolean printObject = false;
     private boolean deferChildren = false;
+    private transient volatile PluginFactoryMethod factoryMethod;
+    private transient volatile boolean factoryResolved;
 
     public PluginType(Class clazz, String name, boolean printObj, boolean deferChildren) {
         this.pluginClass = clazz;
@@ -51,4 +53,16 @@ public class PluginType implements Serializable {
     public boolean isDeferChildren() {
         return this.deferChildren;
     }
+
+    /**
+     * Returns the factory method of the Plugin class, which is located the first time it is requested.
+     * @return The PluginFactoryMethod or null if the class has no method annotated with PluginFactory.
+     */
+    public PluginFactoryMethod getFactoryMethod() {
+        if (!factoryResolved) {
+            factoryMethod = PluginFactoryMethod.forClass(pluginClass);
+            factoryResolved = true;
+        }
+        return factoryMethod;
+    }
 }
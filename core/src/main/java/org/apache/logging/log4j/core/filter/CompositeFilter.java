@@ -144,6 +144,258 @@ public final class CompositeFilter implements Iterable<Filter>, Filter, Lifecycl
         return result;
     }
 
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1) {
+        Result result = Result.NEUTRAL;
+        for (Filter filter : filters) {
+            result = filter.filter(logger, level, marker, msg, p1);
+            if (result == Result.ACCEPT || result == Result.DENY) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2) {
+        Result result = Result.NEUTRAL;
+        for (Filter filter : filters) {
+            result = filter.filter(logger, level, marker, msg, p1, p2);
+            if (result == Result.ACCEPT || result == Result.DENY) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3) {
+        Result result = Result.NEUTRAL;
+        for (Filter filter : filters) {
+            result = filter.filter(logger, level, marker, msg, p1, p2, p3);
+            if (result == Result.ACCEPT || result == Result.DENY) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4) {
+        Result result = Result.NEUTRAL;
+        for (Filter filter : filters) {
+            result = filter.filter(logger, level, marker, msg, p1, p2, p3, p4);
+            if (result == Result.ACCEPT || result == Result.DENY) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5) {
+        Result result = Result.NEUTRAL;
+        for (Filter filter : filters) {
+            result = filter.filter(logger, level, marker, msg, p1, p2, p3, p4, p5);
+            if (result == Result.ACCEPT || result == Result.DENY) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6) {
+        Result result = Result.NEUTRAL;
+        for (Filter filter : filters) {
+            result = filter.filter(logger, level, marker, msg, p1, p2, p3, p4, p5, p6);
+            if (result == Result.ACCEPT || result == Result.DENY) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7) {
+        Result result = Result.NEUTRAL;
+        for (Filter filter : filters) {
+            result = filter.filter(logger, level, marker, msg, p1, p2, p3, p4, p5, p6, p7);
+            if (result == Result.ACCEPT || result == Result.DENY) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @param p8 The eighth parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7, Object p8) {
+        Result result = Result.NEUTRAL;
+        for (Filter filter : filters) {
+            result = filter.filter(logger, level, marker, msg, p1, p2, p3, p4, p5, p6, p7, p8);
+            if (result == Result.ACCEPT || result == Result.DENY) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @param p8 The eighth parameter.
+     * @param p9 The ninth parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        Result result = Result.NEUTRAL;
+        for (Filter filter : filters) {
+            result = filter.filter(logger, level, marker, msg, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+            if (result == Result.ACCEPT || result == Result.DENY) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filter an event.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @param p8 The eighth parameter.
+     * @param p9 The ninth parameter.
+     * @param p10 The tenth parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7, Object p8, Object p9, Object p10) {
+        Result result = Result.NEUTRAL;
+        for (Filter filter : filters) {
+            result = filter.filter(logger, level, marker, msg, p1, p2, p3, p4, p5, p6, p7, p8, p9, p10);
+            if (result == Result.ACCEPT || result == Result.DENY) {
+                return result;
+            }
+        }
+        return result;
+    }
+
     /**
      * Filter an event.
      * @param logger The Logger.
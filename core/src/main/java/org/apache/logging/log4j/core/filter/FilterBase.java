@@ -122,6 +122,188 @@ public abstract class FilterBase implements Filter, Lifecycle {
         return Result.NEUTRAL;
     }
 
+    /**
+     * Appender Filter method. The default passes the parameters to the array based filter method.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1) {
+        return filter(logger, level, marker, msg, new Object[] {p1});
+    }
+
+    /**
+     * Appender Filter method. The default passes the parameters to the array based filter method.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2) {
+        return filter(logger, level, marker, msg, new Object[] {p1, p2});
+    }
+
+    /**
+     * Appender Filter method. The default passes the parameters to the array based filter method.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3) {
+        return filter(logger, level, marker, msg, new Object[] {p1, p2, p3});
+    }
+
+    /**
+     * Appender Filter method. The default passes the parameters to the array based filter method.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4) {
+        return filter(logger, level, marker, msg, new Object[] {p1, p2, p3, p4});
+    }
+
+    /**
+     * Appender Filter method. The default passes the parameters to the array based filter method.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5) {
+        return filter(logger, level, marker, msg, new Object[] {p1, p2, p3, p4, p5});
+    }
+
+    /**
+     * Appender Filter method. The default passes the parameters to the array based filter method.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6) {
+        return filter(logger, level, marker, msg, new Object[] {p1, p2, p3, p4, p5, p6});
+    }
+
+    /**
+     * Appender Filter method. The default passes the parameters to the array based filter method.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7) {
+        return filter(logger, level, marker, msg, new Object[] {p1, p2, p3, p4, p5, p6, p7});
+    }
+
+    /**
+     * Appender Filter method. The default passes the parameters to the array based filter method.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @param p8 The eighth parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7, Object p8) {
+        return filter(logger, level, marker, msg, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8});
+    }
+
+    /**
+     * Appender Filter method. The default passes the parameters to the array based filter method.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @param p8 The eighth parameter.
+     * @param p9 The ninth parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        return filter(logger, level, marker, msg, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9});
+    }
+
+    /**
+     * Appender Filter method. The default passes the parameters to the array based filter method.
+     * @param logger The Logger.
+     * @param level The event logging Level.
+     * @param marker The Marker for the event or null.
+     * @param msg String text to filter on.
+     * @param p1 The first parameter.
+     * @param p2 The second parameter.
+     * @param p3 The third parameter.
+     * @param p4 The fourth parameter.
+     * @param p5 The fifth parameter.
+     * @param p6 The sixth parameter.
+     * @param p7 The seventh parameter.
+     * @param p8 The eighth parameter.
+     * @param p9 The ninth parameter.
+     * @param p10 The tenth parameter.
+     * @return the Result.
+     */
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7, Object p8, Object p9, Object p10) {
+        return filter(logger, level, marker, msg, new Object[] {p1, p2, p3, p4, p5, p6, p7, p8, p9, p10});
+    }
+
     /**
      * Appender Filter method. The default returns NEUTRAL.
      * @param logger the Logger.
@@ -51,7 +51,7 @@ public class Filterable implements Filtering {
     public synchronized void addFilter(Filter filter) {
         if (this.filter == null) {
             this.filter = filter;
-        } else if (filter instanceof CompositeFilter) {
+        } else if (this.filter instanceof CompositeFilter) {
             this.filter = ((CompositeFilter) this.filter).addFilter(filter);
         } else {
             Filter[] filters = new Filter[] {this.filter, filter};
@@ -66,8 +66,8 @@ public class Filterable implements Filtering {
     public synchronized void removeFilter(Filter filter) {
         if (this.filter == filter) {
             this.filter = null;
-        } else if (filter instanceof CompositeFilter) {
-            CompositeFilter composite = (CompositeFilter) filter;
+        } else if (this.filter instanceof CompositeFilter) {
+            CompositeFilter composite = (CompositeFilter) this.filter;
             composite = composite.removeFilter(filter);
             if (composite.size() > 1) {
                 this.filter = composite;
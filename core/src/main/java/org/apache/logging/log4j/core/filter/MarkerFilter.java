@@ -44,6 +44,53 @@ public final class MarkerFilter extends FilterBase {
         return filter(marker);
     }
 
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1) {
+        return filter(marker);
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2) {
+        return filter(marker);
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3) {
+        return filter(marker);
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4) {
+        return filter(marker);
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5) {
+        return filter(marker);
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6) {
+        return filter(marker);
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7) {
+        return filter(marker);
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7, Object p8) {
+        return filter(marker);
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        return filter(marker);
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7, Object p8, Object p9, Object p10) {
+        return filter(marker);
+    }
+
     public Result filter(Logger logger, Level level, Marker marker, Object msg, Throwable t) {
         return filter(marker);
     }
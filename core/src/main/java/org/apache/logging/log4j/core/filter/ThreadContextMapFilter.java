@@ -29,7 +29,6 @@ import org.apache.logging.log4j.core.helpers.KeyValuePair;
 import org.apache.logging.log4j.message.Message;
 
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 
 /**
@@ -37,32 +36,22 @@ import java.util.Map;
  */
 @Plugin(name = "ThreadContextMapFilter", type = "Core", elementType = "filter", printObject = true)
 public class ThreadContextMapFilter extends FilterBase {
-    private final Map<String, String> map;
-
-    private final String key;
-    private final String value;
+    private final String[] keys;
+    private final String[] values;
 
     private final boolean isAnd;
 
-    private final boolean useMap;
-
     public ThreadContextMapFilter(Map<String, String> pairs, boolean oper, Result onMatch, Result onMismatch) {
         super(onMatch, onMismatch);
-        if (pairs.size() == 1) {
-            Iterator<Map.Entry<String, String>> iter = pairs.entrySet().iterator();
-            Map.Entry<String, String> entry = iter.next();
-            this.key = entry.getKey();
-            this.value = entry.getValue();
-            this.map = null;
-            this.isAnd = false;
-            this.useMap = false;
-        } else {
-            this.map = pairs;
-            this.isAnd = oper;
-            this.key = null;
-            this.value = null;
-            this.useMap = true;
+        this.keys = new String[pairs.size()];
+        this.values = new String[pairs.size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : pairs.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            ++i;
         }
+        this.isAnd = oper;
     }
 
     @Override
@@ -70,6 +59,53 @@ public class ThreadContextMapFilter extends FilterBase {
         return filter();
     }
 
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1) {
+        return filter();
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2) {
+        return filter();
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3) {
+        return filter();
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4) {
+        return filter();
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5) {
+        return filter();
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6) {
+        return filter();
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7) {
+        return filter();
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7, Object p8) {
+        return filter();
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        return filter();
+    }
+
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p1, Object p2, Object p3,
+                         Object p4, Object p5, Object p6, Object p7, Object p8, Object p9, Object p10) {
+        return filter();
+    }
+
     @Override
     public Result filter(Logger logger, Level level, Marker marker, Object msg, Throwable t) {
         return filter();
@@ -81,26 +117,21 @@ public class ThreadContextMapFilter extends FilterBase {
     }
 
     private Result filter() {
-        boolean match = false;
-        if (useMap) {
-            for (String key : map.keySet()) {
-                match = map.get(key).equals(ThreadContext.get(key));
-                if ((!isAnd && match) || (isAnd && !match)) {
-                    break;
-                }
-            }
-        } else {
-            match = key.equals(ThreadContext.get(key));
-        }
-        return match ? onMatch : onMismatch;
+        return filter(ThreadContext.getImmutableContext());
     }
 
     @Override
     public Result filter(LogEvent event) {
-        Map<String, String> ctx = event.getContextMap();
+        return filter(event.getContextMap());
+    }
+
+    /**
+     * The pairs are held in arrays so that no iterator is created for each event.
+     */
+    private Result filter(Map<String, String> ctx) {
         boolean match = false;
-        for (String key : map.keySet()) {
-            match = map.get(key).equals(ctx.get(key));
+        for (int i = 0; i < keys.length; ++i) {
+            match = values[i].equals(ctx.get(keys[i]));
             if ((!isAnd && match) || (isAnd && !match)) {
                 break;
             }
@@ -111,21 +142,15 @@ public class ThreadContextMapFilter extends FilterBase {
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("isAnd=").append(isAnd);
-        if (useMap) {
-            if (map.size() > 0) {
-                sb.append(", {");
-               boolean first = true;
-                for (Map.Entry<String, String> entry : map.entrySet()) {
-                    if (!first) {
-                        sb.append(", ");
-                    }
-                    first = false;
-                    sb.append(entry.getKey()).append("=").append(entry.getValue());
+        if (keys.length > 0) {
+            sb.append(", {");
+            for (int i = 0; i < keys.length; ++i) {
+                if (i > 0) {
+                    sb.append(", ");
                 }
-                sb.append("}");
-          }
-        } else {
-            sb.append(", {").append(key).append("=").append(value).append("}");
+                sb.append(keys[i]).append("=").append(values[i]);
+            }
+            sb.append("}");
         }
         return sb.toString();
     }
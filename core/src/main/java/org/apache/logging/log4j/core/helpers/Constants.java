@@ -26,6 +26,33 @@ public final class Constants {
      */
     public static final String LOG4J_CONTEXT_SELECTOR = "Log4jContextSelector";
 
+    /**
+     * Name of the system property that sets the number of slots in the ring buffer used by asynchronous Loggers.
+     */
+    public static final String ASYNC_LOGGER_RING_BUFFER_SIZE = "AsyncLogger.RingBufferSize";
+
+    /**
+     * Name of the system property that sets how the thread of asynchronous Loggers waits for events.
+     */
+    public static final String ASYNC_LOGGER_WAIT_STRATEGY = "AsyncLogger.WaitStrategy";
+
+    /**
+     * Name of the system property that enables reuse of LogEvents and Messages on each thread.
+     */
+    public static final String LOG4J_GARBAGE_FREE = "log4j.garbageFree";
+
+    /**
+     * Name of the system property that sets the maximum number of classes whose packaging data is cached
+     * by ThrowableProxy.
+     */
+    public static final String THROWABLE_PACKAGE_CACHE_SIZE = "ThrowableProxy.PackageCacheSize";
+
+    /**
+     * Name of the system property that forces scanning the Log4j packages for plugins even when plugin
+     * indexes are available.
+     */
+    public static final String LOG4J_PLUGIN_SCAN = "log4j.plugins.scan";
+
     /**
      * JNDI context name string literal.
      */
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.helpers;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs periodic housekeeping tasks, such as flushing buffers, on a single shared daemon thread. Tasks must be
+ * short and must not throw exceptions or they will not be run again. The thread is started when a task is
+ * scheduled and is stopped once every task has run or been cancelled, so periodic tasks must be cancelled when
+ * they are no longer needed.
+ */
+public final class Scheduler {
+
+    private static ScheduledExecutorService executor = null;
+
+    private static int tasks = 0;
+
+    /**
+     * Prevent class instantiation.
+     */
+    private Scheduler() {
+    }
+
+    /**
+     * Run a task repeatedly until it is cancelled.
+     * @param task The task to run.
+     * @param interval The number of milliseconds between the end of one run and the start of the next.
+     * @return The Future used to cancel the task.
+     */
+    public static synchronized ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long interval) {
+        Task scheduled = new Task(task, true);
+        scheduled.future = getExecutor().scheduleWithFixedDelay(scheduled, interval, interval,
+            TimeUnit.MILLISECONDS);
+        ++tasks;
+        return scheduled;
+    }
+
+    /**
+     * Run a task once.
+     * @param task The task to run.
+     * @param delay The number of milliseconds to wait before running the task.
+     * @return The Future used to cancel the task.
+     */
+    public static synchronized ScheduledFuture<?> schedule(Runnable task, long delay) {
+        Task scheduled = new Task(task, false);
+        scheduled.future = getExecutor().schedule(scheduled, delay, TimeUnit.MILLISECONDS);
+        ++tasks;
+        return scheduled;
+    }
+
+    /**
+     * Determine whether the thread running the tasks is active.
+     * @return true if tasks are outstanding.
+     */
+    static synchronized boolean isActive() {
+        return executor != null;
+    }
+
+    private static ScheduledExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "Log4j-Scheduler");
+                    thread.setDaemon(true);
+                    // Don't keep the ClassLoader of whichever thread happened to schedule the first task.
+                    thread.setContextClassLoader(Scheduler.class.getClassLoader());
+                    return thread;
+                }
+            });
+        }
+        return executor;
+    }
+
+    private static synchronized void release() {
+        if (--tasks == 0) {
+            // Tasks that are running are allowed to complete.
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    /**
+     * A scheduled task. It is no longer counted once it has run for the last time or has been cancelled.
+     */
+    private static final class Task implements Runnable, ScheduledFuture<Object> {
+        private final Runnable task;
+        private final boolean periodic;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        private volatile ScheduledFuture<?> future;
+
+        public Task(Runnable task, boolean periodic) {
+            this.task = task;
+            this.periodic = periodic;
+        }
+
+        public void run() {
+            try {
+                task.run();
+            } catch (RuntimeException ex) {
+                release();
+                throw ex;
+            } catch (Error error) {
+                release();
+                throw error;
+            }
+            if (!periodic) {
+                release();
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                Scheduler.release();
+            }
+        }
+
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = future.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                release();
+            }
+            return cancelled;
+        }
+
+        public boolean isCancelled() {
+            return future.isCancelled();
+        }
+
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        public Object get() throws InterruptedException, ExecutionException {
+            return future.get();
+        }
+
+        public Object get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+            return future.get(timeout, unit);
+        }
+
+        public long getDelay(TimeUnit unit) {
+            return future.getDelay(unit);
+        }
+
+        public int compareTo(Delayed delayed) {
+            return future.compareTo(delayed);
+        }
+    }
+}
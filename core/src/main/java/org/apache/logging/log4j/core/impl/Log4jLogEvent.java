@@ -44,11 +44,13 @@ public class Log4jLogEvent implements LogEvent, Serializable {
     private final String name;
     private final Message message;
     private final long timestamp;
-    private final ThrowableProxy throwable;
+    private final Throwable throwable;
+    private transient ThrowableProxy thrownProxy;
     private final Map<String, String> mdc;
     private final Stack<String> ndc;
     private String threadName = null;
     private StackTraceElement location;
+    private transient boolean endOfBatch = false;
 
     /**
      * Constructor.
@@ -60,8 +62,8 @@ public class Log4jLogEvent implements LogEvent, Serializable {
      * @param t A Throwable or null.
      */
     public Log4jLogEvent(String loggerName, Marker marker, String fqcn, Level level, Message message, Throwable t) {
-        this(loggerName, marker, fqcn, level, message, t, ThreadContext.getContext(), ThreadContext.cloneStack(), null,
-             null, System.currentTimeMillis());
+        this(loggerName, marker, fqcn, level, message, t, ThreadContext.getImmutableContext(),
+             ThreadContext.getImmutableStack(), null, null, System.currentTimeMillis());
     }
 
     /**
@@ -86,7 +88,8 @@ public class Log4jLogEvent implements LogEvent, Serializable {
         this.fqcnOfLogger = fqcn;
         this.level = level;
         this.message = message;
-        this.throwable = t == null ? null : new ThrowableProxy(t);
+        this.throwable = t;
+        this.thrownProxy = t instanceof ThrowableProxy ? (ThrowableProxy) t : null;
         this.mdc = mdc;
         this.ndc = ndc;
         this.timestamp = message instanceof TimestampMessage ? ((TimestampMessage) message).getTimestamp() : timestamp;
@@ -148,6 +151,18 @@ public class Log4jLogEvent implements LogEvent, Serializable {
         return throwable;
     }
 
+    /**
+     * Return the ThrowableProxy associated with the event, or null. The ThrowableProxy is only created
+     * when it is requested.
+     * @return The ThrowableProxy associated with the event.
+     */
+    public ThrowableProxy getThrownProxy() {
+        if (thrownProxy == null && throwable != null) {
+            thrownProxy = new ThrowableProxy(throwable);
+        }
+        return thrownProxy;
+    }
+
     /**
      * Return the Marker associated with the event, or null.
      * @return the Marker associated with the event.
@@ -164,6 +179,22 @@ public class Log4jLogEvent implements LogEvent, Serializable {
         return fqcnOfLogger;
     }
 
+    /**
+     * Determine if this is the last event in a batch. This is not serialized.
+     * @return true if this is the last event in the batch.
+     */
+    public boolean isEndOfBatch() {
+        return endOfBatch;
+    }
+
+    /**
+     * Mark the event as the last one in a batch.
+     * @param endOfBatch true if this is the last event in the batch.
+     */
+    public void setEndOfBatch(boolean endOfBatch) {
+        this.endOfBatch = endOfBatch;
+    }
+
     /**
      * @doubt Allows direct access to the map passed into the constructor, would allow appender
      * or layout to manipulate event as seen by other appenders.
@@ -192,27 +223,40 @@ public class Log4jLogEvent implements LogEvent, Serializable {
             return null;
         }
         if (location == null) {
-            StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-            boolean next = false;
-            for (StackTraceElement element : stackTrace) {
-                String className = element.getClassName();
-                if (next) {
-                    if (fqcnOfLogger.equals(className)) {
-                        continue;
-                    }
-                    location = element;
-                    break;
-                }
+            location = calcLocation(fqcnOfLogger);
+        }
+
+        return location;
+    }
 
+    /**
+     * Locate the StackTraceElement of the caller on the current thread. This will be the entry that occurs right
+     * before the first occurrence of FQCN as a class name.
+     * @param fqcnOfLogger The fully qualified class name of the Logger.
+     * @return the StackTraceElement for the caller or null if it could not be located.
+     */
+    public static StackTraceElement calcLocation(String fqcnOfLogger) {
+        if (fqcnOfLogger == null) {
+            return null;
+        }
+        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
+        boolean next = false;
+        for (StackTraceElement element : stackTrace) {
+            String className = element.getClassName();
+            if (next) {
                 if (fqcnOfLogger.equals(className)) {
-                    next = true;
-                } else if (NOT_AVAIL.equals(className)) {
-                    break;
+                    continue;
                 }
+                return element;
             }
-        }
 
-        return location;
+            if (fqcnOfLogger.equals(className)) {
+                next = true;
+            } else if (NOT_AVAIL.equals(className)) {
+                break;
+            }
+        }
+        return null;
     }
 
     /**
@@ -278,7 +322,7 @@ public class Log4jLogEvent implements LogEvent, Serializable {
             this.name = event.name;
             this.message = event.message;
             this.timestamp = event.timestamp;
-            this.throwable = event.throwable;
+            this.throwable = event.getThrownProxy();
             this.mdc = new HashMap<String, String>(event.mdc);
             this.ndc = event.ndc;
             this.location = event.getSource();
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.message.LoggerNameAwareMessage;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.TimestampMessage;
+
+import java.util.Map;
+import java.util.Stack;
+
+/**
+ * A LogEvent that is reused by the thread that owns it. The event is only valid until the logging call that
+ * created it returns. Anything that holds on to the event after that, such as an asynchronous Appender, must
+ * use {@link #createMemento()} to obtain an immutable copy.
+ */
+public class MutableLogEvent implements LogEvent {
+
+    private static final long serialVersionUID = 3473306946567880347L;
+
+    private String fqcnOfLogger;
+    private Marker marker;
+    private Level level;
+    private String name;
+    private Message message;
+    private long timestamp;
+    private Throwable thrown;
+    private ThrowableProxy thrownProxy;
+    private Map<String, String> mdc;
+    private Stack<String> ndc;
+    private String threadName;
+    private StackTraceElement location;
+    private boolean reserved;
+    private boolean endOfBatch;
+
+    /**
+     * Fill in the event for a new logging call on the current thread. The event refers to the immutable
+     * snapshots of the thread context so nothing is copied.
+     * @param loggerName The name of the Logger.
+     * @param marker The Marker or null.
+     * @param fqcn The fully qualified class name of the caller.
+     * @param level The logging Level.
+     * @param message The Message.
+     * @param t A Throwable or null.
+     */
+    public void set(String loggerName, Marker marker, String fqcn, Level level, Message message, Throwable t) {
+        this.name = loggerName;
+        this.marker = marker;
+        this.fqcnOfLogger = fqcn;
+        this.level = level;
+        this.message = message;
+        this.thrown = t;
+        this.thrownProxy = null;
+        this.timestamp = message instanceof TimestampMessage ? ((TimestampMessage) message).getTimestamp() :
+            System.currentTimeMillis();
+        this.mdc = ThreadContext.getImmutableContext();
+        this.ndc = ThreadContext.getImmutableStack();
+        this.threadName = null;
+        this.location = null;
+        this.endOfBatch = false;
+        if (message instanceof LoggerNameAwareMessage) {
+            ((LoggerNameAwareMessage) message).setLoggerName(name);
+        }
+    }
+
+    /**
+     * Mark the event as being in use.
+     * @return false if the event is already in use by a logging call higher up the stack.
+     */
+    public boolean reserve() {
+        if (reserved) {
+            return false;
+        }
+        reserved = true;
+        return true;
+    }
+
+    /**
+     * Release the event once the logging call is complete so it can be reused. The references held by the
+     * event are cleared so they can be garbage collected.
+     */
+    public void release() {
+        reserved = false;
+        marker = null;
+        message = null;
+        thrown = null;
+        thrownProxy = null;
+        mdc = null;
+        ndc = null;
+        threadName = null;
+        location = null;
+    }
+
+    /**
+     * Create an immutable copy of the event.
+     * @return A Log4jLogEvent with the same values as this event.
+     */
+    public LogEvent createMemento() {
+        Message msg = message instanceof MutableParameterizedMessage ?
+            ((MutableParameterizedMessage) message).createMemento() : message;
+        return new Log4jLogEvent(name, marker, fqcnOfLogger, level, msg, thrown,
+            mdc, ndc, getThreadName(), location, timestamp);
+    }
+
+    public boolean isEndOfBatch() {
+        return endOfBatch;
+    }
+
+    public void setEndOfBatch(boolean endOfBatch) {
+        this.endOfBatch = endOfBatch;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public String getLoggerName() {
+        return name;
+    }
+
+    public StackTraceElement getSource() {
+        if (location == null) {
+            location = Log4jLogEvent.calcLocation(fqcnOfLogger);
+        }
+        return location;
+    }
+
+    public Message getMessage() {
+        return message;
+    }
+
+    public Marker getMarker() {
+        return marker;
+    }
+
+    public String getThreadName() {
+        if (threadName == null) {
+            threadName = Thread.currentThread().getName();
+        }
+        return threadName;
+    }
+
+    public long getMillis() {
+        return timestamp;
+    }
+
+    public Throwable getThrown() {
+        return thrown;
+    }
+
+    /**
+     * Return the ThrowableProxy associated with the event, or null. The ThrowableProxy is only created when it
+     * is requested.
+     * @return The ThrowableProxy associated with the event.
+     */
+    public ThrowableProxy getThrownProxy() {
+        if (thrownProxy == null && thrown != null) {
+            thrownProxy = new ThrowableProxy(thrown);
+        }
+        return thrownProxy;
+    }
+
+    public Map<String, String> getContextMap() {
+        return mdc;
+    }
+
+    public Stack<String> getContextStack() {
+        return ndc;
+    }
+
+    public String getFQCN() {
+        return fqcnOfLogger;
+    }
+
+    /**
+     * Serializes an immutable copy of the event.
+     * @return The memento.
+     */
+    protected Object writeReplace() {
+        return createMemento();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        String n = name.length() == 0 ? "root" : name;
+        sb.append("Logger=").append(n);
+        sb.append(" Level=").append(level.name());
+        sb.append(" Message=").append(message == null ? null : message.getFormattedMessage());
+        return sb.toString();
+    }
+}
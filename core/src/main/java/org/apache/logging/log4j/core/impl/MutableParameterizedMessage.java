@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+
+/**
+ * A ParameterizedMessage that is reused by the thread that owns it. Like {@link MutableLogEvent} it is only
+ * valid until the logging call that created it returns.
+ */
+public class MutableParameterizedMessage extends ParameterizedMessage {
+
+    private static final long serialVersionUID = -2352512263523617834L;
+
+    private static final Object[] EMPTY_PARAMS = new Object[0];
+
+    private boolean reserved;
+
+    /**
+     * Replace the pattern and parameters of the message.
+     * @param messagePattern The message pattern.
+     * @param params The parameters.
+     */
+    public void set(String messagePattern, Object[] params) {
+        setThrowable(null);
+        setMessageFormat(messagePattern);
+        setParameters(params == null ? EMPTY_PARAMS : params);
+    }
+
+    /**
+     * Mark the message as being in use.
+     * @return false if the message is already in use by a logging call higher up the stack.
+     */
+    public boolean reserve() {
+        if (reserved) {
+            return false;
+        }
+        reserved = true;
+        return true;
+    }
+
+    /**
+     * Release the message once the logging call is complete so it can be reused.
+     */
+    public void release() {
+        reserved = false;
+        setThrowable(null);
+    }
+
+    /**
+     * Append the formatted message to the buffer without creating an intermediate String.
+     * @param buffer The StringBuilder to append to.
+     */
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        if (getClass() == MutableParameterizedMessage.class) {
+            formatParametersTo(buffer);
+        } else {
+            super.formatTo(buffer);
+        }
+    }
+
+    /**
+     * Create an immutable copy of the message.
+     * @return A ParameterizedMessage with the same pattern and parameters.
+     */
+    public Message createMemento() {
+        return new ParameterizedMessage(getMessageFormat(), getParameters(), getThrowable());
+    }
+
+    /**
+     * Serializes an immutable copy of the message.
+     * @return The memento.
+     */
+    protected Object writeReplace() {
+        return createMemento();
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the packaging data ThrowableProxy resolves for the classes in a stack trace so that it is shared
+ * by all events. Entries are kept per ClassLoader and the ClassLoaders are only weakly referenced, so the
+ * entries for an application are discarded when it is undeployed. Once the cache holds the maximum number
+ * of entries new classes are still resolved but are no longer added.
+ */
+public final class PackageDataCache {
+
+    private final int maxSize;
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final ReferenceQueue<ClassLoader> queue = new ReferenceQueue<ClassLoader>();
+
+    /** Holds the classes loaded by the bootstrap ClassLoader, which is represented by null. */
+    private final LoaderCache bootstrap = new LoaderCache(null, null);
+
+    /** The caches of the other ClassLoaders. There are few of them so they are searched linearly. */
+    private volatile LoaderCache[] caches = new LoaderCache[0];
+
+    /**
+     * Constructor.
+     * @param maxSize The maximum number of entries to cache.
+     */
+    public PackageDataCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached entry for a class.
+     * @param loader The ClassLoader the class was found with, may be null.
+     * @param className The name of the class.
+     * @param exact true if the class was obtained from the call stack.
+     * @return The Entry or null if the class has not been cached.
+     */
+    Entry get(ClassLoader loader, String className, boolean exact) {
+        LoaderCache cache = getCache(loader);
+        Entry entry = cache == null ? null : cache.getMap(exact).get(className);
+        if (entry == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return entry;
+    }
+
+    /**
+     * Adds an entry for a class unless the cache is full.
+     * @param loader The ClassLoader the class was found with, may be null.
+     * @param className The name of the class.
+     * @param exact true if the class was obtained from the call stack.
+     * @param entry The entry to cache.
+     */
+    void put(ClassLoader loader, String className, boolean exact, Entry entry) {
+        expungeStaleCaches();
+        if (size.get() >= maxSize) {
+            return;
+        }
+        LoaderCache cache = getCache(loader);
+        if (cache == null) {
+            cache = addCache(loader);
+        }
+        if (cache.getMap(exact).putIfAbsent(className, entry) == null) {
+            size.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of lookups that found a cached entry.
+     * @return The number of cache hits.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups that had to resolve the class.
+     * @return The number of cache misses.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the fraction of lookups that found a cached entry.
+     * @return The hit rate between 0 and 1, or 0 if there have been no lookups.
+     */
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     * @return The number of cached entries.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Discards all the entries and resets the statistics.
+     */
+    public synchronized void clear() {
+        caches = new LoaderCache[0];
+        bootstrap.exact.clear();
+        bootstrap.inexact.clear();
+        size.set(0);
+        hits.set(0);
+        misses.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "PackageDataCache(size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ")";
+    }
+
+    private LoaderCache getCache(ClassLoader loader) {
+        if (loader == null) {
+            return bootstrap;
+        }
+        LoaderCache[] array = caches;
+        for (LoaderCache cache : array) {
+            if (cache.get() == loader) {
+                return cache;
+            }
+        }
+        return null;
+    }
+
+    private synchronized LoaderCache addCache(ClassLoader loader) {
+        LoaderCache cache = getCache(loader);
+        if (cache == null) {
+            LoaderCache[] array = caches;
+            LoaderCache[] newArray = new LoaderCache[array.length + 1];
+            System.arraycopy(array, 0, newArray, 0, array.length);
+            cache = new LoaderCache(loader, queue);
+            newArray[array.length] = cache;
+            caches = newArray;
+        }
+        return cache;
+    }
+
+    private void expungeStaleCaches() {
+        if (queue.poll() == null) {
+            return;
+        }
+        while (queue.poll() != null) {
+            // drain the queue, all cleared caches are removed below.
+        }
+        synchronized (this) {
+            LoaderCache[] array = caches;
+            int count = 0;
+            for (LoaderCache cache : array) {
+                if (cache.get() != null) {
+                    ++count;
+                }
+            }
+            LoaderCache[] newArray = new LoaderCache[count];
+            int i = 0;
+            for (LoaderCache cache : array) {
+                if (cache.get() != null) {
+                    newArray[i++] = cache;
+                } else {
+                    size.addAndGet(-(cache.exact.size() + cache.inexact.size()));
+                }
+            }
+            caches = newArray;
+        }
+    }
+
+    /**
+     * The entries for the classes found with one ClassLoader.
+     */
+    private static final class LoaderCache extends WeakReference<ClassLoader> {
+        private final ConcurrentMap<String, Entry> exact = new ConcurrentHashMap<String, Entry>();
+        private final ConcurrentMap<String, Entry> inexact = new ConcurrentHashMap<String, Entry>();
+
+        public LoaderCache(ClassLoader loader, ReferenceQueue<ClassLoader> queue) {
+            super(loader, queue);
+        }
+
+        public ConcurrentMap<String, Entry> getMap(boolean isExact) {
+            return isExact ? exact : inexact;
+        }
+    }
+
+    /**
+     * Cached StackTracePackageElement and the ClassLoader of the class it describes.
+     */
+    static final class Entry {
+        private final StackTracePackageElement element;
+        private final WeakReference<ClassLoader> loader;
+
+        public Entry(StackTracePackageElement element, ClassLoader loader) {
+            this.element = element;
+            this.loader = loader == null ? null : new WeakReference<ClassLoader>(loader);
+        }
+
+        public StackTracePackageElement getElement() {
+            return element;
+        }
+
+        public ClassLoader getLoader() {
+            return loader == null ? null : loader.get();
+        }
+    }
+}
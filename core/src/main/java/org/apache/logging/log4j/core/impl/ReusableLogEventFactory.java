@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.helpers.Constants;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+
+/**
+ * LogEventFactory that hands out the {@link MutableLogEvent} owned by the current thread. If the event is
+ * already in use, because an Appender logged while handling an event, a new Log4jLogEvent is created instead.
+ * Reuse is enabled by setting the system property log4j.garbageFree to true.
+ */
+public class ReusableLogEventFactory implements LogEventFactory {
+
+    private static final boolean ENABLED = Boolean.getBoolean(Constants.LOG4J_GARBAGE_FREE);
+
+    private static final ThreadLocal<MutableLogEvent> EVENTS = new ThreadLocal<MutableLogEvent>() {
+        @Override
+        protected MutableLogEvent initialValue() {
+            return new MutableLogEvent();
+        }
+    };
+
+    private static final ThreadLocal<MutableParameterizedMessage> MESSAGES =
+        new ThreadLocal<MutableParameterizedMessage>() {
+            @Override
+            protected MutableParameterizedMessage initialValue() {
+                return new MutableParameterizedMessage();
+            }
+        };
+
+    /**
+     * Determine if LogEvents and Messages should be reused.
+     * @return true if the log4j.garbageFree system property is set to true.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public LogEvent createEvent(String loggerName, Marker marker, String fqcn, Level level, Message data,
+                                Throwable t) {
+        MutableLogEvent event = EVENTS.get();
+        if (!event.reserve()) {
+            return new Log4jLogEvent(loggerName, marker, fqcn, level, data, t);
+        }
+        event.set(loggerName, marker, fqcn, level, data, t);
+        return event;
+    }
+
+    /**
+     * Return the ParameterizedMessage owned by the current thread, or a new one if it is in use.
+     * @param messagePattern The message pattern.
+     * @param params The parameters.
+     * @return The ParameterizedMessage.
+     */
+    public static ParameterizedMessage getMessage(String messagePattern, Object[] params) {
+        MutableParameterizedMessage msg = MESSAGES.get();
+        if (!msg.reserve()) {
+            return new ParameterizedMessage(messagePattern, params);
+        }
+        msg.set(messagePattern, params);
+        return msg;
+    }
+
+    /**
+     * Release a LogEvent created by this factory so it can be reused.
+     * @param event The LogEvent.
+     */
+    public static void release(LogEvent event) {
+        if (event instanceof MutableLogEvent) {
+            ((MutableLogEvent) event).release();
+        }
+    }
+
+    /**
+     * Release a Message returned by {@link #getMessage(String, Object[])} so it can be reused.
+     * @param message The Message.
+     */
+    public static void release(Message message) {
+        if (message instanceof MutableParameterizedMessage) {
+            ((MutableParameterizedMessage) message).release();
+        }
+    }
+
+    /**
+     * Return an immutable copy of the event if it is one that will be reused.
+     * @param event The LogEvent.
+     * @return The LogEvent or its memento.
+     */
+    public static LogEvent toImmutable(LogEvent event) {
+        return event instanceof MutableLogEvent ? ((MutableLogEvent) event).createMemento() : event;
+    }
+
+    /**
+     * Return an immutable copy of the message if it is one that will be reused.
+     * @param message The Message.
+     * @return The Message or its memento.
+     */
+    public static Message toImmutable(Message message) {
+        return message instanceof MutableParameterizedMessage ?
+            ((MutableParameterizedMessage) message).createMemento() : message;
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.logging.log4j.core.impl;
 
+import org.apache.logging.log4j.core.helpers.Constants;
 import org.apache.logging.log4j.core.helpers.Loader;
 import org.apache.logging.log4j.status.StatusLogger;
 
@@ -25,8 +26,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.net.URL;
 import java.security.CodeSource;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Stack;
 
 /**
@@ -42,6 +41,10 @@ public class ThrowableProxy extends Throwable {
 
     private static final org.apache.logging.log4j.Logger LOGGER = StatusLogger.getLogger();
 
+    private static final int DEFAULT_PACKAGE_CACHE_SIZE = 4096;
+
+    private static final PackageDataCache PACKAGE_CACHE = new PackageDataCache(getPackageCacheSize());
+
     private static Method getSuppressed;
     private static Method addSuppressed;
 
@@ -63,11 +66,10 @@ public class ThrowableProxy extends Throwable {
      */
     public ThrowableProxy(Throwable throwable) {
         this.throwable = throwable;
-        Map<String, CacheEntry> map = new HashMap<String, CacheEntry>();
         Stack<Class> stack = getCurrentStack();
-        callerPackageData = resolvePackageData(stack, map, null, throwable.getStackTrace());
+        callerPackageData = resolvePackageData(stack, null, throwable.getStackTrace());
         this.cause = (throwable.getCause() == null) ? null :
-            new ThrowableProxy(throwable, stack, map, throwable.getCause());
+            new ThrowableProxy(throwable, stack, throwable.getCause());
         setSuppressed(throwable);
     }
 
@@ -76,14 +78,13 @@ public class ThrowableProxy extends Throwable {
      * Throwable.
      * @param parent The Throwable referencing this Throwable.
      * @param stack The Class stack.
-     * @param map The cache containing the packaging data.
      * @param cause The Throwable to wrap.
      */
-    private ThrowableProxy(Throwable parent, Stack<Class> stack, Map<String, CacheEntry> map, Throwable cause) {
+    private ThrowableProxy(Throwable parent, Stack<Class> stack, Throwable cause) {
         this.throwable = cause;
-        callerPackageData = resolvePackageData(stack, map, parent.getStackTrace(), cause.getStackTrace());
+        callerPackageData = resolvePackageData(stack, parent.getStackTrace(), cause.getStackTrace());
         this.cause = (throwable.getCause() == null) ? null :
-            new ThrowableProxy(parent, stack, map, throwable.getCause());
+            new ThrowableProxy(parent, stack, throwable.getCause());
         setSuppressed(throwable);
     }
 
@@ -256,13 +257,11 @@ public class ThrowableProxy extends Throwable {
     /**
      * Resolve all the stack entries in this stack trace that are not common with the parent.
      * @param stack The callers Class stack.
-     * @param map The cache of CacheEntry objects.
      * @param rootTrace The first stack trace resolve or null.
      * @param stackTrace The stack trace being resolved.
      * @return The StackTracePackageElement array.
      */
-    private StackTracePackageElement[] resolvePackageData(Stack<Class> stack, Map<String, CacheEntry> map,
-                                                          StackTraceElement[] rootTrace,
+    private StackTracePackageElement[] resolvePackageData(Stack<Class> stack, StackTraceElement[] rootTrace,
                                                           StackTraceElement[] stackTrace) {
         int stackLength;
         if (rootTrace != null) {
@@ -279,33 +278,36 @@ public class ThrowableProxy extends Throwable {
             stackLength = stackTrace.length;
         }
         StackTracePackageElement[] packageArray = new StackTracePackageElement[stackLength];
-        Class clazz = stack.peek();
+        Class clazz = stack.isEmpty() ? null : stack.peek();
         ClassLoader lastLoader = null;
         for (int i = stackLength - 1; i >= 0; --i) {
             String className = stackTrace[i].getClassName();
             // The stack returned from getCurrentStack will be missing entries for  java.lang.reflect.Method.invoke()
             // and its implementation. The Throwable might also contain stack entries that are no longer
             // present as those methods have returned.
-            if (className.equals(clazz.getName())) {
-                CacheEntry entry = resolvePackageElement(clazz, true);
-                packageArray[i] = entry.element;
-                lastLoader = entry.loader;
+            if (clazz != null && className.equals(clazz.getName())) {
+                ClassLoader loader = clazz.getClassLoader();
+                PackageDataCache.Entry entry = PACKAGE_CACHE.get(loader, className, true);
+                if (entry == null) {
+                    entry = resolvePackageElement(clazz, true);
+                    PACKAGE_CACHE.put(loader, className, true, entry);
+                }
+                packageArray[i] = entry.getElement();
+                lastLoader = loader;
                 stack.pop();
-                clazz = stack.peek();
+                clazz = stack.isEmpty() ? null : stack.peek();
             } else {
-                if (map.containsKey(className)) {
-                    CacheEntry entry = map.get(className);
-                    packageArray[i] = entry.element;
-                    if (entry.loader != null) {
-                        lastLoader = entry.loader;
-                    }
-                } else {
-                    CacheEntry entry = resolvePackageElement(loadClass(lastLoader, className), false);
-                    packageArray[i] = entry.element;
-                    map.put(className, entry);
-                    if (entry.loader != null) {
-                        lastLoader = entry.loader;
-                    }
+                // The class is located through the last ClassLoader or, failing that, the context ClassLoader.
+                ClassLoader loader = lastLoader != null ? lastLoader : Thread.currentThread().getContextClassLoader();
+                PackageDataCache.Entry entry = PACKAGE_CACHE.get(loader, className, false);
+                if (entry == null) {
+                    entry = resolvePackageElement(loadClass(lastLoader, className), false);
+                    PACKAGE_CACHE.put(loader, className, false, entry);
+                }
+                packageArray[i] = entry.getElement();
+                ClassLoader entryLoader = entry.getLoader();
+                if (entryLoader != null) {
+                    lastLoader = entryLoader;
                 }
             }
         }
@@ -314,12 +316,12 @@ public class ThrowableProxy extends Throwable {
 
 
     /**
-     * Construct the CacheEntry from the Class's information.
+     * Construct the cache Entry from the Class's information.
      * @param callerClass The Class.
      * @param exact True if the class was obtained via Reflection.getCallerClass.
-     * @return The CacheEntry.
+     * @return The cache Entry.
      */
-    private CacheEntry resolvePackageElement(Class callerClass, boolean exact) {
+    private PackageDataCache.Entry resolvePackageElement(Class callerClass, boolean exact) {
         String location = "?";
         String version = "?";
         ClassLoader lastLoader = null;
@@ -351,7 +353,7 @@ public class ThrowableProxy extends Throwable {
             }
             lastLoader = callerClass.getClassLoader();
         }
-        return new CacheEntry(new StackTracePackageElement(location, version, exact), lastLoader);
+        return new PackageDataCache.Entry(new StackTracePackageElement(location, version, exact), lastLoader);
     }
 
     /**
@@ -407,6 +409,28 @@ public class ThrowableProxy extends Throwable {
         return clazz;
     }
 
+    /**
+     * Returns the cache of packaging data shared by all ThrowableProxies.
+     * @return The PackageDataCache.
+     */
+    public static PackageDataCache getPackageDataCache() {
+        return PACKAGE_CACHE;
+    }
+
+    private static int getPackageCacheSize() {
+        String size = System.getProperty(Constants.THROWABLE_PACKAGE_CACHE_SIZE);
+        if (size == null) {
+            return DEFAULT_PACKAGE_CACHE_SIZE;
+        }
+        try {
+            return Integer.parseInt(size);
+        } catch (NumberFormatException ex) {
+            LOGGER.error("Invalid package data cache size {} for ThrowableProxy. Using {}", size,
+                DEFAULT_PACKAGE_CACHE_SIZE);
+            return DEFAULT_PACKAGE_CACHE_SIZE;
+        }
+    }
+
     private static void versionCheck() {
         Method[] methods = Throwable.class.getMethods();
         for (Method method : methods) {
@@ -475,19 +499,6 @@ public class ThrowableProxy extends Throwable {
         }
     }
 
-    /**
-     * Cached StackTracePackageElement and the ClassLoader.
-     */
-    private class CacheEntry {
-        private StackTracePackageElement element;
-        private ClassLoader loader;
-
-        public CacheEntry(StackTracePackageElement element, ClassLoader loader) {
-            this.element = element;
-            this.loader = loader;
-        }
-    }
-
     /**
      * Security Manager for accessing the call stack.
      */
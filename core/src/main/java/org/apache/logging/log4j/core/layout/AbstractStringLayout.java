@@ -19,13 +19,25 @@ package org.apache.logging.log4j.core.layout;
 import org.apache.logging.log4j.core.LogEvent;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 
 /**
  * Base class for Layouts that result in a String.
  */
 public abstract class AbstractStringLayout extends LayoutBase<String> {
 
+    private static final int DEFAULT_STRING_BUILDER_SIZE = 256;
+
+    private static final int MAX_STRING_BUILDER_SIZE = 2048;
+
+    private static final int CHAR_BUFFER_SIZE = 1024;
+
     /**
      * The charset of the formatted message.
      */
@@ -33,6 +45,26 @@ public abstract class AbstractStringLayout extends LayoutBase<String> {
 
     private final StringEncoder encoder;
 
+    /**
+     * Buffer reused by each thread to format events.
+     */
+    private final ThreadLocal<StringBuilder> stringBuilders = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(DEFAULT_STRING_BUILDER_SIZE);
+        }
+    };
+
+    /**
+     * CharsetEncoders are not thread safe so each thread has its own.
+     */
+    private final ThreadLocal<TextEncoder> textEncoders = new ThreadLocal<TextEncoder>() {
+        @Override
+        protected TextEncoder initialValue() {
+            return new TextEncoder();
+        }
+    };
+
     protected AbstractStringLayout(Charset charset) {
         this.charset = charset;
         boolean useClass = false;
@@ -57,10 +89,114 @@ public abstract class AbstractStringLayout extends LayoutBase<String> {
         return encoder.getBytes(formatAs(event));
     }
 
+    /**
+     * Append the formatted event to a buffer. Layouts that build the event in a StringBuilder should override
+     * this to avoid creating a String for each event.
+     * @param event The Log Event.
+     * @param buf The buffer to append to.
+     */
+    public void formatTo(LogEvent event, StringBuilder buf) {
+        buf.append(formatAs(event));
+    }
+
+    /**
+     * Format the event into a reused StringBuilder and encode the characters directly into the destination.
+     * @param event The Log Event.
+     * @param destination The destination to encode the event into.
+     */
+    @Override
+    public void encode(LogEvent event, ByteBufferDestination destination) {
+        if (!charset.canEncode()) {
+            super.encode(event, destination);
+            return;
+        }
+        StringBuilder text = getStringBuilder();
+        try {
+            formatTo(event, text);
+            textEncoders.get().encode(text, destination);
+        } finally {
+            releaseStringBuilder(text);
+        }
+    }
+
+    /**
+     * Return the StringBuilder owned by the current thread. If it is being used by an event further up the
+     * stack a new StringBuilder is returned.
+     * @return An empty StringBuilder.
+     */
+    protected StringBuilder getStringBuilder() {
+        StringBuilder buf = stringBuilders.get();
+        if (buf.length() > 0) {
+            return new StringBuilder(DEFAULT_STRING_BUILDER_SIZE);
+        }
+        return buf;
+    }
+
+    /**
+     * Empty a StringBuilder obtained from {@link #getStringBuilder()}. Buffers that have grown too large are
+     * not kept.
+     * @param buf The StringBuilder.
+     */
+    protected void releaseStringBuilder(StringBuilder buf) {
+        buf.setLength(0);
+        if (buf.capacity() > MAX_STRING_BUILDER_SIZE && buf == stringBuilders.get()) {
+            stringBuilders.set(new StringBuilder(DEFAULT_STRING_BUILDER_SIZE));
+        }
+    }
+
     protected Charset getCharset() {
         return charset;
     }
 
+    /**
+     * Encodes characters with a cached CharsetEncoder. The characters are copied in chunks into an array
+     * backed CharBuffer so the encoder can work on arrays.
+     */
+    private class TextEncoder {
+        private final CharsetEncoder charsetEncoder = charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final CharBuffer chars = CharBuffer.allocate(CHAR_BUFFER_SIZE);
+
+        public void encode(StringBuilder text, ByteBufferDestination destination) {
+            charsetEncoder.reset();
+            chars.clear();
+            ByteBuffer buf = destination.getByteBuffer();
+            int length = text.length();
+            int offset = 0;
+            boolean endOfInput;
+            do {
+                int count = Math.min(length - offset, chars.remaining());
+                text.getChars(offset, offset + count, chars.array(), chars.arrayOffset() + chars.position());
+                chars.position(chars.position() + count);
+                offset += count;
+                endOfInput = offset >= length;
+                chars.flip();
+                CoderResult result;
+                while ((result = charsetEncoder.encode(chars, buf, endOfInput)).isOverflow()) {
+                    buf = destination.drain(buf);
+                }
+                throwIfError(result);
+                // Keep any unencoded characters, such as half of a surrogate pair, for the next chunk.
+                chars.compact();
+            } while (!endOfInput);
+            CoderResult result;
+            while ((result = charsetEncoder.flush(buf)).isOverflow()) {
+                buf = destination.drain(buf);
+            }
+            throwIfError(result);
+        }
+
+        private void throwIfError(CoderResult result) {
+            if (result.isError()) {
+                try {
+                    result.throwException();
+                } catch (CharacterCodingException ex) {
+                    throw new IllegalStateException(ex.getMessage());
+                }
+            }
+        }
+    }
+
     /**
      * Encoder interface to support Java 5 and Java 6+.
      */
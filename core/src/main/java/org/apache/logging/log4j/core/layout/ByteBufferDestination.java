@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.layout;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A target that a Layout can encode a LogEvent into without first creating a String or byte array.
+ */
+public interface ByteBufferDestination {
+
+    /**
+     * Return the buffer to write the encoded event to.
+     * @return The ByteBuffer.
+     */
+    ByteBuffer getByteBuffer();
+
+    /**
+     * Called by the Layout when the buffer is full. The destination must make room, either by writing out
+     * the contents of the buffer or by replacing it with a larger one.
+     * @param buf The full buffer.
+     * @return The buffer to continue writing to. It will have space remaining.
+     */
+    ByteBuffer drain(ByteBuffer buf);
+}
@@ -75,7 +75,17 @@ public final class HTMLLayout extends AbstractStringLayout {
      */
     public String formatAs(LogEvent event) {
         StringBuilder sbuf = new StringBuilder(BUF_SIZE);
+        formatTo(event, sbuf);
+        return sbuf.toString();
+    }
 
+    /**
+     * Appends the LogEvent as an HTML table row to a buffer.
+     * @param event The Logging Event.
+     * @param sbuf The buffer to append to.
+     */
+    @Override
+    public void formatTo(LogEvent event, StringBuilder sbuf) {
         sbuf.append(LINE_SEP).append("<tr>").append(LINE_SEP);
 
         sbuf.append("<td>");
@@ -143,8 +153,6 @@ public final class HTMLLayout extends AbstractStringLayout {
             appendThrowableAsHTML(throwable, sbuf);
             sbuf.append("</td></tr>").append(LINE_SEP);
         }
-
-        return sbuf.toString();
     }
 
     private void appendThrowableAsHTML(Throwable throwable, StringBuilder sbuf) {
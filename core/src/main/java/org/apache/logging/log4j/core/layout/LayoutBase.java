@@ -18,9 +18,11 @@ package org.apache.logging.log4j.core.layout;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.status.StatusLogger;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 
 /**
  * Base class for Layouts.
@@ -40,6 +42,39 @@ public abstract class LayoutBase<T extends Serializable> implements Layout<T> {
      */
     protected byte[] footer;
 
+    /**
+     * Formats the event and copies the result into the destination. Layouts that can write to the
+     * destination directly should override this.
+     * @param event The Logging Event.
+     * @param destination The destination to encode the event into.
+     */
+    public void encode(LogEvent event, ByteBufferDestination destination) {
+        byte[] data = format(event);
+        if (data != null) {
+            writeTo(data, 0, data.length, destination);
+        }
+    }
+
+    /**
+     * Copy bytes into the destination, draining it as often as necessary.
+     * @param data The bytes to copy.
+     * @param offset The offset into the byte array.
+     * @param length The number of bytes to copy.
+     * @param destination The destination.
+     */
+    protected static void writeTo(byte[] data, int offset, int length, ByteBufferDestination destination) {
+        ByteBuffer buf = destination.getByteBuffer();
+        while (length > 0) {
+            if (!buf.hasRemaining()) {
+                buf = destination.drain(buf);
+            }
+            int chunk = Math.min(length, buf.remaining());
+            buf.put(data, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
     /**
      * Return the header, if one is available.
      * @return A byte array containing the header.
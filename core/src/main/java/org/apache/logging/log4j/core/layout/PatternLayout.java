@@ -136,17 +136,45 @@ public final class PatternLayout extends AbstractStringLayout {
      * @return The event formatted as a String.
      */
     public String formatAs(final LogEvent event) {
-        StringBuilder buf = new StringBuilder();
-        for (PatternFormatter formatter : formatters) {
-            formatter.format(event, buf);
+        StringBuilder buf = getStringBuilder();
+        String str;
+        try {
+            for (PatternFormatter formatter : formatters) {
+                formatter.format(event, buf);
+            }
+            str = buf.toString();
+        } finally {
+            releaseStringBuilder(buf);
         }
-        String str = buf.toString();
         if (replace != null) {
             str = replace.format(str);
         }
         return config == null ? str : config.getSubst().replace(event, str);
     }
 
+    /**
+     * Formats a logging event into a buffer. Variables are substituted in place, so a String is only created
+     * if a replacement has been configured.
+     *
+     * @param event logging event to be formatted.
+     * @param buf The buffer to append to.
+     */
+    @Override
+    public void formatTo(final LogEvent event, StringBuilder buf) {
+        int start = buf.length();
+        for (PatternFormatter formatter : formatters) {
+            formatter.format(event, buf);
+        }
+        if (replace != null) {
+            String str = replace.format(buf.substring(start));
+            buf.setLength(start);
+            buf.append(str);
+        }
+        if (config != null) {
+            config.getSubst().replaceIn(event, buf, start, buf.length() - start);
+        }
+    }
+
     /**
      * Create a PatternParser.
      * @param config The Configuration.
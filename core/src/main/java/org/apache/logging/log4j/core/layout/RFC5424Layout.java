@@ -26,6 +26,7 @@ import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.core.net.Facility;
 import org.apache.logging.log4j.core.net.Priority;
 import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.StringBuilderFormattable;
 import org.apache.logging.log4j.message.StructuredDataId;
 import org.apache.logging.log4j.message.StructuredDataMessage;
 
@@ -152,9 +153,20 @@ public final class RFC5424Layout extends AbstractStringLayout {
      * @return The RFC 5424 String representation of the LogEvent.
      */
     public String formatAs(final LogEvent event) {
+        StringBuilder buf = new StringBuilder();
+        formatTo(event, buf);
+        return buf.toString();
+    }
+
+    /**
+     * Appends the RFC 5424 representation of the LogEvent to a buffer.
+     * @param event The LogEvent.
+     * @param buf The buffer to append to.
+     */
+    @Override
+    public void formatTo(final LogEvent event, StringBuilder buf) {
         Message msg = event.getMessage();
         boolean isStructured = msg instanceof StructuredDataMessage;
-        StringBuilder buf = new StringBuilder();
 
         buf.append("<");
         buf.append(Priority.getPriority(facility, event.getLevel()));
@@ -207,12 +219,15 @@ public final class RFC5424Layout extends AbstractStringLayout {
             }
         } else {
             buf.append("- ");
-            buf.append(msg.getFormattedMessage());
+            if (msg instanceof StringBuilderFormattable) {
+                ((StringBuilderFormattable) msg).formatTo(buf);
+            } else {
+                buf.append(msg.getFormattedMessage());
+            }
         }
         if (includeNewLine) {
             buf.append("\n");
         }
-        return buf.toString();
     }
 
     protected String getProcId() {
@@ -22,6 +22,8 @@ import org.apache.logging.log4j.core.config.plugins.PluginAttr;
 import org.apache.logging.log4j.core.config.plugins.PluginFactory;
 import org.apache.logging.log4j.core.net.Facility;
 import org.apache.logging.log4j.core.net.Priority;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.StringBuilderFormattable;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
@@ -63,7 +65,26 @@ public class SyslogLayout extends AbstractStringLayout {
      */
     public String formatAs(final LogEvent event) {
         StringBuilder buf = new StringBuilder();
+        appendEvent(event, buf);
+        return buf.toString();
+    }
 
+    /**
+     * Appends the syslog representation of the LogEvent to a buffer. Subclasses get the result of
+     * {@link #formatAs(LogEvent)} so that an override of it is used for every destination.
+     * @param event The LogEvent.
+     * @param buf The buffer to append to.
+     */
+    @Override
+    public void formatTo(final LogEvent event, StringBuilder buf) {
+        if (getClass() == SyslogLayout.class) {
+            appendEvent(event, buf);
+        } else {
+            buf.append(formatAs(event));
+        }
+    }
+
+    private void appendEvent(final LogEvent event, StringBuilder buf) {
         buf.append("<");
         buf.append(Priority.getPriority(facility, event.getLevel()));
         buf.append(">");
@@ -71,11 +92,15 @@ public class SyslogLayout extends AbstractStringLayout {
         buf.append(" ");
         buf.append(localHostname);
         buf.append(" ");
-        buf.append(event.getMessage().getFormattedMessage());
+        Message msg = event.getMessage();
+        if (msg instanceof StringBuilderFormattable) {
+            ((StringBuilderFormattable) msg).formatTo(buf);
+        } else {
+            buf.append(msg.getFormattedMessage());
+        }
         if (includeNewLine) {
             buf.append("\n");
         }
-        return buf.toString();
     }
 
     /**
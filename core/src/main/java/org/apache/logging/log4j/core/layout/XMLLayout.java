@@ -91,7 +91,26 @@ public class XMLLayout extends AbstractStringLayout {
      */
     public String formatAs(final LogEvent event) {
         StringBuilder buf = new StringBuilder(DEFAULT_SIZE);
+        appendEvent(event, buf);
+        return buf.toString();
+    }
 
+    /**
+     * Appends the XML representation of the LogEvent to a buffer. The event is appended directly only
+     * when this is not a subclass, which may have overridden {@link #formatAs(LogEvent)}.
+     * @param event The LogEvent.
+     * @param buf The buffer to append to.
+     */
+    @Override
+    public void formatTo(final LogEvent event, StringBuilder buf) {
+        if (getClass() == XMLLayout.class) {
+            appendEvent(event, buf);
+        } else {
+            buf.append(formatAs(event));
+        }
+    }
+
+    private void appendEvent(final LogEvent event, StringBuilder buf) {
         // We yield to the \r\n heresy.
 
         buf.append("<log4j:event logger=\"");
@@ -157,8 +176,6 @@ public class XMLLayout extends AbstractStringLayout {
         }
 
         buf.append("</log4j:event>\r\n\r\n");
-
-        return buf.toString();
     }
 
     /**
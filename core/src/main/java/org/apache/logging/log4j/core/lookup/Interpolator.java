@@ -115,6 +115,23 @@ public class Interpolator implements StrLookup {
         return null;
     }
 
+    /**
+     * Returns the lookup registered for the specified prefix.
+     * @param prefix The variable prefix.
+     * @return The StrLookup or null if no lookup is registered for the prefix.
+     */
+    StrLookup getLookup(String prefix) {
+        return lookups.get(prefix);
+    }
+
+    /**
+     * Returns the lookup used when a variable has no prefix or the prefix lookup cannot resolve it.
+     * @return The default StrLookup.
+     */
+    StrLookup getDefaultLookup() {
+        return defaultLookup;
+    }
+
     public String toString() {
         StringBuilder sb = new StringBuilder();
         for (String name : lookups.keySet()) {
@@ -366,6 +366,15 @@ public abstract class StrMatcher {
             }
             return len;
         }
+
+        /**
+         * Returns the string this matcher looks for.
+         *
+         * @return the string to match
+         */
+        String getString() {
+            return new String(chars);
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -126,6 +126,10 @@ public class StrSubstitutor {
      * Stores the variable prefix.
      */
     private StrMatcher prefixMatcher;
+    /**
+     * The variable prefix as a String when the prefix matcher matches a fixed string, otherwise null.
+     */
+    private String prefixString;
     /**
      * Stores the variable suffix.
      */
@@ -303,6 +307,9 @@ public class StrSubstitutor {
         if (source == null) {
             return null;
         }
+        if (prefixString != null && source.indexOf(prefixString) < 0) {
+            return source;
+        }
         StringBuilder buf = new StringBuilder(source);
         if (!substitute(event, buf, 0, source.length())) {
             return source;
@@ -735,6 +742,12 @@ public class StrSubstitutor {
      * @return true if altered
      */
     protected boolean substitute(LogEvent event, StringBuilder buf, int offset, int length) {
+        if (prefixString != null) {
+            int index = buf.indexOf(prefixString, offset);
+            if (index < 0 || index + prefixString.length() > offset + length) {
+                return false;
+            }
+        }
         return substitute(event, buf, offset, length, null) > 0;
     }
 
@@ -957,6 +970,8 @@ public class StrSubstitutor {
             throw new IllegalArgumentException("Variable prefix matcher must not be null!");
         }
         this.prefixMatcher = prefixMatcher;
+        this.prefixString = prefixMatcher instanceof StrMatcher.StringMatcher ?
+            ((StrMatcher.StringMatcher) prefixMatcher).getString() : null;
         return this;
     }
 
@@ -1099,6 +1114,22 @@ public class StrSubstitutor {
         this.enableSubstitutionInVariables = enableSubstitutionInVariables;
     }
 
+    /**
+     * Parses the source string once so that it can be substituted repeatedly without
+     * scanning it again. This is intended for strings, such as a routing pattern, that are
+     * resolved against every LogEvent. The Template reflects the prefix, suffix and escape
+     * settings in effect when it is compiled.
+     *
+     * @param source the string to compile, not null
+     * @return the compiled Template
+     */
+    public Template compile(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source must not be null!");
+        }
+        return new Template(this, source);
+    }
+
     private char[] getChars(StringBuilder sb) {
         char[] chars = new char[sb.length()];
         sb.getChars(0, sb.length(), chars, 0);
@@ -1131,4 +1162,188 @@ public class StrSubstitutor {
     public String toString() {
         return "StrSubstitutor(" + variableResolver.toString() + ")";
     }
+
+    /**
+     * A source string that has been split into its literal text and variable references by
+     * {@link StrSubstitutor#compile(String)}. Each variable is bound to the StrLookup that will resolve it
+     * so that formatting only has to perform the lookups. Strings that contain no variables are returned
+     * as is.
+     */
+    public static final class Template {
+
+        private final StrSubstitutor subst;
+        private final String source;
+        private final StrLookup<?> resolver;
+        /** The literal text surrounding the variables, or null if the full substitution must be used. */
+        private final String[] literals;
+        /** The original text of each variable, used when it cannot be resolved. */
+        private final String[] texts;
+        private final Variable[] variables;
+
+        private Template(StrSubstitutor subst, String source) {
+            this.subst = subst;
+            this.source = source;
+            this.resolver = subst.getVariableResolver();
+            if (subst.getClass() != StrSubstitutor.class || subst.isEnableSubstitutionInVariables()) {
+                // Subclasses may customize the substitution and nested variables are resolved dynamically.
+                literals = null;
+                texts = null;
+                variables = null;
+                return;
+            }
+            StrMatcher prefixMatcher = subst.getVariablePrefixMatcher();
+            StrMatcher suffixMatcher = subst.getVariableSuffixMatcher();
+            char escape = subst.getEscapeChar();
+            List<String> literalList = new ArrayList<String>();
+            List<String> textList = new ArrayList<String>();
+            List<Variable> variableList = new ArrayList<Variable>();
+            StringBuilder literal = new StringBuilder();
+            char[] chars = source.toCharArray();
+            int end = chars.length;
+            int pos = 0;
+            while (pos < end) {
+                int startMatchLen = prefixMatcher.isMatch(chars, pos, 0, end);
+                if (startMatchLen == 0) {
+                    literal.append(chars[pos++]);
+                } else if (literal.length() > 0 && literal.charAt(literal.length() - 1) == escape) {
+                    // escaped, drop the escape character and treat the prefix as text
+                    literal.setCharAt(literal.length() - 1, chars[pos++]);
+                } else {
+                    int startPos = pos;
+                    pos += startMatchLen;
+                    int endMatchLen = 0;
+                    while (pos < end && (endMatchLen = suffixMatcher.isMatch(chars, pos, 0, end)) == 0) {
+                        pos++;
+                    }
+                    if (pos == end) {
+                        // no suffix, the remainder is left as it is
+                        literal.append(chars, startPos, end - startPos);
+                        break;
+                    }
+                    String varName = new String(chars, startPos + startMatchLen, pos - startPos - startMatchLen);
+                    pos += endMatchLen;
+                    literalList.add(literal.toString());
+                    literal.setLength(0);
+                    textList.add(new String(chars, startPos, pos - startPos));
+                    variableList.add(new Variable(resolver, varName));
+                }
+            }
+            // escapes are the only thing that can change a literal, reuse the source if there were none
+            literalList.add(variableList.isEmpty() && literal.length() == end ? source : literal.toString());
+            literals = literalList.toArray(new String[literalList.size()]);
+            texts = textList.toArray(new String[textList.size()]);
+            variables = variableList.toArray(new Variable[variableList.size()]);
+        }
+
+        /**
+         * Returns the source string.
+         * @return the source string.
+         */
+        public String getSource() {
+            return source;
+        }
+
+        /**
+         * Returns true if the source contains no variables, in which case formatting never
+         * performs any lookups.
+         * @return true if the result of formatting does not depend on the LogEvent.
+         */
+        public boolean isConstant() {
+            return variables != null && variables.length == 0;
+        }
+
+        /**
+         * Substitutes the variables using the specified LogEvent.
+         * @param event The current LogEvent, if there is one.
+         * @return The result of the substitution.
+         */
+        public String format(LogEvent event) {
+            if (isConstant()) {
+                return literals[0];
+            }
+            StringBuilder sb = new StringBuilder(source.length() + BUF_SIZE);
+            formatTo(event, sb);
+            return sb.toString();
+        }
+
+        /**
+         * Appends the result of substituting the variables using the specified LogEvent.
+         * @param event The current LogEvent, if there is one.
+         * @param buffer The StringBuilder to append to.
+         */
+        public void formatTo(LogEvent event, StringBuilder buffer) {
+            if (variables == null || resolver != subst.getVariableResolver()) {
+                buffer.append(subst.replace(event, source));
+                return;
+            }
+            for (int i = 0; i < variables.length; ++i) {
+                buffer.append(literals[i]);
+                String value = variables[i].resolve(event);
+                if (value == null) {
+                    buffer.append(texts[i]);
+                } else {
+                    // the value may itself contain variables
+                    buffer.append(subst.replace(event, value));
+                }
+            }
+            buffer.append(literals[variables.length]);
+        }
+
+        @Override
+        public String toString() {
+            return source;
+        }
+    }
+
+    /**
+     * A variable reference bound to the lookups that resolve it. When the resolver is an Interpolator
+     * the prefix lookup is located once instead of on every call.
+     */
+    private static final class Variable {
+        private final StrLookup<?> lookup;
+        private final String key;
+        private final StrLookup<?> defaultLookup;
+        private final String defaultKey;
+        private final boolean interpolated;
+
+        public Variable(StrLookup<?> resolver, String name) {
+            if (resolver instanceof Interpolator) {
+                Interpolator interpolator = (Interpolator) resolver;
+                int prefixPos = name.indexOf(':');
+                if (prefixPos >= 0) {
+                    this.lookup = interpolator.getLookup(name.substring(0, prefixPos));
+                    this.key = name.substring(prefixPos + 1);
+                    this.defaultKey = name.substring(prefixPos);
+                } else {
+                    this.lookup = null;
+                    this.key = null;
+                    this.defaultKey = name;
+                }
+                this.defaultLookup = interpolator.getDefaultLookup();
+                this.interpolated = true;
+            } else {
+                this.lookup = null;
+                this.key = null;
+                this.defaultLookup = resolver;
+                this.defaultKey = name;
+                this.interpolated = false;
+            }
+        }
+
+        public String resolve(LogEvent event) {
+            if (lookup != null) {
+                String value = event == null ? lookup.lookup(key) : lookup.lookup(event, key);
+                if (value != null) {
+                    return value;
+                }
+            }
+            if (defaultLookup == null) {
+                return null;
+            }
+            if (interpolated && event == null) {
+                return defaultLookup.lookup(defaultKey);
+            }
+            return defaultLookup.lookup(event, defaultKey);
+        }
+    }
 }
@@ -25,7 +25,10 @@ import java.util.TimeZone;
 
 
 /**
- * Convert and format the event's date in a StringBuffer.
+ * Convert and format the event's date in a StringBuffer. Patterns that have no field smaller than a second,
+ * other than an optional trailing "SSS", are formatted without locking: the text up to the second is cached in
+ * an immutable holder that is replaced when the second changes and the milliseconds are appended directly.
+ * All other patterns are formatted by a SimpleDateFormat while holding a lock.
  */
 @Plugin(name = "DatePatternConverter", type = "Converter")
 @ConverterKeys({"d", "date" })
@@ -57,15 +60,32 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
      * SimpleTimePattern for ISO8601.
      */
     private static final String ISO8601_PATTERN = "yyyy-MM-dd HH:mm:ss,SSS";
+
+    private static final String MILLIS_PATTERN = "SSS";
+
+    private static final int MILLIS_PER_SECOND = 1000;
+
+    private static final int TEN = 10;
+
+    private static final int HUNDRED = 100;
     /**
      * Date format.
      */
     private String cachedDate;
 
-    private long lastTimestamp;
+    private long lastTimestamp = Long.MIN_VALUE;
 
     private SimpleDateFormat simpleFormat;
 
+    /**
+     * Formats the part of the pattern up to the second or null if the pattern can't be cached per second.
+     */
+    private SimpleDateFormat secondsFormat = null;
+
+    private boolean appendMillis;
+
+    private volatile CachedSecond cachedSecond = new CachedSecond(Long.MIN_VALUE, null);
+
     /**
      * Private constructor.
      *
@@ -110,6 +130,21 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
             TimeZone tz = TimeZone.getTimeZone(options[1]);
             simpleFormat.setTimeZone(tz);
         }
+        initSecondsFormat();
+    }
+
+    /**
+     * Determine if the pattern can be cached per second. Quoted text is left to the SimpleDateFormat.
+     */
+    private void initSecondsFormat() {
+        String pattern = simpleFormat.toPattern();
+        appendMillis = pattern.endsWith(MILLIS_PATTERN);
+        String prefix = appendMillis ? pattern.substring(0, pattern.length() - MILLIS_PATTERN.length()) : pattern;
+        if (prefix.indexOf('S') >= 0 || prefix.indexOf('\'') >= 0) {
+            return;
+        }
+        secondsFormat = new SimpleDateFormat(prefix);
+        secondsFormat.setTimeZone(simpleFormat.getTimeZone());
     }
 
     /**
@@ -128,6 +163,10 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
     public void format(final LogEvent event, final StringBuilder output) {
         long timestamp = event.getMillis();
 
+        if (secondsFormat != null) {
+            formatCached(timestamp, output);
+            return;
+        }
         synchronized (this) {
             if (timestamp != lastTimestamp) {
                 lastTimestamp = timestamp;
@@ -164,13 +203,54 @@ public final class DatePatternConverter extends LogEventPatternConverter impleme
      * @param toAppendTo buffer to which formatted date is appended.
      */
     public void format(final Date date, final StringBuilder toAppendTo) {
+        if (secondsFormat != null) {
+            formatCached(date.getTime(), toAppendTo);
+            return;
+        }
         synchronized (this) {
             toAppendTo.append(simpleFormat.format(date.getTime()));
         }
     }
 
+    private void formatCached(long timestamp, StringBuilder output) {
+        long millis = timestamp % MILLIS_PER_SECOND;
+        if (millis < 0) {
+            millis += MILLIS_PER_SECOND;
+        }
+        long second = timestamp - millis;
+        CachedSecond cached = cachedSecond;
+        if (cached.second != second) {
+            String text;
+            synchronized (secondsFormat) {
+                text = secondsFormat.format(new Date(second));
+            }
+            cached = new CachedSecond(second, text);
+            cachedSecond = cached;
+        }
+        output.append(cached.text);
+        if (appendMillis) {
+            int ms = (int) millis;
+            output.append((char) ('0' + ms / HUNDRED));
+            output.append((char) ('0' + (ms / TEN) % TEN));
+            output.append((char) ('0' + ms % TEN));
+        }
+    }
+
     public String getPattern() {
         return simpleFormat.toPattern();
     }
 
+    /**
+     * The formatted text of a second. Instances are never modified so they can be shared without locking.
+     */
+    private static final class CachedSecond {
+        private final long second;
+        private final String text;
+
+        private CachedSecond(long second, String text) {
+            this.second = second;
+            this.text = text;
+        }
+    }
+
 }
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.pattern;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.impl.ThrowableProxy;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Outputs the Throwable portion of the LoggingEvent as an extended stack trace the first time a Throwable is
+ * seen within a time window. Throwables are considered the same when they have the same type and the same
+ * top stack frames. Repeats within the window are written as a one line reference to the first occurrence,
+ * i.e. "[same as #id, repeated N times]" followed by the Throwable's type and message.
+ * <p>
+ * The options are the number of stack frames to compare (default 5), the length of the window in seconds
+ * (default 60) and the maximum number of distinct Throwables to track (default 1000). Once that many are
+ * being tracked, Throwables that have not been seen are printed in full every time until the windows
+ * of the tracked ones expire.
+ */
+@Plugin(name = "DeduplicatingThrowablePatternConverter", type = "Converter")
+@ConverterKeys({"dEx", "dThrowable", "dException" })
+public final class DeduplicatingThrowablePatternConverter extends ThrowablePatternConverter {
+
+    private static final int DEFAULT_FRAMES = 5;
+    private static final int DEFAULT_WINDOW_SECONDS = 60;
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    private final int frames;
+    private final long windowMillis;
+    private final int maxEntries;
+    private final ConcurrentMap<Fingerprint, Entry> entries = new ConcurrentHashMap<Fingerprint, Entry>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Private constructor.
+     *
+     * @param options options, may be null.
+     */
+    private DeduplicatingThrowablePatternConverter(final String[] options) {
+        super("DeduplicatingThrowable", "throwable", null);
+        frames = getOption(options, 0, "frames", DEFAULT_FRAMES);
+        windowMillis = getOption(options, 1, "window", DEFAULT_WINDOW_SECONDS) * MILLIS_PER_SECOND;
+        maxEntries = getOption(options, 2, "maximum entries", DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Gets an instance of the class.
+     *
+     * @param options pattern options, may be null. The number of frames to compare, the window in seconds
+     *                and the maximum number of Throwables to track.
+     * @return instance of class.
+     */
+    public static DeduplicatingThrowablePatternConverter newInstance(final String[] options) {
+        return new DeduplicatingThrowablePatternConverter(options);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void format(final LogEvent event, final StringBuilder toAppendTo) {
+        Throwable throwable = event.getThrown();
+        if (throwable == null) {
+            return;
+        }
+        int len = toAppendTo.length();
+        if (len > 0 && !Character.isWhitespace(toAppendTo.charAt(len - 1))) {
+            toAppendTo.append(" ");
+        }
+        Entry entry = getEntry(new Fingerprint(throwable, frames), event.getMillis());
+        int repeats = entry == null ? 0 : entry.occurred(event.getMillis(), windowMillis);
+        if (repeats > 0) {
+            toAppendTo.append("[same as #").append(entry.id).append(", repeated ").append(repeats);
+            toAppendTo.append(repeats == 1 ? " time] " : " times] ").append(throwable.toString()).append("\n");
+            return;
+        }
+        if (entry != null) {
+            toAppendTo.append("[#").append(entry.id).append("] ");
+        }
+        ThrowableProxy proxy = event.getThrownProxy();
+        toAppendTo.append(proxy == null ? throwable.toString() : proxy.getExtendedStackTrace());
+    }
+
+    private Entry getEntry(Fingerprint fingerprint, long now) {
+        Entry entry = entries.get(fingerprint);
+        if (entry != null) {
+            return entry;
+        }
+        if (entries.size() >= maxEntries) {
+            purge(now);
+            if (entries.size() >= maxEntries) {
+                return null;
+            }
+        }
+        entry = new Entry(nextId.incrementAndGet(), now);
+        Entry previous = entries.putIfAbsent(fingerprint, entry);
+        return previous == null ? entry : previous;
+    }
+
+    /**
+     * Removes the Throwables whose window has expired.
+     */
+    private void purge(long now) {
+        Iterator<Entry> iter = entries.values().iterator();
+        while (iter.hasNext()) {
+            if (iter.next().isExpired(now, windowMillis)) {
+                iter.remove();
+            }
+        }
+    }
+
+    private static int getOption(String[] options, int index, String name, int defaultValue) {
+        if (options == null || options.length <= index) {
+            return defaultValue;
+        }
+        try {
+            int value = Integer.parseInt(options[index].trim());
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException ex) {
+            // Fall through to the error below.
+        }
+        LOGGER.error("Invalid " + name + " option " + options[index] + " for %dEx. Using " + defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * Identifies a Throwable by its type and its top stack frames.
+     */
+    private static final class Fingerprint {
+        private final Class<?> type;
+        private final StackTraceElement[] elements;
+        private final int hashCode;
+
+        public Fingerprint(Throwable throwable, int frames) {
+            StackTraceElement[] trace = throwable.getStackTrace();
+            this.type = throwable.getClass();
+            this.elements = new StackTraceElement[Math.min(frames, trace.length)];
+            System.arraycopy(trace, 0, elements, 0, elements.length);
+            this.hashCode = 31 * type.hashCode() + Arrays.hashCode(elements);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Fingerprint)) {
+                return false;
+            }
+            Fingerprint other = (Fingerprint) o;
+            return hashCode == other.hashCode && type == other.type && Arrays.equals(elements, other.elements);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Tracks the occurrences of a Throwable within the current window.
+     */
+    private static final class Entry {
+        private final int id;
+        private long windowStart;
+        private int repeats;
+
+        public Entry(int id, long now) {
+            this.id = id;
+            this.windowStart = now;
+            this.repeats = -1;
+        }
+
+        /**
+         * Records an occurrence.
+         * @return 0 if the stack trace should be printed, otherwise the number of repeats in the window.
+         */
+        public synchronized int occurred(long now, long windowMillis) {
+            if (now - windowStart >= windowMillis) {
+                windowStart = now;
+                repeats = 0;
+            } else {
+                ++repeats;
+            }
+            return repeats;
+        }
+
+        public synchronized boolean isExpired(long now, long windowMillis) {
+            return now - windowStart >= windowMillis;
+        }
+    }
+}
@@ -56,13 +56,8 @@ public final class ExtendedThrowablePatternConverter extends ThrowablePatternCon
      * {@inheritDoc}
      */
     public void format(final LogEvent event, final StringBuilder toAppendTo) {
-        Throwable throwable = event.getThrown();
-        if (throwable != null) {
-            if (!(throwable instanceof ThrowableProxy)) {
-                super.format(event, toAppendTo);
-                return;
-            }
-            ThrowableProxy t = (ThrowableProxy) throwable;
+        ThrowableProxy t = event.getThrownProxy();
+        if (t != null) {
             String trace = t.getExtendedStackTrace();
             int len = toAppendTo.length();
             if (len > 0 && !Character.isWhitespace(toAppendTo.charAt(len - 1))) {
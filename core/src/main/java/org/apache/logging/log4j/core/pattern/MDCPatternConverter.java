@@ -18,6 +18,7 @@ package org.apache.logging.log4j.core.pattern;
 
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.spi.SortedArrayStringMap;
 
 import java.util.Map;
 import java.util.Set;
@@ -72,6 +73,10 @@ public final class MDCPatternConverter extends LogEventPatternConverter {
                 toAppendTo.append("{}");
                 return;
             }
+            if (contextMap instanceof SortedArrayStringMap) {
+                formatSorted((SortedArrayStringMap) contextMap, toAppendTo);
+                return;
+            }
             StringBuilder sb = new StringBuilder("{");
             Set<String> keys = new TreeSet<String>(contextMap.keySet());
             for (String key : keys) {
@@ -92,4 +97,18 @@ public final class MDCPatternConverter extends LogEventPatternConverter {
             }
         }
     }
+
+    /**
+     * The entries are already in key order so they can be appended directly.
+     */
+    private static void formatSorted(SortedArrayStringMap contextMap, StringBuilder toAppendTo) {
+        toAppendTo.append('{');
+        for (int i = 0; i < contextMap.size(); ++i) {
+            if (i > 0) {
+                toAppendTo.append(", ");
+            }
+            toAppendTo.append(contextMap.getKeyAt(i)).append('=').append(contextMap.getValueAt(i));
+        }
+        toAppendTo.append('}');
+    }
 }
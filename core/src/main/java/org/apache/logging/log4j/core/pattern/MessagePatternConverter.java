@@ -20,6 +20,7 @@ import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.message.MultiformatMessage;
 import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.StringBuilderFormattable;
 
 /**
  * Return the event's rendered message in a StringBuffer.
@@ -55,7 +56,11 @@ public final class MessagePatternConverter extends LogEventPatternConverter {
     public void format(final LogEvent event, final StringBuilder toAppendTo) {
         Message msg = event.getMessage();
         if (msg != null) {
-            if (msg instanceof MultiformatMessage) {
+            if (formats != null && msg instanceof MultiformatMessage) {
+                toAppendTo.append(((MultiformatMessage) msg).getFormattedMessage(formats));
+            } else if (msg instanceof StringBuilderFormattable) {
+                ((StringBuilderFormattable) msg).formatTo(toAppendTo);
+            } else if (msg instanceof MultiformatMessage) {
                 toAppendTo.append(((MultiformatMessage) msg).getFormattedMessage(formats));
             } else {
                 toAppendTo.append(msg.getFormattedMessage());
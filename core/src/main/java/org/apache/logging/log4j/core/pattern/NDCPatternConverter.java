@@ -19,6 +19,8 @@ package org.apache.logging.log4j.core.pattern;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.config.plugins.Plugin;
 
+import java.util.Stack;
+
 
 /**
  * Return the event's NDC in a StringBuffer.
@@ -52,6 +54,19 @@ public final class NDCPatternConverter extends LogEventPatternConverter {
    * {@inheritDoc}
    */
   public void format(final LogEvent event, final StringBuilder toAppendTo) {
-    toAppendTo.append(event.getContextStack());
+    Stack<String> stack = event.getContextStack();
+    if (stack == null) {
+      toAppendTo.append(stack);
+      return;
+    }
+    // Same format as Stack.toString() without an iterator or an intermediate String.
+    toAppendTo.append('[');
+    for (int i = 0; i < stack.size(); ++i) {
+      if (i > 0) {
+        toAppendTo.append(", ");
+      }
+      toAppendTo.append(stack.get(i));
+    }
+    toAppendTo.append(']');
   }
 }
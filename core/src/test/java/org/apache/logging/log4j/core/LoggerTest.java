@@ -22,6 +22,7 @@ import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.test.appender.ListAppender;
 import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.XMLConfigurationFactory;
+import org.apache.logging.log4j.core.filter.ThresholdFilter;
 import org.apache.logging.log4j.status.StatusLogger;
 import org.apache.logging.log4j.message.StructuredDataMessage;
 import org.junit.AfterClass;
@@ -33,6 +34,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -156,5 +158,18 @@ public class LoggerTest {
         assertTrue("Incorrect number of events. Expected 1, actual " + events.size(), events.size() == 1);
         app.clear();
     }
-}
 
+    @Test
+    public void globalFilterChanges() {
+        assertTrue(logger.isDebugEnabled());
+        Filter filter = ThresholdFilter.createFilter("error", "neutral", "deny");
+        config.addFilter(filter);
+        try {
+            assertFalse("Added Filter was ignored", logger.isDebugEnabled());
+            assertTrue(logger.isErrorEnabled());
+        } finally {
+            config.removeFilter(filter);
+        }
+        assertTrue("Removed Filter is still applied", logger.isDebugEnabled());
+    }
+}
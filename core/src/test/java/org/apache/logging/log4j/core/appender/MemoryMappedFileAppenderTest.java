@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class MemoryMappedFileAppenderTest {
+
+    private static final String FILENAME = "target/memoryMappedFileAppenderTest.log";
+    private static final String REGION_LENGTH = "1024";
+
+    @BeforeClass
+    public static void setupClass() {
+        deleteFile();
+    }
+
+    @AfterClass
+    public static void cleanupClass() {
+        deleteFile();
+        assertTrue("Manager for " + FILENAME + " not removed", !OutputStreamManager.hasManager(FILENAME));
+    }
+
+    @After
+    public void teardown() {
+        deleteFile();
+    }
+
+    @Test
+    public void testRemapAndTruncate() throws Exception {
+        writer("true", 200);
+        verifyFile(200, 200);
+    }
+
+    @Test
+    public void testAppend() throws Exception {
+        writer("true", 10);
+        writer("true", 10);
+        verifyFile(20, 10);
+        writer("false", 5);
+        verifyFile(5, 5);
+    }
+
+    private static void writer(String append, int count) throws Exception {
+        Layout layout = PatternLayout.createLayout("%m%n", null, null, null);
+        MemoryMappedFileAppender app = MemoryMappedFileAppender.createAppender(FILENAME, append, "test",
+            REGION_LENGTH, "10", "false", layout, null);
+        assertNotNull("Appender was not created", app);
+        app.start();
+        assertTrue("Appender did not start", app.isStarted());
+        for (int i = 0; i < count; ++i) {
+            LogEvent event = new Log4jLogEvent("TestLogger", null, MemoryMappedFileAppenderTest.class.getName(),
+                Level.INFO, new SimpleMessage("Test message " + i), null);
+            app.append(event);
+        }
+        app.stop();
+        assertFalse("Appender did not stop", app.isStarted());
+    }
+
+    private void verifyFile(int count, int perWriter) throws Exception {
+        File file = new File(FILENAME);
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        long length = 0;
+        int counter = 0;
+        String line;
+        try {
+            while ((line = reader.readLine()) != null) {
+                assertEquals("Bad data", "Test message " + (counter % perWriter), line);
+                length += line.length() + System.getProperty("line.separator").length();
+                ++counter;
+            }
+        } finally {
+            reader.close();
+        }
+        assertEquals("Incorrect count", count, counter);
+        assertEquals("File was not truncated", length, file.length());
+    }
+
+    private static void deleteFile() {
+        File file = new File(FILENAME);
+        if (file.exists()) {
+            assertTrue(file.delete());
+        }
+    }
+}
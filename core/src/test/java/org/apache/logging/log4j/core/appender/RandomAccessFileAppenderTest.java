@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class RandomAccessFileAppenderTest {
+
+    private static final String FILENAME = "target/randomAccessFileAppenderTest.log";
+    private static final int THREADS = 8;
+    private static final int COUNT = 500;
+
+    @BeforeClass
+    public static void setupClass() {
+        deleteFile();
+    }
+
+    @AfterClass
+    public static void cleanupClass() {
+        deleteFile();
+        assertTrue("Manager for " + FILENAME + " not removed", !OutputStreamManager.hasManager(FILENAME));
+    }
+
+    @After
+    public void teardown() {
+        deleteFile();
+    }
+
+    @Test
+    public void testBufferFull() throws Exception {
+        RandomAccessFileAppender app = createAppender("true", "false", "64", null);
+        write(app, 100);
+        app.stop();
+        assertFalse("Appender did not stop", app.isStarted());
+        assertEquals("Incorrect count", 100, verifyFile());
+    }
+
+    @Test
+    public void testAppend() throws Exception {
+        RandomAccessFileAppender app = createAppender("true", "false", null, null);
+        write(app, 10);
+        app.stop();
+        app = createAppender("true", "true", null, null);
+        write(app, 10);
+        app.stop();
+        assertEquals("Incorrect count", 20, verifyFile());
+        app = createAppender("false", "true", null, null);
+        write(app, 5);
+        app.stop();
+        assertEquals("Incorrect count", 5, verifyFile());
+    }
+
+    @Test
+    public void testFlushInterval() throws Exception {
+        RandomAccessFileAppender app = createAppender("true", "false", null, "200");
+        write(app, 10);
+        assertEquals("Events written before the buffer was flushed", 0, new File(FILENAME).length());
+        int count = 0;
+        for (int i = 0; i < 100 && count < 10; ++i) {
+            Thread.sleep(20);
+            count = verifyFile();
+        }
+        assertEquals("Buffer was not flushed", 10, count);
+        app.stop();
+    }
+
+    @Test
+    public void testMultipleThreads() throws Exception {
+        final RandomAccessFileAppender app = createAppender("true", "false", "1024", null);
+        Thread[] threads = new Thread[THREADS];
+        for (int i = 0; i < THREADS; ++i) {
+            threads[i] = new Thread(new Runnable() {
+                public void run() {
+                    write(app, COUNT);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        app.stop();
+        assertEquals("Incorrect count", THREADS * COUNT, verifyFile());
+    }
+
+    @Test
+    public void testEndOfBatch() throws Exception {
+        RandomAccessFileAppender app = createAppender("true", "false", null, null);
+        write(app, 10);
+        assertEquals("Events written before the end of the batch", 0, new File(FILENAME).length());
+        LogEvent event = new Log4jLogEvent("TestLogger", null, RandomAccessFileAppenderTest.class.getName(),
+            Level.INFO, new SimpleMessage("Test message 10"), null);
+        event.setEndOfBatch(true);
+        app.append(event);
+        assertEquals("Buffer was not flushed at the end of the batch", 11, verifyFile());
+        app.stop();
+    }
+
+    private static RandomAccessFileAppender createAppender(String append, String immediateFlush, String bufferSize,
+                                                           String flushInterval) {
+        Layout layout = PatternLayout.createLayout("%m%n", null, null, null);
+        RandomAccessFileAppender app = RandomAccessFileAppender.createAppender(FILENAME, append, "test",
+            immediateFlush, bufferSize, flushInterval, "false", layout, null);
+        assertNotNull("Appender was not created", app);
+        app.start();
+        assertTrue("Appender did not start", app.isStarted());
+        return app;
+    }
+
+    private static void write(RandomAccessFileAppender app, int count) {
+        for (int i = 0; i < count; ++i) {
+            LogEvent event = new Log4jLogEvent("TestLogger", null, RandomAccessFileAppenderTest.class.getName(),
+                Level.INFO, new SimpleMessage("Test message " + i), null);
+            app.append(event);
+        }
+    }
+
+    private int verifyFile() throws Exception {
+        BufferedReader reader = new BufferedReader(new FileReader(FILENAME));
+        int counter = 0;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                assertTrue("Bad data: " + line, line.matches("Test message \\d+"));
+                ++counter;
+            }
+        } finally {
+            reader.close();
+        }
+        return counter;
+    }
+
+    private static void deleteFile() {
+        File file = new File(FILENAME);
+        if (file.exists()) {
+            assertTrue(file.delete());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.appender;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.XMLConfigurationFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.test.appender.ListAppender;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class RingBufferAppenderTest {
+    private static final String CONFIG = "log4j-ringbuffer.xml";
+    private static final int THREADS = 4;
+    private static final int COUNT = 1000;
+    private static Configuration config;
+    private static ListAppender app;
+    private static ListAppender eventApp;
+    private static LoggerContext ctx;
+
+    @BeforeClass
+    public static void setupClass() {
+        System.setProperty(XMLConfigurationFactory.CONFIGURATION_FILE_PROPERTY, CONFIG);
+        ctx = (LoggerContext) LogManager.getContext(false);
+        config = ctx.getConfiguration();
+        for (Map.Entry<String, Appender> entry : config.getAppenders().entrySet()) {
+            if (entry.getKey().equals("List")) {
+                app = (ListAppender) entry.getValue();
+            } else if (entry.getKey().equals("Events")) {
+                eventApp = (ListAppender) entry.getValue();
+            }
+        }
+    }
+
+    @AfterClass
+    public static void cleanupClass() {
+        System.clearProperty(XMLConfigurationFactory.CONFIGURATION_FILE_PROPERTY);
+        ctx.reconfigure();
+        StatusLogger.getLogger().reset();
+    }
+
+    @After
+    public void tearDown() {
+        app.clear();
+        eventApp.clear();
+    }
+
+    @Test
+    public void locationTest() throws Exception {
+        Logger logger = LogManager.getLogger(RingBufferAppender.class);
+        logger.error("This is a test");
+        logger.warn("Hello world!");
+        List<String> list = waitForMessages(2);
+        assertNotNull("No events generated", list);
+        assertTrue("Incorrect number of events. Expected 2, got " + list.size(), list.size() == 2);
+        String msg = list.get(0);
+        String expected = RingBufferAppenderTest.class.getName() + " locationTest This is a test";
+        assertTrue("Expected " + expected + ", Actual " + msg, expected.equals(msg));
+        msg = list.get(1);
+        expected = RingBufferAppenderTest.class.getName() + " locationTest Hello world!";
+        assertTrue("Expected " + expected + ", Actual " + msg, expected.equals(msg));
+    }
+
+    @Test
+    public void multipleProducersTest() throws Exception {
+        final Logger logger = LogManager.getLogger(RingBufferAppender.class);
+        Thread[] threads = new Thread[THREADS];
+        for (int i = 0; i < THREADS; ++i) {
+            final String prefix = "T" + i + "-";
+            threads[i] = new Thread(new Runnable() {
+                public void run() {
+                    for (int j = 0; j < COUNT; ++j) {
+                        logger.info(prefix + j);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        List<String> list = waitForMessages(THREADS * COUNT);
+        assertEquals("Incorrect number of events", THREADS * COUNT, list.size());
+        int[] next = new int[THREADS];
+        for (String msg : list) {
+            String text = msg.substring(msg.lastIndexOf(' ') + 1);
+            int thread = Integer.parseInt(text.substring(1, text.indexOf('-')));
+            int seq = Integer.parseInt(text.substring(text.indexOf('-') + 1));
+            assertEquals("Events from thread " + thread + " are out of order", next[thread], seq);
+            ++next[thread];
+        }
+    }
+
+    @Test
+    public void callerEventIsNotMarkedTest() throws Exception {
+        Appender ringBuffer = config.getAppenders().get("RingBuffer");
+        LogEvent event = new Log4jLogEvent(RingBufferAppenderTest.class.getName(), null,
+            RingBufferAppenderTest.class.getName(), Level.INFO, new SimpleMessage("Shared"), null);
+        ringBuffer.append(event);
+        List<LogEvent> events = eventApp.getEvents();
+        for (int i = 0; i < 100 && events.size() < 1; ++i) {
+            Thread.sleep(50);
+            events = eventApp.getEvents();
+        }
+        assertEquals("Incorrect number of events", 1, events.size());
+        assertNotSame(event, events.get(0));
+        assertTrue("Copy was not marked as the end of the batch", events.get(0).isEndOfBatch());
+        assertFalse("Caller's event was changed", event.isEndOfBatch());
+    }
+
+    private List<String> waitForMessages(int count) throws InterruptedException {
+        List<String> list = app.getMessages();
+        for (int i = 0; i < 100 && list.size() < count; ++i) {
+            Thread.sleep(50);
+            list = app.getMessages();
+        }
+        return list;
+    }
+}
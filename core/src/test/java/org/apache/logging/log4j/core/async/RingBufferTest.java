@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.async;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class RingBufferTest {
+
+    private static RingBuffer<Holder> createRingBuffer(int size) {
+        return new RingBuffer<Holder>(size, WaitStrategy.PARK, new RingBuffer.Factory<Holder>() {
+            public Holder newInstance() {
+                return new Holder();
+            }
+        });
+    }
+
+    @Test
+    public void testNoSequenceIsClaimedAfterAlert() {
+        RingBuffer<Holder> ringBuffer = createRingBuffer(4);
+        assertEquals(0, ringBuffer.tryNext());
+        ringBuffer.alert();
+        assertEquals(-1, ringBuffer.tryNext());
+        assertEquals(-1, ringBuffer.next());
+        assertEquals(0, ringBuffer.getCursor());
+    }
+
+    @Test(timeout = 5000)
+    public void testBlockedProducerGivesUpOnAlert() throws Exception {
+        final RingBuffer<Holder> ringBuffer = createRingBuffer(2);
+        ringBuffer.publish(ringBuffer.next());
+        ringBuffer.publish(ringBuffer.next());
+        final long[] result = new long[] {0};
+        Thread producer = new Thread() {
+            @Override
+            public void run() {
+                result[0] = ringBuffer.next();
+            }
+        };
+        producer.start();
+        Thread.sleep(100);
+        assertTrue("Producer did not wait for a free slot", producer.isAlive());
+        ringBuffer.alert();
+        producer.join();
+        assertEquals(-1, result[0]);
+    }
+
+    @Test(timeout = 5000)
+    public void testShutdownWaitsForClaimedSequences() throws Exception {
+        RingBuffer<Holder> ringBuffer = createRingBuffer(8);
+        final List<String> values = new ArrayList<String>();
+        RingBufferProcessor<Holder> processor = new RingBufferProcessor<Holder>("RingBufferTest", ringBuffer,
+            new EventHandler<Holder>() {
+                public void onEvent(Holder holder, long sequence, boolean endOfBatch) {
+                    if (holder.value != null) {
+                        values.add(holder.value);
+                        holder.value = null;
+                    }
+                }
+            });
+        processor.start();
+        long first = ringBuffer.next();
+        long second = ringBuffer.next();
+        ringBuffer.get(second).value = "second";
+        ringBuffer.publish(second);
+        processor.shutdown();
+        Thread.sleep(50);
+        assertTrue("Processor stopped before all claimed sequences were published", processor.isAlive());
+        ringBuffer.get(first).value = "first";
+        ringBuffer.publish(first);
+        processor.join();
+        assertEquals(2, values.size());
+        assertEquals("first", values.get(0));
+        assertEquals("second", values.get(1));
+    }
+
+    private static class Holder {
+        private String value;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.MessageSupplier;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.status.StatusLogger;
+import org.apache.logging.log4j.test.appender.ListAppender;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class AsyncLoggerConfigTest {
+    private static final String CONFIG = "log4j-asynclogger.xml";
+    private static Configuration config;
+    private static ListAppender app;
+    private static LoggerContext ctx;
+
+    @BeforeClass
+    public static void setupClass() {
+        System.setProperty(XMLConfigurationFactory.CONFIGURATION_FILE_PROPERTY, CONFIG);
+        ctx = (LoggerContext) LogManager.getContext(false);
+        findAppender();
+    }
+
+    private static void findAppender() {
+        config = ctx.getConfiguration();
+        for (Map.Entry<String, Appender> entry : config.getAppenders().entrySet()) {
+            if (entry.getKey().equals("List")) {
+                app = (ListAppender) entry.getValue();
+                break;
+            }
+        }
+    }
+
+    @AfterClass
+    public static void cleanupClass() {
+        System.clearProperty(XMLConfigurationFactory.CONFIGURATION_FILE_PROPERTY);
+        ctx.reconfigure();
+        StatusLogger.getLogger().reset();
+    }
+
+    @After
+    public void tearDown() {
+        app.clear();
+        ThreadContext.clear();
+    }
+
+    @Test
+    public void testConfig() {
+        assertTrue("Logger is not asynchronous",
+            config.getLoggerConfig(AsyncLoggerConfigTest.class.getName()) instanceof AsyncLoggerConfig);
+        assertTrue("Root is not asynchronous", config.getLoggerConfig("") instanceof AsyncLoggerConfig);
+    }
+
+    @Test
+    public void callerStateTest() throws Exception {
+        Logger logger = LogManager.getLogger(AsyncLoggerConfigTest.class);
+        ThreadContext.put("user", "alice");
+        logger.info("This is a test");
+        ThreadContext.put("user", "bob");
+        logger.debug("Hello world!");
+        List<String> list = waitForMessages(2);
+        assertEquals("Incorrect number of events", 2, list.size());
+        String prefix = Thread.currentThread().getName() + " ";
+        String expected = prefix + "alice " + AsyncLoggerConfigTest.class.getName() + " callerStateTest This is a test";
+        assertEquals(expected, list.get(0));
+        expected = prefix + "bob " + AsyncLoggerConfigTest.class.getName() + " callerStateTest Hello world!";
+        assertEquals(expected, list.get(1));
+    }
+
+    @Test
+    public void stopDrainsEventsTest() throws Exception {
+        Logger logger = LogManager.getLogger(AsyncLoggerConfigTest.class);
+        int count = 1000;
+        for (int i = 0; i < count; ++i) {
+            logger.info("Message " + i);
+        }
+        AsyncLoggerConfigHelper helper = AsyncLoggerConfigHelper.getHelper(config);
+        helper.stop();
+        assertFalse("Helper is still running", helper.isStarted());
+        assertEquals("Events were lost", count, app.getMessages().size());
+        logger.info("After stop");
+        assertEquals("Event was not logged synchronously", count + 1, app.getMessages().size());
+    }
+
+    @Test
+    public void supplierTest() throws Exception {
+        Logger logger = LogManager.getLogger(AsyncLoggerConfigTest.class);
+        final List<String> callers = new CopyOnWriteArrayList<String>();
+        MessageSupplier supplier = new MessageSupplier() {
+            public Message get() {
+                callers.add(Thread.currentThread().getName());
+                return new ParameterizedMessage("Supplied {}", "message");
+            }
+        };
+        if (!AsyncLoggerConfigHelper.getHelper(config).isStarted()) {
+            // stopDrainsEventsTest stops the background thread for good
+            ctx.reconfigure();
+            findAppender();
+        }
+        logger.trace(supplier);
+        logger.debug(supplier);
+        List<String> list = waitForMessages(1);
+        assertEquals("Incorrect number of events", 1, list.size());
+        assertTrue("Unexpected message " + list.get(0), list.get(0).endsWith(" supplierTest Supplied message"));
+        assertEquals("Supplier should only be called for the enabled event", 1, callers.size());
+        assertFalse("Supplier was called on the logging thread",
+            Thread.currentThread().getName().equals(callers.get(0)));
+    }
+
+    private List<String> waitForMessages(int count) throws InterruptedException {
+        List<String> list = app.getMessages();
+        for (int i = 0; i < 100 && list.size() < count; ++i) {
+            Thread.sleep(50);
+            list = app.getMessages();
+        }
+        return list;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ */
+public class FileConfigurationMonitorTest {
+
+    private static final String FILE_NAME = "target/test-classes/monitor-test.xml";
+
+    private static void write(File file, String text) throws Exception {
+        FileOutputStream os = new FileOutputStream(file);
+        try {
+            os.write(text.getBytes());
+        } finally {
+            os.close();
+        }
+    }
+
+    @Test
+    public void testBurstOfChanges() throws Exception {
+        final File file = new File(FILE_NAME);
+        write(file, "<configuration/>");
+        file.setLastModified(System.currentTimeMillis() - 120000);
+        final AtomicInteger count = new AtomicInteger();
+        List<ConfigurationListener> listeners = new ArrayList<ConfigurationListener>();
+        listeners.add(new ConfigurationListener() {
+            public void onChange(Reconfigurable reconfigurable) {
+                count.incrementAndGet();
+            }
+        });
+        FileConfigurationMonitor monitor = new FileConfigurationMonitor(null, file, listeners, 5);
+        monitor.start();
+        try {
+            // Keep writing while the first check runs so the quiet period is needed to settle the changes.
+            Thread.sleep(4700);
+            for (int i = 0; i < 6; ++i) {
+                write(file, "<configuration status=\"debug\"/>".substring(0, 16 + i * 3));
+                Thread.sleep(150);
+            }
+            for (int i = 0; i < 100 && count.get() == 0; ++i) {
+                Thread.sleep(100);
+            }
+            Thread.sleep(1000);
+            assertEquals("Incorrect number of reconfigurations", 1, count.get());
+        } finally {
+            monitor.stop();
+            file.delete();
+        }
+    }
+}
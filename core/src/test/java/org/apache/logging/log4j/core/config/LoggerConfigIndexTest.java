@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import org.apache.logging.log4j.Level;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertSame;
+
+/**
+ *
+ */
+public class LoggerConfigIndexTest {
+
+    private static LoggerConfig create(Map<String, LoggerConfig> map, String name) {
+        LoggerConfig config = new LoggerConfig(name, Level.ERROR, true);
+        map.put(name, config);
+        return config;
+    }
+
+    @Test
+    public void testNearestAncestor() {
+        Map<String, LoggerConfig> map = new HashMap<String, LoggerConfig>();
+        LoggerConfig root = new LoggerConfig();
+        LoggerConfig org = create(map, "org");
+        LoggerConfig apache = create(map, "org.apache");
+        LoggerConfig log4j = create(map, "org.apache.logging.log4j");
+        LoggerConfig logback = create(map, "org.apache.logging.logback");
+        LoggerConfig com = create(map, "com.foo");
+        LoggerConfigIndex index = new LoggerConfigIndex(map, root);
+
+        assertSame(org, index.get("org"));
+        assertSame(org, index.get("org.slf4j.Logger"));
+        assertSame(apache, index.get("org.apache"));
+        assertSame(apache, index.get("org.apache.logging"));
+        assertSame(apache, index.get("org.apache.logging.log"));
+        assertSame(apache, index.get("org.apache.logging.log4jx"));
+        assertSame(log4j, index.get("org.apache.logging.log4j"));
+        assertSame(log4j, index.get("org.apache.logging.log4j.core.Logger"));
+        assertSame(logback, index.get("org.apache.logging.logback.Test"));
+        assertSame(com, index.get("com.foo.Bar"));
+        assertSame(root, index.get("com"));
+        assertSame(root, index.get("com.foobar"));
+        assertSame(root, index.get("organization"));
+        assertSame(root, index.get("or"));
+        assertSame(root, index.get(""));
+    }
+
+    @Test
+    public void testEmptyName() {
+        Map<String, LoggerConfig> map = new HashMap<String, LoggerConfig>();
+        LoggerConfig root = new LoggerConfig();
+        LoggerConfig empty = create(map, "");
+        LoggerConfig test = create(map, "test");
+        LoggerConfigIndex index = new LoggerConfigIndex(map, root);
+
+        assertSame(empty, index.get(""));
+        assertSame(empty, index.get("other.Logger"));
+        assertSame(test, index.get("test.Logger"));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.filter.ThresholdFilter;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.test.appender.ListAppender;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ *
+ */
+public class LoggerConfigTest {
+
+    private ListAppender rootApp;
+    private ListAppender parentApp;
+    private ListAppender childApp;
+    private LoggerConfig root;
+    private LoggerConfig parent;
+    private LoggerConfig child;
+
+    @Before
+    public void setUp() {
+        rootApp = new ListAppender("Root");
+        parentApp = new ListAppender("Parent");
+        childApp = new ListAppender("Child");
+        rootApp.start();
+        parentApp.start();
+        childApp.start();
+        root = new LoggerConfig();
+        parent = new LoggerConfig("a", Level.DEBUG, true);
+        child = new LoggerConfig("a.b", Level.DEBUG, true);
+        parent.setParent(root);
+        child.setParent(parent);
+        root.addAppender(rootApp, null, null);
+        parent.addAppender(parentApp, null, null);
+        child.addAppender(childApp, null, null);
+    }
+
+    private static LogEvent createEvent(Level level) {
+        return new Log4jLogEvent("a.b", null, LoggerConfigTest.class.getName(), level, new SimpleMessage("Test"),
+            null);
+    }
+
+    @Test
+    public void testAdditivity() {
+        child.log(createEvent(Level.INFO));
+        assertEquals(1, childApp.getEvents().size());
+        assertEquals(1, parentApp.getEvents().size());
+        assertEquals(1, rootApp.getEvents().size());
+
+        parent.setAdditive(false);
+        child.log(createEvent(Level.INFO));
+        assertEquals(2, childApp.getEvents().size());
+        assertEquals(2, parentApp.getEvents().size());
+        assertEquals(1, rootApp.getEvents().size());
+    }
+
+    @Test
+    public void testFilterStopsDispatch() {
+        parent.addFilter(ThresholdFilter.createFilter("WARN", null, null));
+        child.log(createEvent(Level.INFO));
+        assertEquals(1, childApp.getEvents().size());
+        assertEquals(0, parentApp.getEvents().size());
+        assertEquals(0, rootApp.getEvents().size());
+
+        child.log(createEvent(Level.ERROR));
+        assertEquals(2, childApp.getEvents().size());
+        assertEquals(1, parentApp.getEvents().size());
+        assertEquals(1, rootApp.getEvents().size());
+    }
+
+    @Test
+    public void testAppenderChanges() {
+        child.log(createEvent(Level.INFO));
+        ListAppender extra = new ListAppender("Extra");
+        extra.start();
+        root.addAppender(extra, null, null);
+        parent.removeAppender("Parent");
+        child.log(createEvent(Level.INFO));
+        assertEquals(2, childApp.getEvents().size());
+        assertEquals(1, parentApp.getEvents().size());
+        assertEquals(2, rootApp.getEvents().size());
+        assertEquals(1, extra.getEvents().size());
+    }
+
+    @Test
+    public void testChangesInOtherConfigurationsKeepTheDispatch() throws Exception {
+        DefaultConfiguration first = new DefaultConfiguration();
+        DefaultConfiguration second = new DefaultConfiguration();
+        first.start();
+        second.start();
+        try {
+            LoggerConfig firstRoot = first.getRootLogger();
+            LoggerConfig secondRoot = second.getRootLogger();
+            firstRoot.log(createEvent(Level.ERROR));
+            Object dispatch = getDispatch(firstRoot);
+            secondRoot.setAdditive(false);
+            secondRoot.addAppender(rootApp, null, null);
+            firstRoot.log(createEvent(Level.ERROR));
+            assertSame("Dispatch was rebuilt for a change to another Configuration", dispatch,
+                getDispatch(firstRoot));
+            firstRoot.setAdditive(false);
+            firstRoot.log(createEvent(Level.ERROR));
+            assertNotSame(dispatch, getDispatch(firstRoot));
+        } finally {
+            first.stop();
+            second.stop();
+        }
+    }
+
+    private static Object getDispatch(LoggerConfig config) throws Exception {
+        Field field = LoggerConfig.class.getDeclaredField("dispatch");
+        field.setAccessible(true);
+        return field.get(config);
+    }
+}
@@ -73,6 +73,17 @@ public class TestConfigurator {
             config.getName(), DefaultConfiguration.DEFAULT_NAME.equals(config.getName()));
     }
 
+    @Test
+    public void testMissingAppenderRefIsSkipped() throws Exception {
+        LoggerContext ctx = Configurator.initialize("Test1", null, "log4j-missingref.xml");
+        Configuration config = ctx.getConfiguration();
+        assertEquals("MissingRefTest", config.getName());
+        LoggerConfig lc = config.getLoggerConfig("org.apache.test");
+        assertEquals(1, lc.getAppenderRefs().size());
+        assertTrue("Wrong appenders", lc.getAppenders().containsKey("List"));
+        Configurator.shutdown(ctx);
+    }
+
     @Test
     public void testByName() throws Exception {
         LoggerContext ctx = Configurator.initialize("-config", null, (String) null);
@@ -106,10 +117,12 @@ public class TestConfigurator {
 
         Thread.sleep(500);
         file.setLastModified(System.currentTimeMillis());
-        for (int i = 0; i < 17; ++i) {
-            logger.debug("Test message " + i);
-        }
+        logger.debug("Test message");
         Configuration newConfig = ctx.getConfiguration();
+        for (int i = 0; i < 100 && newConfig == config; ++i) {
+            Thread.sleep(100);
+            newConfig = ctx.getConfiguration();
+        }
         assertTrue("Configuration not reset", newConfig != config);
         Configurator.shutdown(ctx);
         config = ctx.getConfiguration();
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.config.plugins;
+
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.appender.ConsoleAppender;
+import org.apache.logging.log4j.test.appender.ListAppender;
+import org.junit.Test;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class PluginManagerTest {
+
+    @Test
+    public void testPluginsAreLoadedFromIndexes() {
+        PluginManager manager = new PluginManager("Core");
+        manager.collectPlugins();
+        // Log4j's own index.
+        PluginType console = manager.getPluginType("Console");
+        assertNotNull("Console plugin not found", console);
+        assertEquals(ConsoleAppender.class, console.getPluginClass());
+        // The index generated by the PluginProcessor when the tests were compiled.
+        PluginType list = manager.getPluginType("List");
+        assertNotNull("List plugin not found", list);
+        assertEquals(ListAppender.class, list.getPluginClass());
+        assertEquals("appender", list.getElementName());
+        assertTrue(list.isObjectPrintable());
+    }
+
+    @Test
+    public void testFactoryMethodIsResolvedOnce() {
+        PluginManager manager = new PluginManager("Core");
+        manager.collectPlugins();
+        PluginType console = manager.getPluginType("Console");
+        PluginFactoryMethod factory = console.getFactoryMethod();
+        assertNotNull(factory);
+        assertSame(factory, console.getFactoryMethod());
+        assertTrue(factory.isStatic());
+        PluginFactoryMethod.Parameter[] parameters = factory.getParameters();
+        assertEquals(5, parameters.length);
+        assertEquals(PluginFactoryMethod.Binding.ELEMENT, parameters[0].getBinding());
+        assertEquals("layout", parameters[0].getName());
+        assertEquals(Layout.class, parameters[0].getType());
+        assertEquals(PluginFactoryMethod.Binding.ATTRIBUTE, parameters[3].getBinding());
+        assertEquals("name", parameters[3].getName());
+    }
+
+    @Test
+    public void testUnloadableIndexEntryIsSkipped() throws Exception {
+        File dir = new File("target/test-classes/plugin-index");
+        File index = new File(dir, PluginManager.PATH + PluginManager.FILENAME);
+        index.getParentFile().mkdirs();
+        DataOutputStream dos = new DataOutputStream(new FileOutputStream(index));
+        dos.writeInt(1);
+        dos.writeUTF("IndexTest");
+        dos.writeInt(2);
+        writeEntry(dos, "missing", "org.example.DoesNotExist");
+        writeEntry(dos, "list", ListAppender.class.getName());
+        dos.close();
+        ClassLoader loader = new URLClassLoader(new URL[] {dir.toURI().toURL()}, getClass().getClassLoader());
+        ConcurrentMap<String, ConcurrentMap<String, PluginType>> map = PluginManager.decode(loader);
+        assertNotNull("No plugins were decoded", map);
+        Map<String, PluginType> types = map.get("IndexTest");
+        assertNotNull("Index was not read", types);
+        assertNull(types.get("missing"));
+        assertEquals(ListAppender.class, types.get("list").getPluginClass());
+        assertNotNull("Other indexes were not read", map.get("Core").get("console"));
+    }
+
+    private static void writeEntry(DataOutputStream dos, String key, String className) throws Exception {
+        dos.writeUTF(key);
+        dos.writeUTF(className);
+        dos.writeUTF(key);
+        dos.writeBoolean(false);
+        dos.writeBoolean(false);
+    }
+}
@@ -40,8 +40,8 @@ public class DynamicThresholdFilterTest {
         DynamicThresholdFilter filter = DynamicThresholdFilter.createFilter("userid", pairs, "ERROR", null, null);
         filter.start();
         assertTrue(filter.isStarted());
-        assertTrue(filter.filter(null, Level.DEBUG, null, null, (Throwable)null) == Filter.Result.NEUTRAL);
-        assertTrue(filter.filter(null, Level.ERROR, null, null, (Throwable)null) == Filter.Result.NEUTRAL);
+        assertTrue(filter.filter(null, Level.DEBUG, null, (Object) null, (Throwable) null) == Filter.Result.NEUTRAL);
+        assertTrue(filter.filter(null, Level.ERROR, null, (Object) null, (Throwable) null) == Filter.Result.NEUTRAL);
         ThreadContext.clear();
         ThreadContext.put("userid", "JohnDoe");
         ThreadContext.put("organization", "apache");
@@ -42,8 +42,8 @@ public class MarkerFilterTest {
         MarkerFilter filter = MarkerFilter.createFilter("Parent", null, null);
         filter.start();
         assertTrue(filter.isStarted());
-        assertTrue(filter.filter(null, null, stranger, null, (Throwable)null) == Filter.Result.DENY);
-        assertTrue(filter.filter(null, null, child, null, (Throwable)null) == Filter.Result.NEUTRAL);
+        assertTrue(filter.filter(null, null, stranger, (Object) null, (Throwable) null) == Filter.Result.DENY);
+        assertTrue(filter.filter(null, null, child, (Object) null, (Throwable) null) == Filter.Result.NEUTRAL);
         LogEvent event = new Log4jLogEvent(null, grandChild, null, Level.DEBUG, new SimpleMessage("Test"), null);
         filter = MarkerFilter.createFilter("Child", null, null);
         assertTrue(filter.filter(event) == Filter.Result.NEUTRAL);
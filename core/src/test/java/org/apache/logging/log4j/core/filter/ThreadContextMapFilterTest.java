@@ -19,7 +19,10 @@ package org.apache.logging.log4j.core.filter;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
 import org.apache.logging.log4j.core.helpers.KeyValuePair;
+import org.apache.logging.log4j.message.SimpleMessage;
 import org.junit.Test;
 
 import static org.junit.Assert.assertTrue;
@@ -39,24 +42,38 @@ public class ThreadContextMapFilterTest {
         ThreadContextMapFilter filter = ThreadContextMapFilter.createFilter(pairs, "and", null, null);
         filter.start();
         assertTrue(filter.isStarted());
-        assertTrue(filter.filter(null, Level.DEBUG, null, null, (Throwable)null) == Filter.Result.DENY);
+        assertTrue(filter.filter(null, Level.DEBUG, null, (Object) null, (Throwable) null) == Filter.Result.DENY);
         ThreadContext.remove("userid");
-        assertTrue(filter.filter(null, Level.DEBUG, null, null, (Throwable)null) == Filter.Result.DENY);
+        assertTrue(filter.filter(null, Level.DEBUG, null, (Object) null, (Throwable) null) == Filter.Result.DENY);
         ThreadContext.put("userid", "JohnDoe");
-        assertTrue(filter.filter(null, Level.ERROR, null, null, (Throwable)null) == Filter.Result.NEUTRAL);
+        assertTrue(filter.filter(null, Level.ERROR, null, (Object) null, (Throwable) null) == Filter.Result.NEUTRAL);
         ThreadContext.put("organization", "ASF");
-        assertTrue(filter.filter(null, Level.DEBUG, null, null, (Throwable)null) == Filter.Result.DENY);
+        assertTrue(filter.filter(null, Level.DEBUG, null, (Object) null, (Throwable) null) == Filter.Result.DENY);
         ThreadContext.clear();
         filter = ThreadContextMapFilter.createFilter(pairs, "or", null, null);
         filter.start();
         assertTrue(filter.isStarted());
         ThreadContext.put("userid", "testuser");
         ThreadContext.put("organization", "Apache");
-        assertTrue(filter.filter(null, Level.DEBUG, null, null, (Throwable)null) == Filter.Result.NEUTRAL);
+        assertTrue(filter.filter(null, Level.DEBUG, null, (Object) null, (Throwable) null) == Filter.Result.NEUTRAL);
         ThreadContext.put("organization", "ASF");
-        assertTrue(filter.filter(null, Level.DEBUG, null, null, (Throwable)null) == Filter.Result.DENY);
+        assertTrue(filter.filter(null, Level.DEBUG, null, (Object) null, (Throwable) null) == Filter.Result.DENY);
         ThreadContext.remove("organization");
-        assertTrue(filter.filter(null, Level.DEBUG, null, null, (Throwable)null) == Filter.Result.DENY);
+        assertTrue(filter.filter(null, Level.DEBUG, null, (Object) null, (Throwable) null) == Filter.Result.DENY);
+        ThreadContext.clear();
+    }
+
+    @Test
+    public void testSinglePair() {
+        KeyValuePair[] pairs = new KeyValuePair[] { new KeyValuePair("userid", "JohnDoe")};
+        ThreadContextMapFilter filter = ThreadContextMapFilter.createFilter(pairs, null, null, null);
+        filter.start();
+        ThreadContext.put("userid", "JohnDoe");
+        assertTrue(filter.filter(null, Level.DEBUG, null, (Object) null, (Throwable) null) == Filter.Result.NEUTRAL);
+        LogEvent event = new Log4jLogEvent(null, null, null, Level.DEBUG, new SimpleMessage("Test"), null);
+        assertTrue(filter.filter(event) == Filter.Result.NEUTRAL);
+        ThreadContext.put("userid", "testuser");
+        assertTrue(filter.filter(null, Level.DEBUG, null, (Object) null, (Throwable) null) == Filter.Result.DENY);
         ThreadContext.clear();
     }
 }
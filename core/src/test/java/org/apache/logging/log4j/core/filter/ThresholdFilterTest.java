@@ -37,8 +37,10 @@ public class ThresholdFilterTest {
         ThresholdFilter filter = ThresholdFilter.createFilter("ERROR", null, null);
         filter.start();
         assertTrue(filter.isStarted());
-        assertTrue(filter.filter(null, Level.DEBUG, null, null, (Throwable)null) == Filter.Result.DENY);
-        assertTrue(filter.filter(null, Level.ERROR, null, null, (Throwable)null) == Filter.Result.NEUTRAL);
+        assertTrue(filter.filter(null, Level.DEBUG, null, (Object) null, (Throwable) null) == Filter.Result.DENY);
+        assertTrue(filter.filter(null, Level.ERROR, null, (Object) null, (Throwable) null) == Filter.Result.NEUTRAL);
+        assertTrue(filter.filter(null, Level.DEBUG, null, "{} {}", 1, 2) == Filter.Result.DENY);
+        assertTrue(filter.filter(null, Level.ERROR, null, "{} {}", 1, 2) == Filter.Result.NEUTRAL);
         LogEvent event = new Log4jLogEvent(null, null, null, Level.DEBUG, new SimpleMessage("Test"), null);
         assertTrue(filter.filter(event) == Filter.Result.DENY);
         event = new Log4jLogEvent(null, null, null, Level.ERROR, new SimpleMessage("Test"), null);
@@ -41,7 +41,7 @@ public class TimeFilterTest {
         cal.set(Calendar.HOUR_OF_DAY, 02);
         long tod = cal.getTimeInMillis();
         LogEvent event = new Log4jLogEvent(null, null, null, null, null, null, null, null, null, null, tod);
-        assertTrue(filter.filter(null, Level.ERROR, null, null, (Throwable)null) == Filter.Result.NEUTRAL);
+        assertTrue(filter.filter(null, Level.ERROR, null, (Object) null, (Throwable) null) == Filter.Result.NEUTRAL);
         assertTrue(filter.filter(event) == Filter.Result.NEUTRAL);
         cal.roll(Calendar.DAY_OF_MONTH, true);
         tod = cal.getTimeInMillis();
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.helpers;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class SchedulerTest {
+
+    @Test
+    public void testStopsWhenUnused() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        ScheduledFuture<?> periodic = Scheduler.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+            }
+        }, 10);
+        ScheduledFuture<?> once = Scheduler.schedule(new Runnable() {
+            public void run() {
+                latch.countDown();
+            }
+        }, 0);
+        assertTrue("Task did not run", latch.await(5, TimeUnit.SECONDS));
+        once.get();
+        assertTrue("Scheduler stopped with a periodic task outstanding", Scheduler.isActive());
+        assertTrue(periodic.cancel(false));
+        assertFalse("Scheduler was not stopped", Scheduler.isActive());
+        assertFalse(periodic.cancel(false));
+    }
+
+    @Test
+    public void testThreadDoesNotKeepCallerClassLoader() throws Exception {
+        final AtomicReference<ClassLoader> loader = new AtomicReference<ClassLoader>();
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(new ClassLoader(original) { });
+        try {
+            Scheduler.schedule(new Runnable() {
+                public void run() {
+                    loader.set(Thread.currentThread().getContextClassLoader());
+                }
+            }, 0).get();
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+        assertTrue(loader.get() == Scheduler.class.getClassLoader());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class Log4jLogEventTest {
+
+    private static final String FQCN = Log4jLogEventTest.class.getName();
+
+    @Test
+    public void testThrownProxyIsCreatedOnDemand() {
+        Exception ex = new IllegalStateException("test");
+        LogEvent event = new Log4jLogEvent("a", null, FQCN, Level.ERROR, new SimpleMessage("msg"), ex);
+        assertSame(ex, event.getThrown());
+        ThrowableProxy proxy = event.getThrownProxy();
+        assertNotNull(proxy);
+        assertSame(proxy, event.getThrownProxy());
+        assertEquals(ex.toString(), proxy.toString());
+        LogEvent noThrowable = new Log4jLogEvent("a", null, FQCN, Level.INFO, new SimpleMessage("msg"), null);
+        assertNull(noThrowable.getThrownProxy());
+    }
+
+    @Test
+    public void testSerializedEventKeepsThrownProxy() throws Exception {
+        Exception ex = new IllegalStateException("test");
+        LogEvent event = new Log4jLogEvent("a", null, FQCN, Level.ERROR, new SimpleMessage("msg"), ex);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(event);
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        LogEvent copy = (LogEvent) ois.readObject();
+        assertNotNull(copy.getThrownProxy());
+        assertSame(copy.getThrown(), copy.getThrownProxy());
+        assertEquals(event.getThrownProxy().getExtendedStackTrace(), copy.getThrownProxy().getExtendedStackTrace());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class PackageDataCacheTest {
+
+    @Test
+    public void testCacheIsSharedAcrossProxies() {
+        PackageDataCache cache = ThrowableProxy.getPackageDataCache();
+        Exception ex = new IllegalStateException("test", new IllegalArgumentException("cause"));
+        ThrowableProxy first = new ThrowableProxy(ex);
+        long hits = cache.getHitCount();
+        long misses = cache.getMissCount();
+        ThrowableProxy second = new ThrowableProxy(ex);
+        assertTrue("No cache hits", cache.getHitCount() > hits);
+        assertEquals("Classes were resolved again", misses, cache.getMissCount());
+        assertEquals(first.getExtendedStackTrace(), second.getExtendedStackTrace());
+        assertTrue(cache.getHitRate() > 0);
+    }
+
+    @Test
+    public void testEntriesAreKeptPerClassLoader() {
+        PackageDataCache cache = new PackageDataCache(10);
+        ClassLoader loader = new URLClassLoader(new URL[0]);
+        PackageDataCache.Entry entry = new PackageDataCache.Entry(new StackTracePackageElement("a.jar", "1", true),
+            loader);
+        cache.put(loader, "a.B", true, entry);
+        assertSame(entry, cache.get(loader, "a.B", true));
+        assertSame(loader, cache.get(loader, "a.B", true).getLoader());
+        assertNull(cache.get(loader, "a.B", false));
+        assertNull(cache.get(getClass().getClassLoader(), "a.B", true));
+        assertNull(cache.get(null, "a.B", true));
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get(loader, "a.B", true));
+    }
+
+    @Test
+    public void testMaximumSize() {
+        PackageDataCache cache = new PackageDataCache(2);
+        StackTracePackageElement element = new StackTracePackageElement("a.jar", "1", false);
+        for (int i = 0; i < 5; ++i) {
+            cache.put(null, "a.B" + i, false, new PackageDataCache.Entry(element, null));
+        }
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(null, "a.B0", false));
+        assertNull(cache.get(null, "a.B4", false));
+    }
+}
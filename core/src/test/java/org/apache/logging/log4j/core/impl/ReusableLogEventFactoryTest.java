@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.impl;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class ReusableLogEventFactoryTest {
+
+    private static final String FQCN = ReusableLogEventFactoryTest.class.getName();
+
+    private final ReusableLogEventFactory factory = new ReusableLogEventFactory();
+
+    @After
+    public void tearDown() {
+        ThreadContext.clear();
+    }
+
+    @Test
+    public void testEventIsReused() {
+        LogEvent event1 = factory.createEvent("a", null, FQCN, Level.INFO, new SimpleMessage("one"), null);
+        assertTrue("Event is not mutable", event1 instanceof MutableLogEvent);
+        ReusableLogEventFactory.release(event1);
+        LogEvent event2 = factory.createEvent("b", null, FQCN, Level.WARN, new SimpleMessage("two"), null);
+        assertSame("Event was not reused", event1, event2);
+        assertEquals("b", event2.getLoggerName());
+        assertEquals(Level.WARN, event2.getLevel());
+        assertEquals("two", event2.getMessage().getFormattedMessage());
+        ReusableLogEventFactory.release(event2);
+    }
+
+    @Test
+    public void testNestedEventIsNotReused() {
+        LogEvent outer = factory.createEvent("a", null, FQCN, Level.INFO, new SimpleMessage("outer"), null);
+        LogEvent inner = factory.createEvent("a", null, FQCN, Level.INFO, new SimpleMessage("inner"), null);
+        assertNotSame("Event in use was handed out again", outer, inner);
+        assertTrue("Nested event should be immutable", inner instanceof Log4jLogEvent);
+        assertEquals("outer", outer.getMessage().getFormattedMessage());
+        ReusableLogEventFactory.release(inner);
+        ReusableLogEventFactory.release(outer);
+    }
+
+    @Test
+    public void testMementoIsNotChangedByReuse() {
+        ThreadContext.put("key", "value1");
+        Message msg = ReusableLogEventFactory.getMessage("x={}", new Object[] {1});
+        LogEvent event = factory.createEvent("a", null, FQCN, Level.INFO, msg, null);
+        LogEvent memento = ReusableLogEventFactory.toImmutable(event);
+        ReusableLogEventFactory.release(event);
+        ReusableLogEventFactory.release(msg);
+
+        ThreadContext.put("key", "value2");
+        msg = ReusableLogEventFactory.getMessage("y={}", new Object[] {2});
+        event = factory.createEvent("b", null, FQCN, Level.INFO, msg, null);
+        assertEquals("y=2", event.getMessage().getFormattedMessage());
+        assertEquals("x=1", memento.getMessage().getFormattedMessage());
+        assertEquals("value1", memento.getContextMap().get("key"));
+        assertEquals("value2", event.getContextMap().get("key"));
+        assertEquals(Thread.currentThread().getName(), memento.getThreadName());
+        ReusableLogEventFactory.release(event);
+        ReusableLogEventFactory.release(msg);
+    }
+
+    @Test
+    public void testMessageIsReused() {
+        ParameterizedMessage msg1 = ReusableLogEventFactory.getMessage("x={}", new Object[] {1});
+        ParameterizedMessage nested = ReusableLogEventFactory.getMessage("y={}", new Object[] {2});
+        assertNotSame("Message in use was handed out again", msg1, nested);
+        ReusableLogEventFactory.release(msg1);
+        ParameterizedMessage msg2 = ReusableLogEventFactory.getMessage("z={}", new Object[] {3,
+            new IllegalStateException()});
+        assertSame("Message was not reused", msg1, msg2);
+        assertEquals("z=3", msg2.getFormattedMessage());
+        assertNotNull("Throwable was not extracted", msg2.getThrowable());
+        ReusableLogEventFactory.release(msg2);
+        assertNull("Throwable was not released", msg2.getThrowable());
+    }
+}
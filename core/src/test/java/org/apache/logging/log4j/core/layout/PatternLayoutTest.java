@@ -33,7 +33,10 @@ import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertEquals;
@@ -146,4 +149,58 @@ public class PatternLayoutTest {
         byte[] result = layout.format(event);
         assertEquals("org/apache/logging/log4j/core/layout/PatternLayoutTest Hello, world!", new String(result));
     }
+
+    @Test
+    public void testEncode() throws Exception {
+        LoggerContext ctx = (LoggerContext) LogManager.getContext();
+        PatternLayout layout = PatternLayout.createLayout("%m%n", ctx.getConfiguration(), null, "UTF-8");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 500; ++i) {
+            sb.append("\u00e9t\u00e9 \ud834\udd1e ").append(i);
+        }
+        LogEvent event = new Log4jLogEvent(this.getClass().getName(), null, "org.apache.logging.log4j.core.Logger",
+            Level.INFO, new SimpleMessage(sb.toString()), null);
+        SmallDestination destination = new SmallDestination();
+        layout.encode(event, destination);
+        byte[] result = destination.getBytes();
+        assertTrue("Encoded bytes do not match formatted bytes", Arrays.equals(layout.format(event), result));
+        assertEquals(sb.toString() + System.getProperty("line.separator"), new String(result, "UTF-8"));
+    }
+
+    @Test
+    public void testEncodeWithReplacement() throws Exception {
+        LoggerContext ctx = (LoggerContext) LogManager.getContext();
+        PatternLayout layout = PatternLayout.createLayout(regexPattern, ctx.getConfiguration(),
+            null, null);
+        LogEvent event = new Log4jLogEvent(this.getClass().getName(), null, "org.apache.logging.log4j.core.Logger",
+            Level.INFO, new SimpleMessage("Hello, world!"), null);
+        SmallDestination destination = new SmallDestination();
+        layout.encode(event, destination);
+        assertEquals("org/apache/logging/log4j/core/layout/PatternLayoutTest Hello, world!",
+            new String(destination.getBytes()));
+    }
+
+    /**
+     * Destination with a tiny buffer so the Layout has to drain it repeatedly.
+     */
+    private static class SmallDestination implements ByteBufferDestination {
+        private final ByteBuffer buffer = ByteBuffer.allocate(16);
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        public ByteBuffer getByteBuffer() {
+            return buffer;
+        }
+
+        public ByteBuffer drain(ByteBuffer buf) {
+            buf.flip();
+            out.write(buf.array(), buf.arrayOffset(), buf.limit());
+            buf.clear();
+            return buf;
+        }
+
+        public byte[] getBytes() {
+            drain(buffer);
+            return out.toByteArray();
+        }
+    }
 }
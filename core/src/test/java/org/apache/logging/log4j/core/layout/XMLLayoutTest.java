@@ -21,15 +21,21 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.core.BasicConfigurationFactory;
 import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
 import org.apache.logging.log4j.test.appender.ListAppender;
 import org.apache.logging.log4j.core.config.ConfigurationFactory;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -96,4 +102,28 @@ public class XMLLayoutTest {
         assertTrue("Incorrect footer", list.get(list.size() - 1).equals("</log4j:eventSet>"));
         assertTrue("Incorrect body. Expected " + body + " Actual: " + list.get(8), list.get(8).equals(body));
     }
+
+    @Test
+    public void testEncodeUsesSubclassFormat() throws Exception {
+        XMLLayout layout = new XMLLayout(false, false, false, Charset.forName("UTF-8")) {
+            @Override
+            public String formatAs(LogEvent event) {
+                return "<custom/>";
+            }
+        };
+        LogEvent event = new Log4jLogEvent("XMLLayoutTest", null, XMLLayoutTest.class.getName(), Level.INFO,
+            new SimpleMessage("Hello"), null);
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        layout.encode(event, new ByteBufferDestination() {
+            public ByteBuffer getByteBuffer() {
+                return buffer;
+            }
+
+            public ByteBuffer drain(ByteBuffer buf) {
+                throw new IllegalStateException("Buffer is full");
+            }
+        });
+        buffer.flip();
+        assertEquals("<custom/>", Charset.forName("UTF-8").decode(buffer).toString());
+    }
 }
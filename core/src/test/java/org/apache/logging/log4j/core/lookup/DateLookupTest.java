@@ -19,6 +19,7 @@ package org.apache.logging.log4j.core.lookup;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.ThrowableProxy;
 import org.apache.logging.log4j.message.Message;
 import org.junit.Test;
 
@@ -80,6 +81,10 @@ public class DateLookupTest {
             return null;
         }
 
+        public ThrowableProxy getThrownProxy() {
+            return null;
+        }
+
         public Map<String, String> getContextMap() {
             return null;
         }
@@ -91,5 +96,12 @@ public class DateLookupTest {
         public String getFQCN() {
             return null;
         }
+
+        public boolean isEndOfBatch() {
+            return false;
+        }
+
+        public void setEndOfBatch(boolean endOfBatch) {
+        }
     }
 }
@@ -25,7 +25,10 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  *
@@ -59,4 +62,35 @@ public class StrSubstitutorTest {
         value = subst.replace("${BadKey}");
         assertEquals("${BadKey}", value);
     }
+
+    @Test
+    public void testTemplate() {
+        Map<String, String> map = new HashMap<String, String>();
+        map.put(TESTKEY, TESTVAL);
+        map.put("Nested", "${TestKey}");
+        StrLookup lookup = new Interpolator(new MapLookup<String>(map));
+        StrSubstitutor subst = new StrSubstitutor(lookup);
+        ThreadContext.put(TESTKEY, TESTVAL);
+        String[] sources = {"${TestKey}-${ctx:TestKey}-${sys:TestKey}", "${BadKey}", "a $${TestKey} b",
+            "${Nested}!", "${ctx:BadKey}", "${TestKey", "No variables"};
+        for (String source : sources) {
+            StrSubstitutor.Template template = subst.compile(source);
+            assertEquals(source, subst.replace(source), template.format(null));
+        }
+        StrSubstitutor.Template template = subst.compile("No variables");
+        assertTrue(template.isConstant());
+        assertSame("No variables", template.format(null));
+        assertFalse(subst.compile("${TestKey}").isConstant());
+    }
+
+    @Test
+    public void testNoVariables() {
+        StrSubstitutor subst = new StrSubstitutor(new Interpolator());
+        String source = "Nothing to replace";
+        assertSame(source, subst.replace(source));
+        StringBuilder sb = new StringBuilder("${sys:TestKey} Nothing");
+        assertFalse(subst.replaceIn(sb, 14, 8));
+        assertTrue(subst.replaceIn(sb, 0, 14));
+        assertEquals(TESTVAL + " Nothing", sb.toString());
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.pattern;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ */
+public class DatePatternConverterTest {
+
+    private static final long[] TIMESTAMPS = {0L, 1L, 999L, 1000L, 1325300400007L, 1325300400099L,
+        1325300400100L, 1325300399999L, -1L, -1001L};
+
+    @Test
+    public void testNamedFormats() {
+        verify(null, "yyyy-MM-dd HH:mm:ss,SSS");
+        verify("ISO8601", "yyyy-MM-dd HH:mm:ss,SSS");
+        verify("ABSOLUTE", "HH:mm:ss,SSS");
+        verify("DATE", "dd MMM yyyy HH:mm:ss,SSS");
+    }
+
+    @Test
+    public void testPatterns() {
+        verify("yyyy-MM-dd'T'HH:mm:ss.SSS", "yyyy-MM-dd'T'HH:mm:ss.SSS");
+        verify("HH:mm:ss", "HH:mm:ss");
+        verify("HH:mm:ss.S", "HH:mm:ss.S");
+        verify("ss.SSSS", "ss.SSSS");
+        verify("yyyyMMddHHmmssSSS", "yyyyMMddHHmmssSSS");
+    }
+
+    @Test
+    public void testTimeZone() {
+        String[] options = {"ISO8601", "GMT+5"};
+        SimpleDateFormat expected = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss,SSS");
+        expected.setTimeZone(TimeZone.getTimeZone("GMT+5"));
+        DatePatternConverter converter = DatePatternConverter.newInstance(options);
+        for (long timestamp : TIMESTAMPS) {
+            assertEquals(expected.format(new Date(timestamp)), format(converter, timestamp));
+        }
+    }
+
+    @Test
+    public void testMultipleThreads() throws Exception {
+        final DatePatternConverter converter = DatePatternConverter.newInstance(null);
+        final SimpleDateFormat expected = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss,SSS");
+        final String[] errors = new String[1];
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; ++i) {
+            final long start = 1325300400000L + i * 777L;
+            threads[i] = new Thread(new Runnable() {
+                public void run() {
+                    for (long timestamp = start; timestamp < start + 5000; timestamp += 3) {
+                        String actual = format(converter, timestamp);
+                        String exp;
+                        synchronized (expected) {
+                            exp = expected.format(new Date(timestamp));
+                        }
+                        if (!exp.equals(actual)) {
+                            errors[0] = "Expected " + exp + ", Actual " + actual;
+                        }
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(null, errors[0]);
+    }
+
+    private static void verify(String option, String pattern) {
+        SimpleDateFormat expected = new SimpleDateFormat(pattern);
+        DatePatternConverter converter = DatePatternConverter.newInstance(option == null ? null :
+            new String[] {option});
+        for (long timestamp : TIMESTAMPS) {
+            assertEquals("Incorrect format of " + timestamp + " with " + pattern,
+                expected.format(new Date(timestamp)), format(converter, timestamp));
+            StringBuilder sb = new StringBuilder();
+            converter.format(new Date(timestamp), sb);
+            assertEquals(expected.format(new Date(timestamp)), sb.toString());
+        }
+    }
+
+    private static String format(DatePatternConverter converter, long timestamp) {
+        LogEvent event = new Log4jLogEvent("testLogger", null, DatePatternConverterTest.class.getName(), Level.DEBUG,
+            new SimpleMessage("test"), null, null, null, null, null, timestamp);
+        StringBuilder sb = new StringBuilder();
+        converter.format(event, sb);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.core.pattern;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ */
+public class DeduplicatingThrowablePatternConverterTest {
+
+    private static final long START = 1000000L;
+
+    @Test
+    public void testRepeatsAreReferenced() {
+        DeduplicatingThrowablePatternConverter converter =
+            DeduplicatingThrowablePatternConverter.newInstance(new String[] {"1", "10"});
+        String first = format(converter, createThrowable("first"), START);
+        assertTrue(first, first.startsWith("[#1] java.lang.IllegalStateException: first\n\tat "));
+        assertEquals("[same as #1, repeated 1 time] java.lang.IllegalStateException: second\n",
+            format(converter, createThrowable("second"), START + 1000));
+        assertEquals("[same as #1, repeated 2 times] java.lang.IllegalStateException: third\n",
+            format(converter, createThrowable("third"), START + 2000));
+        String other = format(converter, new IllegalArgumentException("other"), START + 3000);
+        assertTrue(other, other.startsWith("[#2] java.lang.IllegalArgumentException: other\n\tat "));
+        String expired = format(converter, createThrowable("fourth"), START + 10000);
+        assertTrue(expired, expired.startsWith("[#1] java.lang.IllegalStateException: fourth\n\tat "));
+    }
+
+    @Test
+    public void testMaximumEntries() {
+        DeduplicatingThrowablePatternConverter converter =
+            DeduplicatingThrowablePatternConverter.newInstance(new String[] {"1", "10", "1"});
+        format(converter, createThrowable("first"), START);
+        String untracked = format(converter, new IllegalArgumentException("other"), START);
+        assertTrue(untracked, untracked.startsWith("java.lang.IllegalArgumentException: other\n\tat "));
+        untracked = format(converter, new IllegalArgumentException("other"), START);
+        assertTrue(untracked, untracked.startsWith("java.lang.IllegalArgumentException: other\n\tat "));
+        String tracked = format(converter, new IllegalArgumentException("other"), START + 10000);
+        assertTrue(tracked, tracked.startsWith("[#2] java.lang.IllegalArgumentException: other\n\tat "));
+    }
+
+    private Throwable createThrowable(String message) {
+        return new IllegalStateException(message);
+    }
+
+    private String format(PatternConverter converter, Throwable throwable, long millis) {
+        LogEvent event = new Log4jLogEvent("testLogger", null, getClass().getName(), Level.ERROR,
+            new SimpleMessage("test"), throwable, ThreadContext.getImmutableContext(),
+            ThreadContext.getImmutableStack(), null, null, millis);
+        StringBuilder sb = new StringBuilder();
+        ((LogEventPatternConverter) converter).format(event, sb);
+        return sb.toString();
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.logging.log4j.core.config.plugins.Plugin;
 import org.apache.logging.log4j.core.config.plugins.PluginAttr;
 import org.apache.logging.log4j.core.config.plugins.PluginElement;
 import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.impl.ReusableLogEventFactory;
 import org.apache.logging.log4j.core.layout.SerializedLayout;
 
 import java.util.ArrayList;
@@ -70,7 +71,7 @@ public class ListAppender extends AppenderBase {
     public synchronized void append(LogEvent event) {
         Layout layout = getLayout();
         if (layout == null) {
-            events.add(event);
+            events.add(ReusableLogEventFactory.toImmutable(event));
         } else if (layout instanceof SerializedLayout) {
             byte[] header = layout.getHeader();
             byte[] content = layout.format(event);
@@ -22,6 +22,7 @@ import org.apache.logging.log4j.LoggingException;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.helpers.UUIDUtil;
+import org.apache.logging.log4j.core.impl.ThrowableProxy;
 import org.apache.logging.log4j.message.MapMessage;
 import org.apache.logging.log4j.message.Message;
 import org.apache.logging.log4j.message.StructuredDataId;
@@ -183,6 +184,22 @@ public class FlumeEvent extends SimpleEvent implements LogEvent {
         return event.getFQCN();
     }
 
+    /**
+     * Determine if this is the last event in a batch.
+     * @return true if this is the last event in the batch.
+     */
+    public boolean isEndOfBatch() {
+        return event.isEndOfBatch();
+    }
+
+    /**
+     * Mark the event as the last one in a batch.
+     * @param endOfBatch true if this is the last event in the batch.
+     */
+    public void setEndOfBatch(boolean endOfBatch) {
+        event.setEndOfBatch(endOfBatch);
+    }
+
     /**
      * Return the logging Level.
      * @return the Level.
@@ -247,6 +264,14 @@ public class FlumeEvent extends SimpleEvent implements LogEvent {
         return event.getThrown();
     }
 
+    /**
+     * Return the ThrowableProxy associated with the event, if any.
+     * @return the ThrowableProxy.
+     */
+    public ThrowableProxy getThrownProxy() {
+        return event.getThrownProxy();
+    }
+
     /**
      * Return a copy of the context Map.
      * @return a copy of the context Map.
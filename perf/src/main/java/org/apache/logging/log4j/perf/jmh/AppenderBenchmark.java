@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.XMLConfigurationFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of logging to each of the file based Appenders configured in log4j2-jmh.xml. The
+ * Logger named after the Appender only writes to that Appender.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AppenderBenchmark {
+
+    @Param({"File", "RollingFile", "RandomAccessFile", "MemoryMappedFile", "Asynch", "RingBuffer"})
+    private String appender;
+
+    private Logger logger;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        System.setProperty(XMLConfigurationFactory.CONFIGURATION_FILE_PROPERTY, "log4j2-jmh.xml");
+        logger = LogManager.getLogger(appender);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ((LoggerContext) LogManager.getContext(false)).stop();
+        System.clearProperty(XMLConfigurationFactory.CONFIGURATION_FILE_PROPERTY);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void threads01() {
+        logger.info("This is a test message");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void threads04() {
+        logger.info("This is a test message");
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void threads16() {
+        logger.info("This is a test message");
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void threads64() {
+        logger.info("This is a test message");
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.filter.CompositeFilter;
+import org.apache.logging.log4j.core.filter.MarkerFilter;
+import org.apache.logging.log4j.core.filter.RegexFilter;
+import org.apache.logging.log4j.core.filter.ThresholdFilter;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single Filter and a chain of Filters, both before the event is created and on the LogEvent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FilterBenchmark {
+
+    private final Marker marker = MarkerManager.getMarker("Audit");
+    private Filter threshold;
+    private CompositeFilter chain;
+    private LogEvent event;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        threshold = ThresholdFilter.createFilter("info", "NEUTRAL", "DENY");
+        chain = CompositeFilter.createFilters(new Filter[] {
+            ThresholdFilter.createFilter("info", "NEUTRAL", "DENY"),
+            MarkerFilter.createFilter("Audit", "NEUTRAL", "NEUTRAL"),
+            RegexFilter.createFilter(".*test.*", "false", "NEUTRAL", "NEUTRAL")
+        });
+        event = new Log4jLogEvent("FilterBenchmark", marker, FilterBenchmark.class.getName(),
+            org.apache.logging.log4j.Level.INFO, new SimpleMessage("This is a test message"), null);
+        ThreadContext.clear();
+    }
+
+    @Benchmark
+    public Filter.Result thresholdFilter() {
+        return threshold.filter(null, org.apache.logging.log4j.Level.INFO, marker, "This is a test message",
+            (Object[]) null);
+    }
+
+    @Benchmark
+    public Filter.Result filterChain() {
+        return chain.filter(null, org.apache.logging.log4j.Level.INFO, marker, "This is a test message",
+            (Object[]) null);
+    }
+
+    @Benchmark
+    public Filter.Result filterChainEvent() {
+        return chain.filter(event);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures formatting of parameterized messages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParameterizedMessageBenchmark {
+
+    private final Object[] oneArg = {"arg1"};
+    private final Object[] threeArgs = {"arg1", Integer.valueOf(2), Long.valueOf(3)};
+    private final Object[] arrayArg = {new int[] {1, 2, 3}};
+
+    @Benchmark
+    public String formatOneArg() {
+        return ParameterizedMessage.format("Test message {}", oneArg);
+    }
+
+    @Benchmark
+    public String formatThreeArgs() {
+        return ParameterizedMessage.format("Test {} message {} with {} arguments", threeArgs);
+    }
+
+    @Benchmark
+    public String formatArray() {
+        return ParameterizedMessage.format("Test message {}", arrayArg);
+    }
+
+    @Benchmark
+    public String getFormattedMessage() {
+        return new ParameterizedMessage("Test {} message {} with {} arguments", threeArgs).getFormattedMessage();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a PatternLayout containing a single converter, for each converter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PatternLayoutBenchmark {
+
+    @Param({"%d", "%d{ABSOLUTE}", "%d{HH:mm:ss}", "%r", "%p", "%c", "%c{1.}", "%C", "%M", "%L", "%F", "%l", "%t",
+        "%m", "%X", "%X{key}", "%x", "%marker", "%ex", "%xEx", "%rEx", "%sn", "%u", "%n", "%replace{%m}{Test}{Replaced}",
+        "%d %p %c{1.} [%t] %m%n"})
+    private String pattern;
+
+    private PatternLayout layout;
+    private LogEvent event;
+    private final Destination destination = new Destination();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        layout = PatternLayout.createLayout(pattern, null, null, null);
+        Map<String, String> map = new HashMap<String, String>();
+        map.put("key", "value");
+        Stack<String> stack = new Stack<String>();
+        stack.push("ndc");
+        StackTraceElement location = new StackTraceElement(PatternLayoutBenchmark.class.getName(), "setup",
+            "PatternLayoutBenchmark.java", 1);
+        event = new Log4jLogEvent("org.apache.logging.log4j.perf.jmh.PatternLayoutBenchmark",
+            MarkerManager.getMarker("Marker"), PatternLayoutBenchmark.class.getName(),
+            org.apache.logging.log4j.Level.INFO, new SimpleMessage("Test message"), null, map, stack,
+            Thread.currentThread().getName(), location, System.currentTimeMillis());
+        ThreadContext.clear();
+    }
+
+    @Benchmark
+    public String formatAs() {
+        return layout.formatAs(event);
+    }
+
+    @Benchmark
+    public byte[] format() {
+        return layout.format(event);
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        ByteBuffer buffer = destination.getByteBuffer();
+        buffer.clear();
+        layout.encode(event, destination);
+        return buffer;
+    }
+
+    /**
+     * Discards the encoded bytes.
+     */
+    private static class Destination implements ByteBufferDestination {
+        private final ByteBuffer buffer = ByteBuffer.allocate(8 * 1024);
+
+        public ByteBuffer getByteBuffer() {
+            return buffer;
+        }
+
+        public ByteBuffer drain(ByteBuffer buf) {
+            buf.clear();
+            return buf;
+        }
+    }
+}
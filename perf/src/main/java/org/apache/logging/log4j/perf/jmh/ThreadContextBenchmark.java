@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+package org.apache.logging.log4j.perf.jmh;
+
+import org.apache.logging.log4j.ThreadContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the ThreadContext operations that are performed by applications and when each event is created.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ThreadContextBenchmark {
+
+    private static final int KEYS = 5;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        ThreadContext.clear();
+        for (int i = 0; i < KEYS; ++i) {
+            ThreadContext.put("key" + i, "value" + i);
+        }
+        ThreadContext.push("ndc");
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        ThreadContext.clear();
+        ThreadContext.clearStack();
+    }
+
+    @Benchmark
+    public void putRemove() {
+        ThreadContext.put("benchmark", "value");
+        ThreadContext.remove("benchmark");
+    }
+
+    @Benchmark
+    public String get() {
+        return ThreadContext.get("key2");
+    }
+
+    @Benchmark
+    public void pushPop() {
+        ThreadContext.push("benchmark");
+        ThreadContext.pop();
+    }
+
+    @Benchmark
+    public Map<String, String> getContext() {
+        return ThreadContext.getContext();
+    }
+
+    @Benchmark
+    public Stack<String> cloneStack() {
+        return ThreadContext.cloneStack();
+    }
+}
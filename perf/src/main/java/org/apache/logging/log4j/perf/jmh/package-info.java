@@ -0,0 +1,22 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache license, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the license for the specific language governing permissions and
+ * limitations under the license.
+ */
+/**
+ * JMH benchmarks for the Log4j 2.0 hot paths. Build the benchmarks with "mvn -Pinclude-perf package" and run them
+ * with "java -jar perf/target/benchmarks.jar". Any JMH option may be passed, for example "-t 64" to use 64
+ * threads. The GC profiler is enabled so each result includes the bytes allocated per operation.
+ */
+package org.apache.logging.log4j.perf.jmh;